@@ -0,0 +1,65 @@
+package com.festago.ticket.domain;
+
+import java.time.LocalDateTime;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 예매 번호로 입장 시간을 찾는 비용을 TreeSet 순회 방식과 누적 합 배열 이분 탐색 방식으로 비교한다.
+ * <p>
+ * ./gradlew jmh 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntryTimeScheduleBenchmark {
+
+    private static final int AMOUNT_PER_SLOT = 100;
+    private static final LocalDateTime FIRST_ENTRY_TIME = LocalDateTime.parse("2023-07-30T06:00:00");
+
+    @Param({"1", "10", "50", "100", "500"})
+    int slotCount;
+
+    SortedSet<TicketEntryTime> ticketEntryTimes;
+    EntryTimeSchedule entryTimeSchedule;
+    int totalAmount;
+
+    @Setup
+    public void setUp() {
+        ticketEntryTimes = new TreeSet<>();
+        for (int i = 0; i < slotCount; i++) {
+            ticketEntryTimes.add(new TicketEntryTime(FIRST_ENTRY_TIME.plusMinutes(i), AMOUNT_PER_SLOT));
+        }
+        entryTimeSchedule = EntryTimeSchedule.from(ticketEntryTimes);
+        totalAmount = slotCount * AMOUNT_PER_SLOT;
+    }
+
+    @Benchmark
+    public LocalDateTime treeSetWalk() {
+        int reservationSequence = ThreadLocalRandom.current().nextInt(1, totalAmount + 1);
+        int lastSequence = 0;
+        for (TicketEntryTime ticketEntryTime : ticketEntryTimes) {
+            lastSequence += ticketEntryTime.getAmount();
+            if (reservationSequence <= lastSequence) {
+                return ticketEntryTime.getEntryTime();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    @Benchmark
+    public LocalDateTime prefixSumBinarySearch() {
+        int reservationSequence = ThreadLocalRandom.current().nextInt(1, totalAmount + 1);
+        return entryTimeSchedule.findEntryTime(reservationSequence);
+    }
+}
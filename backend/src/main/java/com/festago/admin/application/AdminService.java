@@ -9,6 +9,7 @@ import com.festago.festival.domain.Festival;
 import com.festago.festival.repository.FestivalRepository;
 import com.festago.school.domain.School;
 import com.festago.school.repository.SchoolRepository;
+import com.festago.sharding.application.ShardRouter;
 import com.festago.stage.domain.Stage;
 import com.festago.stage.repository.StageRepository;
 import com.festago.ticket.domain.Ticket;
@@ -32,17 +33,26 @@ public class AdminService {
     private final StageRepository stageRepository;
     private final TicketRepository ticketRepository;
     private final SchoolRepository schoolRepository;
+    private final ShardRouter shardRouter;
 
+    /**
+     * 학교, 축제, 공연은 디렉터리 샤드에서 읽고, 티켓은 모든 샤드에서 읽어 합칩니다. 공연의 티켓 목록도 디렉터리 샤드에는 일부만 있으므로 합친 티켓으로
+     * 만듭니다. 학교를 옮긴 뒤 원본 샤드를 지우기 전에는 같은 티켓이 두 샤드에서 조회되므로 중복을 제거합니다.
+     */
     @Transactional(readOnly = true)
     public AdminResponse getAdminResponse() {
         List<School> allSchool = schoolRepository.findAll();
-        List<Ticket> allTicket = ticketRepository.findAll();
+        List<AdminTicketResponse> ticketResponses = shardRouter.executeOnAllShards(
+                () -> ticketResponses(ticketRepository.findAll()))
+            .stream()
+            .distinct()
+            .toList();
         List<Stage> allStage = stageRepository.findAll();
         List<Festival> allFestival = festivalRepository.findAll();
         return new AdminResponse(
             schoolResponses(allSchool),
-            ticketResponses(allTicket),
-            stageResponses(allStage),
+            ticketResponses,
+            stageResponses(allStage, ticketResponses),
             festivalResponses(allFestival));
     }
 
@@ -75,16 +85,16 @@ public class AdminService {
         );
     }
 
-    private List<AdminStageResponse> stageResponses(List<Stage> stages) {
+    private List<AdminStageResponse> stageResponses(List<Stage> stages, List<AdminTicketResponse> tickets) {
+        Map<Long, List<Long>> ticketIdsByStageId = tickets.stream()
+            .collect(Collectors.groupingBy(AdminTicketResponse::stageId,
+                Collectors.mapping(AdminTicketResponse::id, Collectors.toList())));
         return stages.stream()
-            .map(this::stageResponse)
+            .map(stage -> stageResponse(stage, ticketIdsByStageId.getOrDefault(stage.getId(), List.of())))
             .toList();
     }
 
-    private AdminStageResponse stageResponse(Stage stage) {
-        List<Long> ticketIds = stage.getTickets().stream()
-            .map(Ticket::getId)
-            .toList();
+    private AdminStageResponse stageResponse(Stage stage, List<Long> ticketIds) {
         return new AdminStageResponse(
             stage.getId(),
             stage.getFestival().getId(),
@@ -29,6 +29,29 @@ public enum ErrorCode {
     DELETE_CONSTRAINT_STAGE("티켓이 등록된 공연은 삭제할 수 없습니다."),
     DELETE_CONSTRAINT_SCHOOL("학생 또는 축제에 등록된 학교는 삭제할 수 없습니다."),
     DUPLICATE_SCHOOL("이미 존재하는 학교 정보입니다."),
+    NEED_WAITING_TOKEN("대기열 토큰이 필요합니다."),
+    INVALID_WAITING_TOKEN("올바르지 않은 대기열 토큰입니다."),
+    EXPIRED_WAITING_TOKEN("만료된 대기열 토큰입니다."),
+    WAITING_ROOM_CLOSED("대기열이 닫혔습니다. 대기열에 다시 진입해주세요."),
+    INVALID_IDEMPOTENCY_KEY("올바르지 않은 Idempotency-Key 입니다."),
+    IDEMPOTENCY_KEY_REUSED("다른 요청에 이미 사용된 Idempotency-Key 입니다."),
+    TICKET_ENTRY_TIME_NOT_SELECTED("입장 시간을 선택해야 합니다."),
+    TICKET_ENTRY_TIME_SELECTION_NOT_SUPPORTED("입장 시간을 선택해서 예매할 수 없습니다."),
+    TICKET_ENTRY_TIME_SOLD_OUT("선택한 입장 시간의 티켓이 매진되었습니다."),
+    LOTTERY_TICKET_NOT_RESERVABLE("추첨으로 판매되는 티켓은 바로 예매할 수 없습니다."),
+    NOT_LOTTERY_TICKET("추첨으로 판매되는 티켓이 아닙니다."),
+    LOTTERY_APPLICATION_CLOSED("추첨 응모 기간이 아닙니다."),
+    LOTTERY_ALREADY_APPLIED("이미 응모한 추첨입니다."),
+    LOTTERY_ALREADY_DRAWN("이미 추첨이 끝난 티켓입니다."),
+    LOTTERY_DRAW_NOT_STARTED("티켓 오픈 시간 이후에 추첨할 수 있습니다."),
+    MEMBER_TICKET_NOT_CANCELLABLE("입장 전이면서 공연 시작 전인 티켓만 취소할 수 있습니다."),
+    WAITLIST_TICKET_NOT_SOLD_OUT("매진된 티켓에만 대기 신청할 수 있습니다."),
+    WAITLIST_ALREADY_JOINED("이미 대기 신청한 티켓입니다."),
+    SCHOOL_ALREADY_IN_SHARD("이미 해당 샤드에 저장된 학교입니다."),
+    SHARD_CLEANUP_NOT_ALLOWED("학교가 저장되어 있거나 옮기는 중인 샤드의 데이터는 지울 수 없습니다."),
+    INVALID_MEMBER_TICKET_CURSOR("올바르지 않은 티켓 목록 커서입니다."),
+    INVALID_PAGE_SIZE("한 번에 1개 이상 조회해야 합니다."),
+    PAGE_PARAMETER_NOT_SUPPORTED("page 로는 다음 페이지를 조회할 수 없습니다. 응답의 nextCursor 를 cursor 로 보내주세요."),
 
 
     // 401
@@ -49,9 +72,18 @@ public enum ErrorCode {
     FESTIVAL_NOT_FOUND("존재하지 않는 축제입니다."),
     TICKET_NOT_FOUND("존재하지 않는 티켓입니다."),
     SCHOOL_NOT_FOUND("존재하지 않는 학교입니다."),
+    TICKETING_RESERVATION_NOT_FOUND("존재하지 않는 예매 요청입니다."),
+    TICKET_ENTRY_TIME_NOT_FOUND("존재하지 않는 입장 시간입니다."),
+    WAITLIST_ENTRY_NOT_FOUND("존재하지 않는 대기 신청입니다."),
+    SHARD_NOT_FOUND("존재하지 않는 샤드입니다."),
 
     // 429
     TOO_FREQUENT_REQUESTS("너무 잦은 요청입니다. 잠시 후 다시 시도해주세요."),
+    NOT_ADMITTED_YET("아직 대기 순서가 되지 않았습니다. 잠시 후 다시 시도해주세요."),
+    TICKETING_CONFLICT("예매 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS("같은 Idempotency-Key 의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    TICKETING_QUEUE_FULL("예매 대기 요청이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    TICKET_AMOUNT_CONFLICT("예매가 몰려 티켓 수량을 바꾸지 못했습니다. 잠시 후 다시 시도해주세요."),
 
     // 500
     INTERNAL_SERVER_ERROR("서버 내부에 문제가 발생했습니다."),
@@ -66,7 +98,14 @@ public enum ErrorCode {
     INVALID_ROLE_NAME("해당하는 Role이 없습니다."),
     FOR_TEST_ERROR("테스트용 에러입니다."),
     FAIL_SEND_FCM_MESSAGE("FCM Message 전송에 실패했습니다."),
-    FCM_NOT_FOUND("유효하지 않은 MemberFCM 이 감지 되었습니다.");
+    FCM_NOT_FOUND("유효하지 않은 MemberFCM 이 감지 되었습니다."),
+    INVALID_WAITING_TOKEN_PAYLOAD("유효하지 않은 대기열 토큰 payload 입니다."),
+    RESERVATION_JOURNAL_WRITE_FAILED("예매 저널을 기록하는 데 실패했습니다."),
+    SHARD_MIGRATION_NOT_STABLE("옮기는 동안 원본 샤드의 행이 계속 바뀌어 샤드 이동을 마치지 못했습니다."),
+
+    // 503
+    TICKETING_LOCK_UNAVAILABLE("예매 요청이 몰려 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TICKETING_SHARD_MIGRATING("티켓 데이터를 옮기는 중이라 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final String message;
 
@@ -0,0 +1,15 @@
+package com.festago.common.exception;
+
+public class ServiceUnavailableException extends FestaGoException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.festago.common.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 SQL 을 준비할 때마다 호출되어 실행할 SQL 을 기록합니다. JdbcTemplate 으로 직접 실행하는 SQL 은 이곳을 거치지 않아 세지 않습니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.recordStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,55 @@
+package com.festago.common.query;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 을 시작한 모든 구간의 QueryLog 에 기록합니다. 요청 필터와 테스트가 구간을 겹쳐서 열 수 있으므로 스택으로 관리합니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Deque<QueryLog>> LOGS = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 새 구간을 시작하고 그 구간의 QueryLog 를 반환합니다. 반환된 QueryLog 는 구간이 끝나기 전에도 지금까지 기록된 SQL 을 보여줍니다.
+     */
+    public static QueryLog start() {
+        Deque<QueryLog> logs = LOGS.get();
+        if (logs == null) {
+            logs = new ArrayDeque<>();
+            LOGS.set(logs);
+        }
+        QueryLog queryLog = new QueryLog();
+        logs.push(queryLog);
+        return queryLog;
+    }
+
+    public static QueryLog finish() {
+        Deque<QueryLog> logs = LOGS.get();
+        if (logs == null) {
+            throw new IllegalStateException("시작하지 않은 쿼리 카운터를 종료할 수 없습니다.");
+        }
+        QueryLog queryLog = logs.pop();
+        if (logs.isEmpty()) {
+            LOGS.remove();
+        }
+        return queryLog;
+    }
+
+    static void recordStatement(String sql) {
+        Deque<QueryLog> logs = LOGS.get();
+        if (logs != null) {
+            logs.forEach(queryLog -> queryLog.addStatement(sql));
+        }
+    }
+
+    static void recordExecutionTime(long nanos) {
+        Deque<QueryLog> logs = LOGS.get();
+        if (logs != null) {
+            logs.forEach(queryLog -> queryLog.addExecutionTime(nanos));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.festago.common.query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 한 구간에서 Hibernate 가 실행한 SQL 과 실행 시간을 모읍니다. 바인딩 파라미터만 다른 SQL 은 같은 모양으로 보고 반복 횟수를 셉니다.
+ */
+public class QueryLog {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(\\s*,\\s*\\?)+\\)");
+
+    private final List<String> statements = new ArrayList<>();
+    private final Map<String, Integer> shapeCounts = new LinkedHashMap<>();
+    private long executionNanos;
+
+    void addStatement(String sql) {
+        statements.add(sql);
+        shapeCounts.merge(toShape(sql), 1, Integer::sum);
+    }
+
+    void addExecutionTime(long nanos) {
+        executionNanos += nanos;
+    }
+
+    private String toShape(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(shape).replaceAll("(?...)");
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    public Duration executionTime() {
+        return Duration.ofNanos(executionNanos);
+    }
+
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * threshold 번 이상 실행된 SQL 모양과 실행 횟수를 반환합니다. 목록의 원소마다 같은 조회를 반복하는 N+1 패턴을 찾는 데 사용합니다.
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapeCounts.forEach((shape, count) -> {
+            if (count >= threshold) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,21 @@
+package com.festago.common.query;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 가 세션마다 만들어서 JDBC 실행 전후에 호출합니다. 한 세션은 한 스레드에서만 사용되므로 시작 시각을 필드에 둡니다.
+ */
+public class QueryTimingListener implements SessionEventListener {
+
+    private long executionStartNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCounter.recordExecutionTime(System.nanoTime() - executionStartNanos);
+    }
+}
@@ -0,0 +1,121 @@
+package com.festago.common.util;
+
+/**
+ * 박싱 없이 양수 long 값을 저장하는 open addressing(선형 탐사) 방식의 집합입니다. 스레드 안전하지 않습니다.
+ * <p>
+ * 0 을 빈 슬롯으로 사용하므로 0 이하의 값은 저장할 수 없습니다. 적재율이 0.5 를 넘으면 용량을 두 배로 늘리므로, 원소 하나당 8~16 byte 를 사용합니다. 100만 건 기준 약
+ * 16MiB 로, 같은 원소를 HashSet&lt;Long&gt; 에 담을 때(약 50MiB)의 3분의 1 수준입니다.
+ */
+public class LongHashSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long EMPTY = 0L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] table;
+    private int size;
+
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("LongHashSet 의 예상 크기는 음수일 수 없습니다.");
+        }
+        this.table = new long[capacityFor(expectedSize)];
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    public boolean add(long value) {
+        validate(value);
+        int index = indexOf(table, value);
+        if (table[index] == value) {
+            return false;
+        }
+        table[index] = value;
+        size++;
+        if (size * 2 > table.length) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value <= EMPTY) {
+            return false;
+        }
+        return table[indexOf(table, value)] == value;
+    }
+
+    /**
+     * 삭제한 슬롯 뒤의 원소들을 앞으로 당겨서(backward shift) 탐사 경로가 끊기지 않도록 합니다.
+     */
+    public boolean remove(long value) {
+        if (value <= EMPTY) {
+            return false;
+        }
+        int mask = table.length - 1;
+        int index = indexOf(table, value);
+        if (table[index] != value) {
+            return false;
+        }
+        int next = (index + 1) & mask;
+        while (table[next] != EMPTY) {
+            int home = hash(table[next]) & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                table[index] = table[next];
+                index = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[index] = EMPTY;
+        size--;
+        return true;
+    }
+
+    private void validate(long value) {
+        if (value <= EMPTY) {
+            throw new IllegalArgumentException("LongHashSet 에는 양수만 저장할 수 있습니다.");
+        }
+    }
+
+    private static int indexOf(long[] table, long value) {
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (table[index] != EMPTY && table[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int hash(long value) {
+        long mixed = value * GOLDEN_RATIO;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private void resize() {
+        long[] resized = new long[table.length << 1];
+        for (long value : table) {
+            if (value != EMPTY) {
+                resized[indexOf(resized, value)] = value;
+            }
+        }
+        table = resized;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return table.length;
+    }
+}
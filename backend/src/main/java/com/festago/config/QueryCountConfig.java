@@ -0,0 +1,25 @@
+package com.festago.config;
+
+import com.festago.common.query.QueryCountInspector;
+import com.festago.common.query.QueryTimingListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 가 실행하는 SQL 만 셉니다. JdbcTemplate 으로 직접 실행하는 SQL(메모리 예매 수량 반영, 조건부 수량 갱신, 좌석 선점, 샤드 이동 등)은
+ * Hibernate 를 거치지 않으므로 QueryCounter 와 X-Query-Count 헤더에 포함되지 않습니다.
+ */
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                QueryTimingListener.class.getName());
+        };
+    }
+}
@@ -9,6 +9,7 @@ import com.festago.entry.dto.EntryCodeResponse;
 import com.festago.entry.dto.TicketValidationRequest;
 import com.festago.entry.dto.TicketValidationResponse;
 import com.festago.entry.dto.event.EntryProcessEvent;
+import com.festago.sharding.application.ShardRouter;
 import com.festago.ticketing.domain.MemberTicket;
 import com.festago.ticketing.repository.MemberTicketRepository;
 import java.time.Clock;
@@ -27,9 +28,11 @@ public class EntryService {
     private final MemberTicketRepository memberTicketRepository;
     private final ApplicationEventPublisher publisher;
     private final Clock clock;
+    private final ShardRouter shardRouter;
 
     public EntryCodeResponse createEntryCode(Long memberId, Long memberTicketId) {
-        MemberTicket memberTicket = findMemberTicket(memberTicketId);
+        MemberTicket memberTicket = shardRouter.executeOnMemberTicket(memberTicketId,
+            () -> findMemberTicket(memberTicketId));
         if (!memberTicket.isOwner(memberId)) {
             throw new BadRequestException(ErrorCode.NOT_MEMBER_TICKET_OWNER);
         }
@@ -47,9 +50,12 @@ public class EntryService {
 
     public TicketValidationResponse validate(TicketValidationRequest request) {
         EntryCodePayload entryCodePayload = entryCodeManager.extract(request.code());
-        MemberTicket memberTicket = findMemberTicket(entryCodePayload.getMemberTicketId());
-        memberTicket.changeState(entryCodePayload.getEntryState());
-        publisher.publishEvent(new EntryProcessEvent(memberTicket.getOwner().getId()));
-        return TicketValidationResponse.from(memberTicket);
+        Long memberTicketId = entryCodePayload.getMemberTicketId();
+        return shardRouter.executeOnMemberTicket(memberTicketId, () -> {
+            MemberTicket memberTicket = findMemberTicket(memberTicketId);
+            memberTicket.changeState(entryCodePayload.getEntryState());
+            publisher.publishEvent(new EntryProcessEvent(memberTicket.getOwner().getId()));
+            return TicketValidationResponse.from(memberTicket);
+        });
     }
 }
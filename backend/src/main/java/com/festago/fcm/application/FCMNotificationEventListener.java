@@ -3,6 +3,7 @@ package com.festago.fcm.application;
 import com.festago.entry.dto.event.EntryProcessEvent;
 import com.festago.fcm.domain.FCMChannel;
 import com.festago.fcm.dto.MemberFCMResponse;
+import com.festago.ticketing.dto.event.WaitlistPromotedEvent;
 import com.google.firebase.messaging.AndroidConfig;
 import com.google.firebase.messaging.AndroidNotification;
 import com.google.firebase.messaging.BatchResponse;
@@ -36,10 +37,20 @@ public class FCMNotificationEventListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async
     public void sendFcmNotification(EntryProcessEvent event) {
-        List<Message> messages = createMessages(getMemberFCMToken(event.memberId()), FCMChannel.ENTRY_PROCESS.name());
+        send(event.memberId(), FCMChannel.ENTRY_PROCESS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void sendWaitlistPromotedNotification(WaitlistPromotedEvent event) {
+        send(event.memberId(), FCMChannel.WAITLIST_PROMOTION);
+    }
+
+    private void send(Long memberId, FCMChannel channel) {
+        List<Message> messages = createMessages(getMemberFCMToken(memberId), channel.name());
         try {
             BatchResponse batchResponse = firebaseMessaging.sendAll(messages);
-            checkAllSuccess(batchResponse, event.memberId());
+            checkAllSuccess(batchResponse, memberId);
         } catch (FirebaseMessagingException e) {
             log.warn("fail send FCM message", e);
         }
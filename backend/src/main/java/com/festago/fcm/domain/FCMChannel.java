@@ -2,5 +2,6 @@ package com.festago.fcm.domain;
 
 public enum FCMChannel {
     ENTRY_PROCESS,
-    ENTRY_ALERT
+    ENTRY_ALERT,
+    WAITLIST_PROMOTION
 }
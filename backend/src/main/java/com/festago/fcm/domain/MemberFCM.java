@@ -6,10 +6,14 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 
 @Entity
-@Table(name = "member_fcm")
+@Table(name = "member_fcm", uniqueConstraints = @UniqueConstraint(
+    name = "unique_member_fcm",
+    columnNames = {"member_id", "fcm_token"}
+))
 public class MemberFCM extends BaseTimeEntity {
 
     @Id
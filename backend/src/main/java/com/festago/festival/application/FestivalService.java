@@ -13,12 +13,14 @@ import com.festago.festival.dto.FestivalUpdateRequest;
 import com.festago.festival.dto.FestivalsResponse;
 import com.festago.festival.repository.FestivalRepository;
 import com.festago.school.domain.School;
+import com.festago.school.dto.event.SchoolDataChangedEvent;
 import com.festago.school.repository.SchoolRepository;
 import com.festago.stage.domain.Stage;
 import com.festago.stage.repository.StageRepository;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -33,12 +35,14 @@ public class FestivalService {
     private final StageRepository stageRepository;
     private final SchoolRepository schoolRepository;
     private final Clock clock;
+    private final ApplicationEventPublisher publisher;
 
     public FestivalResponse create(FestivalCreateRequest request) {
         School school = schoolRepository.findById(request.schoolId())
             .orElseThrow(() -> new NotFoundException(ErrorCode.SCHOOL_NOT_FOUND));
         Festival festival = request.toEntity(school);
         validate(festival);
+        publisher.publishEvent(new SchoolDataChangedEvent(school.getId()));
         return FestivalResponse.from(festivalRepository.save(festival));
     }
 
@@ -74,12 +78,17 @@ public class FestivalService {
         festival.changeThumbnail(request.thumbnail());
         festival.changeDate(request.startDate(), request.endDate());
         validate(festival);
+        publisher.publishEvent(new SchoolDataChangedEvent(festival.getSchool().getId()));
     }
 
     public void delete(Long festivalId) {
+        Long schoolId = festivalRepository.findById(festivalId)
+            .map(festival -> festival.getSchool().getId())
+            .orElse(null);
         try {
             festivalRepository.deleteById(festivalId);
             festivalRepository.flush();
+            publisher.publishEvent(new SchoolDataChangedEvent(schoolId));
         } catch (DataIntegrityViolationException e) {
             throw new BadRequestException(ErrorCode.DELETE_CONSTRAINT_FESTIVAL);
         }
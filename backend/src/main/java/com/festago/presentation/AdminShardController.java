@@ -0,0 +1,39 @@
+package com.festago.presentation;
+
+import com.festago.sharding.application.ShardMigrationService;
+import com.festago.sharding.dto.ShardCleanupRequest;
+import com.festago.sharding.dto.ShardMigrationRequest;
+import com.festago.sharding.dto.ShardMigrationResponse;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/api/shards")
+@Hidden
+@ConditionalOnProperty(name = "festago.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AdminShardController {
+
+    private final ShardMigrationService shardMigrationService;
+
+    @PostMapping("/migrations")
+    public ResponseEntity<ShardMigrationResponse> migrate(@RequestBody @Valid ShardMigrationRequest request) {
+        ShardMigrationResponse response = shardMigrationService.migrate(request.schoolId(), request.targetShard());
+        return ResponseEntity.ok()
+            .body(response);
+    }
+
+    @PostMapping("/cleanups")
+    public ResponseEntity<Void> cleanUp(@RequestBody @Valid ShardCleanupRequest request) {
+        shardMigrationService.cleanUpSource(request.schoolId(), request.sourceShard());
+        return ResponseEntity.ok()
+            .build();
+    }
+}
@@ -6,6 +6,7 @@ import com.festago.common.exception.FestaGoException;
 import com.festago.common.exception.ForbiddenException;
 import com.festago.common.exception.InternalServerException;
 import com.festago.common.exception.NotFoundException;
+import com.festago.common.exception.ServiceUnavailableException;
 import com.festago.common.exception.TooManyRequestException;
 import com.festago.common.exception.UnauthorizedException;
 import com.festago.common.exception.dto.ErrorResponse;
@@ -93,6 +94,14 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ErrorResponse.from(e));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handle(ServiceUnavailableException e, HttpServletRequest request) {
+        logInfo(e, request);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(ErrorResponse.from(e));
+    }
+
     @ExceptionHandler(InternalServerException.class)
     public ResponseEntity<ErrorResponse> handle(InternalServerException e, HttpServletRequest request) {
         logWarn(e, request);
@@ -1,27 +1,42 @@
 package com.festago.presentation;
 
 import com.festago.auth.annotation.Member;
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
 import com.festago.entry.application.EntryService;
 import com.festago.entry.dto.EntryCodeResponse;
+import com.festago.ticketing.application.AsyncTicketingService;
+import com.festago.ticketing.application.LotteryService;
 import com.festago.ticketing.application.MemberTicketService;
-import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.application.TicketingFacadeService;
+import com.festago.ticketing.application.WaitingRoomService;
+import com.festago.ticketing.application.WaitlistService;
+import com.festago.ticketing.dto.LotteryApplicationRequest;
+import com.festago.ticketing.dto.LotteryApplicationResponse;
+import com.festago.ticketing.dto.MemberTicketPageResponse;
 import com.festago.ticketing.dto.MemberTicketResponse;
 import com.festago.ticketing.dto.MemberTicketsResponse;
 import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingReservationResponse;
 import com.festago.ticketing.dto.TicketingResponse;
+import com.festago.ticketing.dto.WaitingRoomEnterRequest;
+import com.festago.ticketing.dto.WaitingRoomResponse;
+import com.festago.ticketing.dto.WaitlistRequest;
+import com.festago.ticketing.dto.WaitlistResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -33,9 +48,18 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MemberTicketController {
 
+    private static final String WAITING_TOKEN_HEADER = "Waiting-Token";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    private static final String CURRENT_PAGE_SIZE = "100";
+
     private final EntryService entryService;
     private final MemberTicketService memberTicketService;
-    private final TicketingService ticketingService;
+    private final TicketingFacadeService ticketingFacadeService;
+    private final WaitingRoomService waitingRoomService;
+    private final AsyncTicketingService asyncTicketingService;
+    private final LotteryService lotteryService;
+    private final WaitlistService waitlistService;
 
     @PostMapping("/{memberTicketId}/qr")
     @Operation(description = "티켓 제시용 QR 코드를 생성한다.", summary = "티켓 제시용 QR 생성")
@@ -47,10 +71,92 @@ public class MemberTicketController {
     }
 
     @PostMapping
-    @Operation(description = "티켓을 예매한다.", summary = "티켓 예매")
-    public ResponseEntity<TicketingResponse> ticketing(@Member Long memberId,
-                                                       @RequestBody @Valid TicketingRequest request) {
-        TicketingResponse response = ticketingService.ticketing(memberId, request);
+    @Operation(
+        description = "티켓을 예매한다. 비동기 예매가 활성화되어 있으면 202 와 함께 예매 요청 handle 을 반환한다.",
+        summary = "티켓 예매"
+    )
+    public ResponseEntity<?> ticketing(@Member Long memberId,
+                                       @RequestBody @Valid TicketingRequest request,
+                                       @RequestHeader(value = WAITING_TOKEN_HEADER, required = false)
+                                       String waitingToken,
+                                       @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                       String idempotencyKey) {
+        if (asyncTicketingService.isEnabled()) {
+            TicketingReservationResponse response = asyncTicketingService.enqueue(memberId, request, waitingToken,
+                idempotencyKey);
+            return ResponseEntity.accepted()
+                .location(URI.create("/member-tickets/reservations/" + response.handle()))
+                .body(response);
+        }
+        TicketingResponse response = ticketingFacadeService.ticketing(memberId, request, waitingToken,
+            idempotencyKey);
+        return ResponseEntity.ok()
+            .body(response);
+    }
+
+    @GetMapping("/reservations/{handle}")
+    @Operation(description = "비동기 예매 요청의 처리 결과를 조회한다. waitMillis 동안 결과를 기다린다.", summary = "예매 요청 결과 조회")
+    public CompletableFuture<ResponseEntity<TicketingReservationResponse>> findReservation(
+        @Member Long memberId,
+        @PathVariable String handle,
+        @RequestParam(defaultValue = "0") long waitMillis) {
+        return asyncTicketingService.find(memberId, handle, waitMillis)
+            .thenApply(response -> ResponseEntity.ok()
+                .body(response));
+    }
+
+    @PostMapping("/lottery-applications")
+    @Operation(description = "추첨으로 판매되는 티켓에 응모한다. 티켓 오픈 시간까지 응모할 수 있다.", summary = "티켓 추첨 응모")
+    public ResponseEntity<LotteryApplicationResponse> applyLottery(@Member Long memberId,
+                                                                   @RequestBody @Valid
+                                                                   LotteryApplicationRequest request) {
+        LotteryApplicationResponse response = lotteryService.apply(memberId, request.ticketId());
+        return ResponseEntity.ok()
+            .body(response);
+    }
+
+    @PostMapping("/waitlist")
+    @Operation(description = "매진된 티켓에 대기 신청한다. 취소된 티켓이 생기면 신청 순서대로 발급하고 알림을 보낸다.", summary = "매진 티켓 대기 신청")
+    public ResponseEntity<WaitlistResponse> joinWaitlist(@Member Long memberId,
+                                                         @RequestBody @Valid WaitlistRequest request) {
+        WaitlistResponse response = waitlistService.join(memberId, request.ticketId());
+        return ResponseEntity.ok()
+            .body(response);
+    }
+
+    @GetMapping("/waitlist")
+    @Operation(description = "매진된 티켓의 현재 대기 순번을 조회한다.", summary = "매진 티켓 대기 순번 조회")
+    public ResponseEntity<WaitlistResponse> findWaitlistPosition(@Member Long memberId,
+                                                                 @RequestParam Long ticketId) {
+        WaitlistResponse response = waitlistService.findPosition(memberId, ticketId);
+        return ResponseEntity.ok()
+            .body(response);
+    }
+
+    @DeleteMapping("/waitlist")
+    @Operation(description = "매진된 티켓의 대기 신청을 취소한다.", summary = "매진 티켓 대기 취소")
+    public ResponseEntity<Void> leaveWaitlist(@Member Long memberId,
+                                              @RequestParam Long ticketId) {
+        waitlistService.leave(memberId, ticketId);
+        return ResponseEntity.ok()
+            .build();
+    }
+
+    @PostMapping("/waiting-room")
+    @Operation(description = "티켓 예매 대기열에 진입하고 대기열 토큰을 발급받는다.", summary = "예매 대기열 진입")
+    public ResponseEntity<WaitingRoomResponse> enterWaitingRoom(@Member Long memberId,
+                                                                @RequestBody @Valid WaitingRoomEnterRequest request) {
+        WaitingRoomResponse response = waitingRoomService.enter(memberId, request.ticketId());
+        return ResponseEntity.ok()
+            .body(response);
+    }
+
+    @GetMapping("/waiting-room")
+    @Operation(description = "대기열 토큰으로 현재 대기 순번과 예상 대기 시간을 조회한다.", summary = "예매 대기 순번 조회")
+    public ResponseEntity<WaitingRoomResponse> findWaitingPosition(@Member Long memberId,
+                                                                   @RequestHeader(WAITING_TOKEN_HEADER)
+                                                                   String waitingToken) {
+        WaitingRoomResponse response = waitingRoomService.findPosition(memberId, waitingToken);
         return ResponseEntity.ok()
             .body(response);
     }
@@ -64,25 +170,45 @@ public class MemberTicketController {
             .body(response);
     }
 
+    @DeleteMapping("/{memberTicketId}")
+    @Operation(description = "입장 전이면서 공연 시작 전인 티켓의 예매를 취소한다. 취소된 티켓은 대기자에게 발급된다.", summary = "티켓 예매 취소")
+    public ResponseEntity<Void> cancel(@Member Long memberId,
+                                       @PathVariable Long memberTicketId) {
+        memberTicketService.cancel(memberId, memberTicketId);
+        return ResponseEntity.ok()
+            .build();
+    }
+
     @GetMapping
-    @Operation(description = "유저가 가진 모든 티켓을 조회한다.", summary = "예매 목록 조회")
-    public ResponseEntity<MemberTicketsResponse> findAll(@Member Long memberId,
-                                                         @RequestParam(defaultValue = "0") int page,
-                                                         @RequestParam(defaultValue = "100") int size) {
-        Pageable pageRequest = PageRequest.of(page, size, Sort.by("entryTime").descending());
-        MemberTicketsResponse response = memberTicketService.findAll(memberId, pageRequest);
+    @Operation(description = "유저가 가진 모든 티켓을 입장 시간이 늦은 순서대로 조회한다. 다음 페이지는 응답의 nextCursor 로 조회한다.",
+        summary = "예매 목록 조회")
+    public ResponseEntity<MemberTicketPageResponse> findAll(@Member Long memberId,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer page,
+                                                            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        validateFirstPage(page);
+        MemberTicketPageResponse response = memberTicketService.findAll(memberId, cursor, size);
         return ResponseEntity.ok()
             .body(response);
     }
 
+    /**
+     * 커서 방식으로 바뀌기 전의 클라이언트가 보내는 page 는 첫 페이지만 받아들입니다. 다음 페이지를 page 로 요청하면 첫 페이지가 반복해서 응답되므로 거절합니다.
+     */
+    private void validateFirstPage(Integer page) {
+        if (page != null && page != 0) {
+            throw new BadRequestException(ErrorCode.PAGE_PARAMETER_NOT_SUPPORTED);
+        }
+    }
+
     @GetMapping("/current")
     @Operation(
         description = "유저의 티켓 중 입장 시간이 24시간이상 지나지 않은 티켓을 현재 시간에 가까운 순서대로 입장 가능, 입장 예정 티켓으로 구분하여 반환하다.",
         summary = "현재 맴버 티켓 목록 조회"
     )
-    public ResponseEntity<MemberTicketsResponse> findCurrent(@Member Long memberId) {
-        Pageable pageable = PageRequest.of(0, 100);
-        MemberTicketsResponse response = memberTicketService.findCurrent(memberId, pageable);
+    public ResponseEntity<MemberTicketsResponse> findCurrent(@Member Long memberId,
+                                                             @RequestParam(defaultValue = CURRENT_PAGE_SIZE) int size) {
+        MemberTicketsResponse response = memberTicketService.findCurrent(memberId, size);
         return ResponseEntity.ok()
             .body(response);
     }
@@ -0,0 +1,151 @@
+package com.festago.presentation.common;
+
+import com.festago.common.query.QueryCounter;
+import com.festago.common.query.QueryLog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청마다 실행한 SQL 의 수와 실행 시간을 셉니다. 너무 많은 SQL 을 실행했거나 같은 모양의 SQL 을 반복한 요청은 경고 로그를 남깁니다. Hibernate 가
+ * 실행한 SQL 만 세므로, JdbcTemplate 으로 SQL 을 실행하는 요청은 실제보다 적게 셉니다.
+ * <p>
+ * 운영 환경이 아니면 응답 헤더로도 알려줍니다. 헤더는 본문보다 먼저 전송되므로, 응답 본문을 쓰기 시작하기 직전까지 센 값을 헤더에 담습니다. 비동기로 처리되는
+ * 요청은 다른 스레드에서 실행되는 SQL 을 셀 수 없으므로 헤더와 경고 로그를 남기지 않습니다.
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Millis";
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final boolean exposeHeader;
+    private final int maxQueryCount;
+    private final int repeatedQueryThreshold;
+
+    public QueryCountFilter(Environment environment,
+                            @Value("${festago.query-count.max-count:30}") int maxQueryCount,
+                            @Value("${festago.query-count.repeated-threshold:5}") int repeatedQueryThreshold) {
+        this.exposeHeader = !environment.acceptsProfiles(Profiles.of("prod"));
+        this.maxQueryCount = maxQueryCount;
+        this.repeatedQueryThreshold = repeatedQueryThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        QueryLog queryLog = QueryCounter.start();
+        QueryCountHeaderResponse headerResponse =
+            exposeHeader ? new QueryCountHeaderResponse(response, queryLog) : null;
+        try {
+            filterChain.doFilter(request, headerResponse == null ? response : headerResponse);
+        } finally {
+            QueryCounter.finish();
+            if (isAsyncStarted(request)) {
+                skipHeaders(headerResponse);
+            } else {
+                warnIfExcessive(request, queryLog);
+                writeHeaders(headerResponse);
+            }
+        }
+    }
+
+    private void skipHeaders(QueryCountHeaderResponse headerResponse) {
+        if (headerResponse != null) {
+            headerResponse.skipHeaders();
+        }
+    }
+
+    private void writeHeaders(QueryCountHeaderResponse headerResponse) {
+        if (headerResponse != null) {
+            headerResponse.writeHeaders();
+        }
+    }
+
+    private void warnIfExcessive(HttpServletRequest request, QueryLog queryLog) {
+        Map<String, Integer> repeatedShapes = queryLog.repeatedShapes(repeatedQueryThreshold);
+        if (queryLog.count() <= maxQueryCount && repeatedShapes.isEmpty()) {
+            return;
+        }
+        log.warn("요청에서 SQL 을 너무 많이 실행했습니다. method={}, uri={}, count={}, timeMillis={}, repeated={}",
+            request.getMethod(), request.getRequestURI(), queryLog.count(), queryLog.executionTime().toMillis(),
+            repeatedShapes);
+    }
+
+    /**
+     * 본문을 모아두지 않고, 응답이 커밋되기 전 마지막 시점인 본문 쓰기 시작 직전에 헤더를 추가합니다.
+     */
+    private static class QueryCountHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryLog queryLog;
+        private boolean headersWritten;
+
+        QueryCountHeaderResponse(HttpServletResponse response, QueryLog queryLog) {
+            super(response);
+            this.queryLog = queryLog;
+        }
+
+        void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(QUERY_COUNT_HEADER, String.valueOf(queryLog.count()));
+            setHeader(QUERY_TIME_HEADER, String.valueOf(queryLog.executionTime().toMillis()));
+        }
+
+        void skipHeaders() {
+            headersWritten = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
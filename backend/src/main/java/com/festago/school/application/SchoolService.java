@@ -8,8 +8,10 @@ import com.festago.school.dto.SchoolCreateRequest;
 import com.festago.school.dto.SchoolResponse;
 import com.festago.school.dto.SchoolUpdateRequest;
 import com.festago.school.dto.SchoolsResponse;
+import com.festago.school.dto.event.SchoolDataChangedEvent;
 import com.festago.school.repository.SchoolRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class SchoolService {
 
     private final SchoolRepository schoolRepository;
+    private final ApplicationEventPublisher publisher;
 
     @Transactional(readOnly = true)
     public SchoolsResponse findAll() {
@@ -54,6 +57,7 @@ public class SchoolService {
         School school = findSchool(schoolId);
         school.changeName(request.name());
         school.changeDomain(request.domain());
+        publisher.publishEvent(new SchoolDataChangedEvent(schoolId));
     }
 
     public void delete(Long schoolId) {
@@ -61,6 +65,7 @@ public class SchoolService {
         try {
             schoolRepository.deleteById(schoolId);
             schoolRepository.flush();
+            publisher.publishEvent(new SchoolDataChangedEvent(schoolId));
         } catch (DataIntegrityViolationException e) {
             throw new BadRequestException(ErrorCode.DELETE_CONSTRAINT_SCHOOL);
         }
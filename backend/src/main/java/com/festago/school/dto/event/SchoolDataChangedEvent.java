@@ -0,0 +1,10 @@
+package com.festago.school.dto.event;
+
+/**
+ * 학교, 축제, 공연 중 하나가 만들어지거나 바뀌거나 지워졌음을 알립니다. 학교를 다른 샤드로 옮겼다면 그 샤드의 사본도 갱신해야 합니다.
+ */
+public record SchoolDataChangedEvent(
+    Long schoolId
+) {
+
+}
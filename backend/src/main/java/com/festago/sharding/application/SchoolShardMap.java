@@ -0,0 +1,78 @@
+package com.festago.sharding.application;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.sharding.config.ShardingProperties;
+import com.festago.sharding.domain.SchoolShard;
+import com.festago.sharding.repository.SchoolShardRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학교별 샤드 배치를 메모리에 들고 있습니다. 배치는 디렉터리 샤드의 school_shard 에 저장하고, 다른 노드가 옮긴 학교는 주기적으로 다시 읽어서 반영합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.sharding.enabled", havingValue = "true")
+public class SchoolShardMap {
+
+    private final SchoolShardRepository schoolShardRepository;
+    private final String directoryShard;
+    private final List<String> shardKeys;
+    private volatile Map<Long, SchoolShard> placements;
+
+    public SchoolShardMap(SchoolShardRepository schoolShardRepository, ShardingProperties properties) {
+        this.schoolShardRepository = schoolShardRepository;
+        this.directoryShard = properties.directoryShard();
+        this.shardKeys = properties.shards().keySet().stream()
+            .sorted()
+            .toList();
+    }
+
+    public String findShardKey(Long schoolId) {
+        return find(schoolId)
+            .map(SchoolShard::getShardKey)
+            .orElse(directoryShard);
+    }
+
+    public boolean isMigrating(Long schoolId) {
+        return find(schoolId)
+            .map(SchoolShard::isMigrating)
+            .orElse(false);
+    }
+
+    private Optional<SchoolShard> find(Long schoolId) {
+        if (placements == null) {
+            refresh();
+        }
+        return Optional.ofNullable(placements.get(schoolId));
+    }
+
+    public void validateShardKey(String shardKey) {
+        if (!shardKeys.contains(shardKey)) {
+            throw new NotFoundException(ErrorCode.SHARD_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 디렉터리 샤드에서 읽어야 하므로 트랜잭션 밖에서 호출해야 합니다.
+     */
+    @Scheduled(fixedDelayString = "${festago.sharding.map-sync-interval-millis:1000}")
+    public void refresh() {
+        placements = schoolShardRepository.findAll().stream()
+            .collect(Collectors.toUnmodifiableMap(SchoolShard::getSchoolId, Function.identity()));
+    }
+
+    public String getDirectoryShard() {
+        return directoryShard;
+    }
+
+    public List<String> getShardKeys() {
+        return shardKeys;
+    }
+}
@@ -0,0 +1,354 @@
+package com.festago.sharding.application;
+
+import static java.util.stream.Collectors.joining;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.InternalServerException;
+import com.festago.school.dto.event.SchoolDataChangedEvent;
+import com.festago.sharding.config.ShardingProperties;
+import com.festago.sharding.domain.SchoolShard;
+import com.festago.sharding.dto.ShardMigrationResponse;
+import com.festago.sharding.repository.SchoolShardRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 학교의 티켓 데이터를 다른 샤드로 옮깁니다.
+ * <p>
+ * 옮기는 동안 학교를 migrating 으로 표시해서 학교의 티켓 데이터를 쓰는 모든 요청을 막고, 다른 노드가 표시를 읽을 때까지 기다린 뒤 원본 샤드의 스냅숏을
+ * 대상 샤드에 복사합니다. 복사한 뒤 원본이 바뀌지 않았음을 확인하면 배치를 바꾸고 원본 샤드의 행을 지웁니다. 학교, 축제, 공연은 디렉터리 샤드에도 남겨서 조회 API 가 그대로 동작하도록 하고, 대상 샤드에는 조인에 필요한 사본을
+ * 저장합니다. 옮긴 뒤에 디렉터리 샤드에서 바뀐 학교, 축제, 공연은 syncReferences 로 사본에 반영합니다.
+ */
+@Service
+@ConditionalOnProperty(name = "festago.sharding.enabled", havingValue = "true")
+public class ShardMigrationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardMigrationService.class);
+    private static final String TICKET_CONDITION = "ticket_id IN (SELECT id FROM ticket WHERE school_id = ?)";
+    private static final List<ShardedTable> REFERENCE_TABLES = List.of(
+        new ShardedTable("school", "id = ?", true),
+        new ShardedTable("festival", "school_id = ?", true),
+        new ShardedTable("stage", "festival_id IN (SELECT id FROM festival WHERE school_id = ?)", true)
+    );
+    private static final List<ShardedTable> TICKET_TABLES = List.of(
+        new ShardedTable("ticket", "school_id = ?", true),
+        new ShardedTable("ticket_amount", TICKET_CONDITION, true),
+        new ShardedTable("ticket_entry_time", TICKET_CONDITION, true),
+        new ShardedTable("member_ticket", "stage_id IN (SELECT s.id FROM stage s "
+            + "JOIN festival f ON s.festival_id = f.id WHERE f.school_id = ?)", true),
+        new ShardedTable("lottery_application", TICKET_CONDITION, false),
+        new ShardedTable("ticket_seat", TICKET_CONDITION, false),
+        new ShardedTable("released_sequence", TICKET_CONDITION, false),
+        new ShardedTable("waitlist_entry", TICKET_CONDITION, false),
+        new ShardedTable("reserve_sequence_lease", TICKET_CONDITION, false)
+    );
+
+    private final ShardRouter shardRouter;
+    private final SchoolShardMap schoolShardMap;
+    private final SchoolShardRepository schoolShardRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTransactionTemplate;
+    private final ShardingProperties properties;
+    private final long drainMillis;
+    private final int maxCopyAttempts;
+
+    public ShardMigrationService(ShardRouter shardRouter,
+                                 SchoolShardMap schoolShardMap,
+                                 SchoolShardRepository schoolShardRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ShardingProperties properties,
+                                 @Value("${festago.sharding.migration.drain-millis:3000}") long drainMillis,
+                                 @Value("${festago.sharding.migration.max-copy-attempts:3}") int maxCopyAttempts) {
+        this.shardRouter = shardRouter;
+        this.schoolShardMap = schoolShardMap;
+        this.schoolShardRepository = schoolShardRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.snapshotTransactionTemplate.setReadOnly(true);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.properties = properties;
+        this.drainMillis = drainMillis;
+        this.maxCopyAttempts = maxCopyAttempts;
+    }
+
+    /**
+     * 배치를 바꾼 뒤에는 원본 샤드의 행을 지우다 실패해도 배치를 되돌리지 않습니다. 대상 샤드에 모든 행이 있으므로, 원본 샤드의 행은 cleanUpSource 로 다시
+     * 지울 수 있습니다.
+     */
+    public ShardMigrationResponse migrate(Long schoolId, String targetShard) {
+        schoolShardMap.validateShardKey(targetShard);
+        String sourceShard = schoolShardMap.findShardKey(schoolId);
+        if (sourceShard.equals(targetShard)) {
+            throw new BadRequestException(ErrorCode.SCHOOL_ALREADY_IN_SHARD);
+        }
+        updatePlacement(schoolId, sourceShard, SchoolShard::startMigration);
+        int movedRowCount;
+        try {
+            waitForDrain();
+            movedRowCount = copyUntilStable(schoolId, sourceShard, targetShard);
+            updatePlacement(schoolId, sourceShard, schoolShard -> schoolShard.completeMigration(targetShard));
+        } catch (RuntimeException e) {
+            updatePlacement(schoolId, sourceShard, SchoolShard::cancelMigration);
+            throw e;
+        }
+        boolean sourceCleaned = tryDelete(sourceShard, schoolId);
+        log.info("학교의 티켓 데이터를 옮겼습니다. schoolId={}, source={}, target={}, rows={}, sourceCleaned={}", schoolId,
+            sourceShard, targetShard, movedRowCount, sourceCleaned);
+        return new ShardMigrationResponse(schoolId, sourceShard, targetShard, movedRowCount, sourceCleaned);
+    }
+
+    /**
+     * 학교, 축제, 공연은 디렉터리 샤드에서 쓰므로, 학교를 다른 샤드로 옮겼다면 바뀐 행을 그 샤드의 사본에도 반영합니다. 공연의 시작 시각처럼 예매 검증에
+     * 쓰이는 값이 낡지 않고, 옮긴 뒤에 만든 공연에도 티켓을 만들 수 있습니다.
+     * <p>
+     * 반영에 실패해도 디렉터리 샤드의 변경은 이미 커밋되었으므로 되돌리지 않고, 다음 변경이나 샤드 이동 때 다시 반영됩니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void syncReferences(SchoolDataChangedEvent event) {
+        Long schoolId = event.schoolId();
+        if (schoolId == null) {
+            return;
+        }
+        String directoryShard = properties.directoryShard();
+        String shardKey = schoolShardMap.findShardKey(schoolId);
+        if (directoryShard.equals(shardKey)) {
+            return;
+        }
+        try {
+            Map<ShardedTable, List<Map<String, Object>>> referenceRows = shardRouter.executeOnShard(directoryShard,
+                () -> snapshotTransactionTemplate.execute(status -> readTables(REFERENCE_TABLES, schoolId)));
+            shardRouter.executeOnShard(shardKey, () -> transactionTemplate.execute(status -> {
+                referenceRows.forEach((table, rows) -> insert(table, rows, true));
+                deleteRemovedInReverseOrder(referenceRows, schoolId);
+                return null;
+            }));
+        } catch (RuntimeException e) {
+            log.error("학교, 축제, 공연의 변경을 학교의 샤드에 반영하지 못했습니다. schoolId={}, shard={}", schoolId, shardKey, e);
+        }
+    }
+
+    /**
+     * 디렉터리 샤드에서 지워진 학교, 축제, 공연을 사본에서도 지웁니다. 공연부터 지워야 축제와 학교를 지울 수 있습니다.
+     */
+    private void deleteRemovedInReverseOrder(Map<ShardedTable, List<Map<String, Object>>> referenceRows,
+                                             Long schoolId) {
+        for (int i = REFERENCE_TABLES.size() - 1; i >= 0; i--) {
+            ShardedTable table = REFERENCE_TABLES.get(i);
+            List<Object> ids = referenceRows.get(table).stream()
+                .map(row -> row.get("id"))
+                .toList();
+            jdbcTemplate.update(table.deleteExceptSql(ids.size()),
+                Stream.concat(Stream.of(schoolId), ids.stream()).toArray());
+        }
+    }
+
+    /**
+     * 옮기기를 마친 학교의 행을 원본 샤드에서 지웁니다. 학교가 아직 원본 샤드에 있거나 옮기는 중이면 지우지 않습니다.
+     */
+    public void cleanUpSource(Long schoolId, String sourceShard) {
+        schoolShardMap.validateShardKey(sourceShard);
+        schoolShardMap.refresh();
+        if (sourceShard.equals(schoolShardMap.findShardKey(schoolId)) || schoolShardMap.isMigrating(schoolId)) {
+            throw new BadRequestException(ErrorCode.SHARD_CLEANUP_NOT_ALLOWED);
+        }
+        delete(sourceShard, schoolId);
+    }
+
+    private boolean tryDelete(String sourceShard, Long schoolId) {
+        try {
+            delete(sourceShard, schoolId);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("옮긴 학교의 행을 원본 샤드에서 지우지 못했습니다. 다시 지워야 합니다. schoolId={}, source={}", schoolId,
+                sourceShard, e);
+            return false;
+        }
+    }
+
+    private void updatePlacement(Long schoolId, String sourceShard, Consumer<SchoolShard> update) {
+        shardRouter.executeOnShard(properties.directoryShard(), () -> transactionTemplate.execute(status -> {
+            SchoolShard schoolShard = schoolShardRepository.findById(schoolId)
+                .orElseGet(() -> new SchoolShard(schoolId, sourceShard));
+            update.accept(schoolShard);
+            return schoolShardRepository.save(schoolShard);
+        }));
+        schoolShardMap.refresh();
+    }
+
+    /**
+     * 다른 노드가 migrating 표시를 읽기 전에 시작한 예매가 끝날 때까지 기다립니다.
+     */
+    private void waitForDrain() {
+        try {
+            Thread.sleep(drainMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 이동을 기다리는 중에 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * migrating 표시 전에 시작한 요청은 drain 이 끝난 뒤에도 커밋될 수 있습니다. 복사한 뒤 원본을 다시 읽어 스냅숏이 달라졌으면 새 스냅숏을 다시 복사하고,
+     * maxCopyAttempts 번 안에 원본이 멈추지 않으면 이동을 취소합니다.
+     */
+    private int copyUntilStable(Long schoolId, String sourceShard, String targetShard) {
+        SchoolSnapshot snapshot = read(sourceShard, schoolId);
+        for (int attempt = 1; attempt <= maxCopyAttempts; attempt++) {
+            int movedRowCount = copy(targetShard, schoolId, snapshot);
+            SchoolSnapshot latest = read(sourceShard, schoolId);
+            if (latest.isSameAs(snapshot)) {
+                return movedRowCount;
+            }
+            log.warn("복사하는 동안 원본 샤드의 행이 바뀌어 다시 복사합니다. schoolId={}, source={}, attempt={}", schoolId,
+                sourceShard, attempt);
+            snapshot = latest;
+        }
+        throw new InternalServerException(ErrorCode.SHARD_MIGRATION_NOT_STABLE);
+    }
+
+    /**
+     * 모든 테이블을 하나의 REPEATABLE READ 트랜잭션에서 읽으므로, 테이블마다 다른 시점의 행이 섞이지 않습니다.
+     */
+    private SchoolSnapshot read(String shardKey, Long schoolId) {
+        return shardRouter.executeOnShard(shardKey, () -> snapshotTransactionTemplate.execute(
+            status -> new SchoolSnapshot(readTables(REFERENCE_TABLES, schoolId), readTables(TICKET_TABLES, schoolId))));
+    }
+
+    private Map<ShardedTable, List<Map<String, Object>>> readTables(List<ShardedTable> tables, Long schoolId) {
+        Map<ShardedTable, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+        for (ShardedTable table : tables) {
+            rows.put(table, jdbcTemplate.queryForList(table.selectSql(), schoolId));
+        }
+        return rows;
+    }
+
+    /**
+     * 다시 복사할 수 있도록 대상 샤드에 있던 학교의 티켓 행을 지우고 스냅숏의 행을 넣습니다. 학교, 축제, 공연은 덮어씁니다.
+     */
+    private int copy(String targetShard, Long schoolId, SchoolSnapshot snapshot) {
+        return shardRouter.executeOnShard(targetShard, () -> transactionTemplate.execute(status -> {
+            snapshot.referenceRows().forEach((table, rows) -> insert(table, rows, true));
+            deleteInReverseOrder(TICKET_TABLES, schoolId);
+            int movedRowCount = 0;
+            for (Map.Entry<ShardedTable, List<Map<String, Object>>> entry : snapshot.ticketRows().entrySet()) {
+                insert(entry.getKey(), entry.getValue(), false);
+                movedRowCount += entry.getValue().size();
+            }
+            return movedRowCount;
+        }));
+    }
+
+    private void insert(ShardedTable table, List<Map<String, Object>> rows, boolean upsert) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = rows.get(0).keySet().stream()
+            .filter(column -> table.keepsId() || !column.equalsIgnoreCase("id"))
+            .toList();
+        List<Object[]> values = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            values.add(columns.stream()
+                .map(row::get)
+                .toArray());
+        }
+        jdbcTemplate.batchUpdate(insertSql(table.name(), columns, upsert), values);
+    }
+
+    private String insertSql(String table, List<String> columns, boolean upsert) {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+            + columns.stream().map(column -> "?").collect(joining(", ")) + ")";
+        if (!upsert) {
+            return sql;
+        }
+        return sql + " ON DUPLICATE KEY UPDATE " + columns.stream()
+            .map(column -> column + " = VALUES(" + column + ")")
+            .collect(joining(", "));
+    }
+
+    /**
+     * 하위 테이블의 조건이 상위 테이블을 참조하므로 티켓 테이블을 복사한 순서의 역순으로 먼저 지우고, 학교, 축제, 공연은 마지막에 지웁니다. 디렉터리 샤드의
+     * 학교, 축제, 공연은 지우지 않습니다. 조건에 맞는 행만 지우므로 여러 번 실행해도 결과가 같습니다.
+     */
+    private void delete(String sourceShard, Long schoolId) {
+        shardRouter.executeOnShard(sourceShard, () -> transactionTemplate.execute(status -> {
+            deleteInReverseOrder(TICKET_TABLES, schoolId);
+            if (!sourceShard.equals(properties.directoryShard())) {
+                deleteInReverseOrder(REFERENCE_TABLES, schoolId);
+            }
+            return null;
+        }));
+    }
+
+    private void deleteInReverseOrder(List<ShardedTable> tables, Long schoolId) {
+        for (int i = tables.size() - 1; i >= 0; i--) {
+            jdbcTemplate.update(tables.get(i).deleteSql(), schoolId);
+        }
+    }
+
+    private record ShardedTable(
+        String name,
+        String condition,
+        boolean keepsId
+    ) {
+
+        String selectSql() {
+            return "SELECT * FROM " + name + " WHERE " + condition;
+        }
+
+        String deleteSql() {
+            return "DELETE FROM " + name + " WHERE " + condition;
+        }
+
+        String deleteExceptSql(int idCount) {
+            if (idCount == 0) {
+                return deleteSql();
+            }
+            return deleteSql() + " AND id NOT IN (" + String.join(", ", Collections.nCopies(idCount, "?")) + ")";
+        }
+    }
+
+    private record SchoolSnapshot(
+        Map<ShardedTable, List<Map<String, Object>>> referenceRows,
+        Map<ShardedTable, List<Map<String, Object>>> ticketRows
+    ) {
+
+        /**
+         * 조회 순서는 보장되지 않으므로 테이블마다 행의 집합으로 비교합니다.
+         */
+        boolean isSameAs(SchoolSnapshot other) {
+            return isSameRows(referenceRows, other.referenceRows) && isSameRows(ticketRows, other.ticketRows);
+        }
+
+        private static boolean isSameRows(Map<ShardedTable, List<Map<String, Object>>> rows,
+                                          Map<ShardedTable, List<Map<String, Object>>> otherRows) {
+            for (Map.Entry<ShardedTable, List<Map<String, Object>>> entry : rows.entrySet()) {
+                List<Map<String, Object>> others = otherRows.get(entry.getKey());
+                if (entry.getValue().size() != others.size()
+                    || !new HashSet<>(entry.getValue()).equals(new HashSet<>(others))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.festago.sharding.application;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 학교의 티켓 데이터가 저장된 샤드에서 작업을 실행합니다. 작업은 트랜잭션 밖에서 호출하거나, 스스로 트랜잭션을 시작해야 합니다. 이미 다른 샤드에서 트랜잭션이
+ * 진행 중이면 작업은 새 트랜잭션에서 실행됩니다.
+ */
+public interface ShardRouter {
+
+    <T> T executeOnShard(String shardKey, Supplier<T> action);
+
+    <T> T executeOnSchool(Long schoolId, Supplier<T> action);
+
+    <T> T executeOnTicket(Long ticketId, Supplier<T> action);
+
+    /**
+     * 티켓이 속한 학교의 샤드를 찾습니다. 여러 티켓을 샤드마다 묶어서 한 번에 쓸 때 사용하며, executeOnTicket 과 같이 학교를 옮기는 중이면 예외가
+     * 발생합니다.
+     */
+    String findShardKeyByTicket(Long ticketId);
+
+    /**
+     * 멤버 티켓의 티켓이 속한 학교의 샤드에서 작업을 실행합니다. 멤버 티켓 식별자만 알고 있는 취소와 입장 처리에서 사용합니다.
+     */
+    <T> T executeOnMemberTicket(Long memberTicketId, Supplier<T> action);
+
+    /**
+     * 모든 샤드에서 작업을 실행하고 결과를 이어 붙입니다. 정렬과 페이징은 호출한 쪽에서 다시 적용해야 합니다.
+     */
+    <T> List<T> executeOnAllShards(Supplier<List<T>> action);
+}
@@ -0,0 +1,73 @@
+package com.festago.sharding.config;
+
+import com.festago.sharding.config.ShardingProperties.Shard;
+import com.festago.sharding.infrastructure.ShardIdRanges;
+import com.festago.sharding.infrastructure.ShardRoutingDataSource;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "festago.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final String SHARD_MIGRATION_LOCATION = "classpath:db/shard";
+    private static final String SHARD_MIGRATION_HISTORY_TABLE = "flyway_shard_schema_history";
+
+    @Bean
+    public ShardRoutingDataSource dataSource(ShardingProperties properties) {
+        Map<Object, Object> dataSources = new HashMap<>();
+        properties.shards().forEach((shardKey, shard) -> dataSources.put(shardKey, createDataSource(shard)));
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(dataSources);
+        routingDataSource.setDefaultTargetDataSource(dataSources.get(properties.directoryShard()));
+        routingDataSource.setLenientFallback(false);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    private DataSource createDataSource(Shard shard) {
+        return DataSourceBuilder.create()
+            .url(shard.url())
+            .username(shard.username())
+            .password(shard.password())
+            .driverClassName(shard.driverClassName())
+            .build();
+    }
+
+    /**
+     * 모든 샤드에 같은 스키마를 적용합니다. 디렉터리 샤드가 아닌 샤드에는 멤버가 없으므로, 멤버를 참조하는 외래 키를 지우는 샤드 전용 마이그레이션을 별도의
+     * 이력 테이블로 추가 적용합니다.
+     */
+    @Bean
+    public FlywayMigrationStrategy shardFlywayMigrationStrategy(ShardingProperties properties,
+                                                                ShardRoutingDataSource dataSource) {
+        return flyway -> properties.shards().forEach((shardKey, shard) -> {
+            DataSource shardDataSource = dataSource.getResolvedDataSources().get(shardKey);
+            Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(shardDataSource)
+                .load()
+                .migrate();
+            if (!shardKey.equals(properties.directoryShard())) {
+                Flyway.configure()
+                    .dataSource(shardDataSource)
+                    .locations(SHARD_MIGRATION_LOCATION)
+                    .table(SHARD_MIGRATION_HISTORY_TABLE)
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0")
+                    .load()
+                    .migrate();
+            }
+            ShardIdRanges.apply(shardDataSource, shard.idOffset());
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.festago.sharding.config;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 샤드마다 별도의 데이터소스 설정을 가집니다. directoryShard 는 멤버, 학교처럼 샤딩하지 않는 데이터와 학교별 샤드 배치를 저장하는 샤드입니다.
+ * <p>
+ * 샤드마다 idOffset 부터 서로 겹치지 않는 식별자를 발급하므로, 학교를 다른 샤드로 옮겨도 식별자가 충돌하지 않습니다.
+ */
+@ConfigurationProperties(prefix = "festago.sharding")
+public record ShardingProperties(
+    String directoryShard,
+    Map<String, Shard> shards
+) {
+
+    public record Shard(
+        String url,
+        String username,
+        String password,
+        String driverClassName,
+        long idOffset
+    ) {
+
+    }
+}
@@ -0,0 +1,62 @@
+package com.festago.sharding.domain;
+
+import com.festago.common.domain.BaseTimeEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학교의 축제, 공연, 티켓, 멤버 티켓이 저장된 샤드입니다. 배치가 없는 학교는 디렉터리 샤드에 저장됩니다. 다른 샤드로 옮기는 동안에는 migrating 으로
+ * 표시해서 예매를 받지 않습니다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchoolShard extends BaseTimeEntity {
+
+    @Id
+    private Long schoolId;
+
+    @NotNull
+    private String shardKey;
+
+    private boolean migrating;
+
+    public SchoolShard(Long schoolId, String shardKey) {
+        validate(schoolId, shardKey);
+        this.schoolId = schoolId;
+        this.shardKey = shardKey;
+    }
+
+    private void validate(Long schoolId, String shardKey) {
+        if (schoolId == null || shardKey == null) {
+            throw new IllegalArgumentException("SchoolShard 는 허용되지 않은 null 값으로 생성할 수 없습니다.");
+        }
+    }
+
+    public void startMigration() {
+        this.migrating = true;
+    }
+
+    public void completeMigration(String shardKey) {
+        this.shardKey = shardKey;
+        this.migrating = false;
+    }
+
+    public void cancelMigration() {
+        this.migrating = false;
+    }
+
+    public Long getSchoolId() {
+        return schoolId;
+    }
+
+    public String getShardKey() {
+        return shardKey;
+    }
+
+    public boolean isMigrating() {
+        return migrating;
+    }
+}
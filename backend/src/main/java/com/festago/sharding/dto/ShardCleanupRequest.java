@@ -0,0 +1,13 @@
+package com.festago.sharding.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record ShardCleanupRequest(
+    @NotNull(message = "schoolId는 null 일 수 없습니다.")
+    Long schoolId,
+    @NotBlank(message = "sourceShard는 공백일 수 없습니다.")
+    String sourceShard
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.festago.sharding.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record ShardMigrationRequest(
+    @NotNull(message = "schoolId는 null 일 수 없습니다.")
+    Long schoolId,
+    @NotBlank(message = "targetShard는 공백일 수 없습니다.")
+    String targetShard
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.festago.sharding.dto;
+
+public record ShardMigrationResponse(
+    Long schoolId,
+    String sourceShard,
+    String targetShard,
+    int movedRowCount,
+    boolean sourceCleaned) {
+
+}
@@ -0,0 +1,147 @@
+package com.festago.sharding.infrastructure;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.common.exception.ServiceUnavailableException;
+import com.festago.sharding.application.SchoolShardMap;
+import com.festago.sharding.application.ShardRouter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 학교별 샤드 배치에 따라 ShardContext 를 바꿔서 작업을 실행합니다. 티켓의 학교는 바뀌지 않으므로 티켓 식별자로 찾은 학교는 한 번만 조회해서 기억합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.sharding.enabled", havingValue = "true")
+public class SchoolShardRouter implements ShardRouter {
+
+    private static final String FIND_SCHOOL_ID_SQL = "SELECT school_id FROM ticket WHERE id = ?";
+    private static final String FIND_SCHOOL_ID_BY_MEMBER_TICKET_SQL = """
+        SELECT t.school_id
+        FROM member_ticket mt
+        JOIN ticket t ON t.stage_id = mt.stage_id AND t.ticket_type = mt.ticket_type
+        WHERE mt.id = ?
+        """;
+
+    private final Map<Long, Long> schoolIdsByTicketId = new ConcurrentHashMap<>();
+    private final SchoolShardMap schoolShardMap;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final long migratingRetryAfterSeconds;
+
+    public SchoolShardRouter(SchoolShardMap schoolShardMap,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${festago.sharding.migrating-retry-after-seconds:5}")
+                             long migratingRetryAfterSeconds) {
+        this.schoolShardMap = schoolShardMap;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.migratingRetryAfterSeconds = migratingRetryAfterSeconds;
+    }
+
+    @Override
+    public <T> T executeOnShard(String shardKey, Supplier<T> action) {
+        schoolShardMap.validateShardKey(shardKey);
+        return execute(shardKey, action);
+    }
+
+    @Override
+    public <T> T executeOnSchool(Long schoolId, Supplier<T> action) {
+        return execute(findShardKeyBySchool(schoolId), action);
+    }
+
+    private String findShardKeyBySchool(Long schoolId) {
+        if (schoolShardMap.isMigrating(schoolId)) {
+            throw new ServiceUnavailableException(ErrorCode.TICKETING_SHARD_MIGRATING, migratingRetryAfterSeconds);
+        }
+        return schoolShardMap.findShardKey(schoolId);
+    }
+
+    @Override
+    public <T> T executeOnTicket(Long ticketId, Supplier<T> action) {
+        return executeOnSchool(findSchoolId(ticketId), action);
+    }
+
+    @Override
+    public String findShardKeyByTicket(Long ticketId) {
+        return findShardKeyBySchool(findSchoolId(ticketId));
+    }
+
+    private Long findSchoolId(Long ticketId) {
+        Long cached = schoolIdsByTicketId.get(ticketId);
+        if (cached != null) {
+            return cached;
+        }
+        Long schoolId = findSchoolIdOnAnyShard(FIND_SCHOOL_ID_SQL, ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        schoolIdsByTicketId.put(ticketId, schoolId);
+        return schoolId;
+    }
+
+    /**
+     * 멤버 티켓은 취소되면 삭제되므로 학교를 기억하지 않고 매번 찾습니다. 학교를 옮긴 뒤 원본 샤드를 지우기 전에는 두 샤드에서 찾아지지만 학교는 같습니다.
+     */
+    @Override
+    public <T> T executeOnMemberTicket(Long memberTicketId, Supplier<T> action) {
+        Long schoolId = findSchoolIdOnAnyShard(FIND_SCHOOL_ID_BY_MEMBER_TICKET_SQL, memberTicketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_TICKET_NOT_FOUND));
+        return executeOnSchool(schoolId, action);
+    }
+
+    private Optional<Long> findSchoolIdOnAnyShard(String sql, Long id) {
+        for (String shardKey : schoolShardMap.getShardKeys()) {
+            List<Long> schoolIds = execute(shardKey, () -> jdbcTemplate.queryForList(sql, Long.class, id));
+            if (!schoolIds.isEmpty()) {
+                return Optional.of(schoolIds.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public <T> List<T> executeOnAllShards(Supplier<List<T>> action) {
+        List<T> results = new ArrayList<>();
+        for (String shardKey : schoolShardMap.getShardKeys()) {
+            results.addAll(execute(shardKey, action));
+        }
+        return results;
+    }
+
+    /**
+     * 트랜잭션의 커넥션은 바꿀 수 없으므로, 다른 샤드에서 트랜잭션이 진행 중이면 그 트랜잭션을 잠시 멈추고 새 트랜잭션에서 실행합니다.
+     */
+    private <T> T execute(String shardKey, Supplier<T> action) {
+        if (Objects.equals(currentShardKey(), shardKey)) {
+            return action.get();
+        }
+        return ShardContext.callWith(shardKey, () -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                return newTransactionTemplate.execute(status -> action.get());
+            }
+            return action.get();
+        });
+    }
+
+    private String currentShardKey() {
+        String current = ShardContext.current();
+        if (current == null) {
+            return schoolShardMap.getDirectoryShard();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,32 @@
+package com.festago.sharding.infrastructure;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 접근할 샤드를 담습니다. 값이 없으면 디렉터리 샤드에 접근합니다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callWith(String shardKey, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(shardKey);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
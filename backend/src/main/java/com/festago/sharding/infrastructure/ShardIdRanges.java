@@ -0,0 +1,43 @@
+package com.festago.sharding.infrastructure;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 샤드마다 id_generator 의 시작 값을 idOffset 이상으로 맞춥니다. pooled optimizer 는 한 샤드에서 받은 식별자 블록을 다른 샤드의 저장에도 사용하므로,
+ * 샤드별 식별자 범위가 겹치지 않아야 전체 샤드에서 식별자가 유일합니다. pooled optimizer 는 next_val 을 할당 블록의 상한으로 사용하므로
+ * allocationSize 보다 크게 시작합니다.
+ */
+public final class ShardIdRanges {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final List<String> SEQUENCE_NAMES = List.of("member_ticket", "ticket", "ticket_entry_time");
+    private static final String RAISE_SQL = """
+        UPDATE id_generator
+        SET next_val = ?
+        WHERE sequence_name = ?
+        AND next_val < ?
+        """;
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM id_generator WHERE sequence_name = ?";
+    private static final String INSERT_SQL = "INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?)";
+
+    private ShardIdRanges() {
+    }
+
+    public static void apply(DataSource dataSource, long idOffset) {
+        if (idOffset <= 0) {
+            return;
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long nextValue = idOffset + ALLOCATION_SIZE + 1;
+        for (String sequenceName : SEQUENCE_NAMES) {
+            Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, sequenceName);
+            if (count == null || count == 0) {
+                jdbcTemplate.update(INSERT_SQL, sequenceName, nextValue);
+                continue;
+            }
+            jdbcTemplate.update(RAISE_SQL, nextValue, sequenceName, nextValue);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.festago.sharding.infrastructure;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 커넥션을 얻는 시점의 ShardContext 로 샤드를 고릅니다. 트랜잭션은 시작할 때 커넥션을 얻으므로, 트랜잭션 안에서는 샤드를 바꿀 수 없습니다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
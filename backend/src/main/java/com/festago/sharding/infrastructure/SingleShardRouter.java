@@ -0,0 +1,44 @@
+package com.festago.sharding.infrastructure;
+
+import com.festago.sharding.application.ShardRouter;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "festago.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class SingleShardRouter implements ShardRouter {
+
+    private static final String SHARD_KEY = "single";
+
+    @Override
+    public <T> T executeOnShard(String shardKey, Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> T executeOnSchool(Long schoolId, Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> T executeOnTicket(Long ticketId, Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public String findShardKeyByTicket(Long ticketId) {
+        return SHARD_KEY;
+    }
+
+    @Override
+    public <T> T executeOnMemberTicket(Long memberTicketId, Supplier<T> action) {
+        return action.get();
+    }
+
+    @Override
+    public <T> List<T> executeOnAllShards(Supplier<List<T>> action) {
+        return action.get();
+    }
+}
@@ -0,0 +1,8 @@
+package com.festago.sharding.repository;
+
+import com.festago.sharding.domain.SchoolShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SchoolShardRepository extends JpaRepository<SchoolShard, Long> {
+
+}
@@ -5,12 +5,15 @@ import com.festago.common.exception.ErrorCode;
 import com.festago.common.exception.NotFoundException;
 import com.festago.festival.domain.Festival;
 import com.festago.festival.repository.FestivalRepository;
+import com.festago.school.dto.event.SchoolDataChangedEvent;
 import com.festago.stage.domain.Stage;
 import com.festago.stage.dto.StageCreateRequest;
 import com.festago.stage.dto.StageResponse;
 import com.festago.stage.dto.StageUpdateRequest;
+import com.festago.stage.dto.event.StageChangedEvent;
 import com.festago.stage.repository.StageRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +25,7 @@ public class StageService {
 
     private final StageRepository stageRepository;
     private final FestivalRepository festivalRepository;
+    private final ApplicationEventPublisher publisher;
 
     public StageResponse create(StageCreateRequest request) {
         Festival festival = findFestival(request.festivalId());
@@ -30,6 +34,7 @@ public class StageService {
             request.lineUp(),
             request.ticketOpenTime(),
             festival));
+        publisher.publishEvent(new SchoolDataChangedEvent(festival.getSchool().getId()));
 
         return StageResponse.from(newStage);
     }
@@ -53,12 +58,18 @@ public class StageService {
         Stage stage = findStage(stageId);
         stage.changeTime(request.startTime(), request.ticketOpenTime());
         stage.changeLineUp(request.lineUp());
+        publisher.publishEvent(new StageChangedEvent(stageId));
+        publisher.publishEvent(new SchoolDataChangedEvent(stage.getFestival().getSchool().getId()));
     }
 
     public void delete(Long stageId) {
+        Long schoolId = stageRepository.findSchoolIdById(stageId)
+            .orElse(null);
         try {
             stageRepository.deleteById(stageId);
             stageRepository.flush();
+            publisher.publishEvent(new StageChangedEvent(stageId));
+            publisher.publishEvent(new SchoolDataChangedEvent(schoolId));
         } catch (DataIntegrityViolationException e) {
             throw new BadRequestException(ErrorCode.DELETE_CONSTRAINT_STAGE);
         }
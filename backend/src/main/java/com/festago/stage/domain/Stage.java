@@ -11,8 +11,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
@@ -23,6 +25,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.util.Assert;
 
 @Entity
+@Table(indexes = @Index(name = "index_stage_festival_start_time", columnList = "festival_id, start_time"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Stage extends BaseTimeEntity {
 
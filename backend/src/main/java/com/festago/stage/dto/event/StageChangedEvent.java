@@ -0,0 +1,7 @@
+package com.festago.stage.dto.event;
+
+public record StageChangedEvent(
+    Long stageId
+) {
+
+}
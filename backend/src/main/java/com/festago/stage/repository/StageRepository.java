@@ -24,4 +24,7 @@ public interface StageRepository extends JpaRepository<Stage, Long> {
         WHERE s.id = :id
         """)
     Optional<Stage> findByIdWithFetch(@Param("id") Long id);
+
+    @Query("SELECT f.school.id FROM Stage s JOIN s.festival f WHERE s.id = :id")
+    Optional<Long> findSchoolIdById(@Param("id") Long id);
 }
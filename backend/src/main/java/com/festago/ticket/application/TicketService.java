@@ -2,7 +2,9 @@ package com.festago.ticket.application;
 
 import com.festago.common.exception.ErrorCode;
 import com.festago.common.exception.NotFoundException;
+import com.festago.common.exception.TooManyRequestException;
 import com.festago.school.domain.School;
+import com.festago.sharding.application.ShardRouter;
 import com.festago.stage.domain.Stage;
 import com.festago.stage.repository.StageRepository;
 import com.festago.ticket.domain.Ticket;
@@ -10,13 +12,22 @@ import com.festago.ticket.domain.TicketType;
 import com.festago.ticket.dto.StageTicketsResponse;
 import com.festago.ticket.dto.TicketCreateRequest;
 import com.festago.ticket.dto.TicketCreateResponse;
+import com.festago.ticket.dto.event.TicketAmountChangedEvent;
 import com.festago.ticket.repository.TicketRepository;
+import com.festago.ticketing.application.TicketingRetryPolicy;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 공연의 학교는 디렉터리 샤드에서 찾고, 티켓은 학교의 샤드에서 만들고 조회합니다. 학교를 옮긴 뒤 추가된 공연은 커밋될 때 학교의 샤드에도 복사됩니다.
+ */
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -25,8 +36,31 @@ public class TicketService {
     private final TicketRepository ticketRepository;
     private final StageRepository stageRepository;
     private final Clock clock;
+    private final ApplicationEventPublisher publisher;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final TicketingRetryPolicy ticketingRetryPolicy;
 
+    /**
+     * 티켓 수량은 예매와 같은 버전으로 보호되므로, 판매 중에 수량을 늘리면 커밋에서 충돌할 수 있습니다. 충돌하면 새 트랜잭션에서 다시 시도합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TicketCreateResponse create(TicketCreateRequest request) {
+        Long schoolId = findSchoolIdByStageId(request.stageId());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return shardRouter.executeOnSchool(schoolId,
+                    () -> transactionTemplate.execute(status -> createOnShard(request)));
+            } catch (OptimisticLockingFailureException e) {
+                if (!ticketingRetryPolicy.canRetry(attempt)) {
+                    throw new TooManyRequestException(ErrorCode.TICKET_AMOUNT_CONFLICT);
+                }
+                ticketingRetryPolicy.backoff(attempt);
+            }
+        }
+    }
+
+    private TicketCreateResponse createOnShard(TicketCreateRequest request) {
         Stage stage = findStageById(request.stageId());
         TicketType ticketType = request.ticketType();
         School school = stage.getFestival().getSchool();
@@ -34,11 +68,21 @@ public class TicketService {
         Ticket ticket = ticketRepository.findByTicketTypeAndStage(ticketType, stage)
             .orElseGet(() -> ticketRepository.save(new Ticket(stage, ticketType, school)));
 
-        ticket.addTicketEntryTime(LocalDateTime.now(clock), request.entryTime(), request.amount());
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (request.saleType() != null) {
+            ticket.changeSaleType(now, request.saleType());
+        }
+        ticket.addTicketEntryTime(now, request.entryTime(), request.amount());
+        publisher.publishEvent(new TicketAmountChangedEvent(ticket.getId()));
 
         return TicketCreateResponse.from(ticket);
     }
 
+    private Long findSchoolIdByStageId(Long stageId) {
+        return stageRepository.findSchoolIdById(stageId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.STAGE_NOT_FOUND));
+    }
+
     private Stage findStageById(Long stageId) {
         return stageRepository.findByIdWithFetch(stageId)
             .orElseThrow(() -> new NotFoundException(ErrorCode.STAGE_NOT_FOUND));
@@ -46,6 +90,8 @@ public class TicketService {
 
     @Transactional(readOnly = true)
     public StageTicketsResponse findStageTickets(Long stageId) {
-        return StageTicketsResponse.from(ticketRepository.findAllByStageId(stageId));
+        Long schoolId = findSchoolIdByStageId(stageId);
+        return shardRouter.executeOnSchool(schoolId,
+            () -> StageTicketsResponse.from(ticketRepository.findAllDetailByStageId(stageId)));
     }
 }
@@ -0,0 +1,98 @@
+package com.festago.ticket.application;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.stage.dto.event.StageChangedEvent;
+import com.festago.ticket.domain.EntryTimeSchedule;
+import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.domain.TicketSnapshot;
+import com.festago.ticket.dto.event.TicketAmountChangedEvent;
+import com.festago.ticket.repository.TicketRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 오픈된 티켓의 TicketSnapshot 을 캐시합니다. 오픈 전의 티켓은 입장 시간이 추가될 수 있으므로 매번 조회합니다.
+ * <p>
+ * 같은 노드의 변경은 이벤트로 즉시 무효화하고, 다른 노드의 변경은 TTL 이 지나면 반영됩니다.
+ */
+@Component
+public class TicketSnapshotCache {
+
+    private final Map<Long, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final TicketRepository ticketRepository;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maximumSize;
+
+    public TicketSnapshotCache(TicketRepository ticketRepository,
+                               Clock clock,
+                               @Value("${festago.ticketing.snapshot.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${festago.ticketing.snapshot.maximum-size:1000}") int maximumSize) {
+        this.ticketRepository = ticketRepository;
+        this.clock = clock;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.maximumSize = maximumSize;
+    }
+
+    public TicketSnapshot get(Long ticketId) {
+        long now = clock.millis();
+        CachedSnapshot cached = snapshots.get(ticketId);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached.snapshot();
+        }
+        TicketSnapshot snapshot = load(ticketId);
+        if (snapshot.isTicketOpened(LocalDateTime.now(clock))) {
+            put(ticketId, new CachedSnapshot(snapshot, now + ttlMillis));
+        }
+        return snapshot;
+    }
+
+    private TicketSnapshot load(Long ticketId) {
+        Ticket ticket = ticketRepository.findByIdWithStage(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        EntryTimeSchedule entryTimeSchedule = EntryTimeSchedule.from(
+            ticketRepository.findTicketEntryTimesByTicketId(ticketId));
+        return TicketSnapshot.of(ticket, entryTimeSchedule);
+    }
+
+    private void put(Long ticketId, CachedSnapshot cached) {
+        if (snapshots.size() >= maximumSize) {
+            evictOldest();
+        }
+        snapshots.put(ticketId, cached);
+    }
+
+    private void evictOldest() {
+        snapshots.entrySet().stream()
+            .min(Comparator.comparingLong(entry -> entry.getValue().expiredAt()))
+            .ifPresent(entry -> snapshots.remove(entry.getKey(), entry.getValue()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(TicketAmountChangedEvent event) {
+        snapshots.remove(event.ticketId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(StageChangedEvent event) {
+        snapshots.values().removeIf(cached -> cached.snapshot().getStageId().equals(event.stageId()));
+    }
+
+    private record CachedSnapshot(
+        TicketSnapshot snapshot,
+        long expiredAt) {
+
+        boolean isExpired(long now) {
+            return expiredAt <= now;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.festago.ticket.domain;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 티켓의 입장 시간별 수량을 누적 합 배열로 컴파일한 불변 객체입니다. 예매 번호에 해당하는 입장 시간을 이분 탐색으로 찾고, 입장 시간 ID 의 구간은 ID 로 바로 찾습니다.
+ */
+public class EntryTimeSchedule {
+
+    private final int[] cumulativeAmounts;
+    private final LocalDateTime[] entryTimes;
+    private final Map<Long, Integer> indexesByEntryTimeId;
+
+    private EntryTimeSchedule(int[] cumulativeAmounts, LocalDateTime[] entryTimes,
+                              Map<Long, Integer> indexesByEntryTimeId) {
+        this.cumulativeAmounts = cumulativeAmounts;
+        this.entryTimes = entryTimes;
+        this.indexesByEntryTimeId = indexesByEntryTimeId;
+    }
+
+    public static EntryTimeSchedule from(Collection<TicketEntryTime> ticketEntryTimes) {
+        List<TicketEntryTime> sorted = ticketEntryTimes.stream()
+            .sorted(Comparator.comparing(TicketEntryTime::getEntryTime))
+            .toList();
+        int[] cumulativeAmounts = new int[sorted.size()];
+        LocalDateTime[] entryTimes = new LocalDateTime[sorted.size()];
+        Map<Long, Integer> indexesByEntryTimeId = new HashMap<>();
+        int cumulativeAmount = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            TicketEntryTime ticketEntryTime = sorted.get(i);
+            cumulativeAmount += ticketEntryTime.getAmount();
+            cumulativeAmounts[i] = cumulativeAmount;
+            entryTimes[i] = ticketEntryTime.getEntryTime();
+            if (ticketEntryTime.getId() != null) {
+                indexesByEntryTimeId.put(ticketEntryTime.getId(), i);
+            }
+        }
+        return new EntryTimeSchedule(cumulativeAmounts, entryTimes, Map.copyOf(indexesByEntryTimeId));
+    }
+
+    public LocalDateTime findEntryTime(int reservationSequence) {
+        if (reservationSequence > getTotalAmount()) {
+            throw new BadRequestException(ErrorCode.TICKET_SOLD_OUT);
+        }
+        int index = Arrays.binarySearch(cumulativeAmounts, reservationSequence);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return entryTimes[index];
+    }
+
+    /**
+     * 입장 시간 안에서 몇 번째 예매인지를 전체 예매 번호로 바꿉니다. 입장 시간마다 전체 예매 번호의 구간이 정해져 있으므로, 입장 시간을 골라 예매해도 예매 번호가 겹치지
+     * 않습니다.
+     */
+    public int findReservationSequence(Long entryTimeId, int slotSequence) {
+        int index = findIndex(entryTimeId);
+        int startSequence = index == 0 ? 1 : cumulativeAmounts[index - 1] + 1;
+        int reservationSequence = startSequence + slotSequence - 1;
+        if (slotSequence <= 0 || reservationSequence > cumulativeAmounts[index]) {
+            throw new BadRequestException(ErrorCode.TICKET_ENTRY_TIME_SOLD_OUT);
+        }
+        return reservationSequence;
+    }
+
+    private int findIndex(Long entryTimeId) {
+        Integer index = entryTimeId == null ? null : indexesByEntryTimeId.get(entryTimeId);
+        if (index == null) {
+            throw new NotFoundException(ErrorCode.TICKET_ENTRY_TIME_NOT_FOUND);
+        }
+        return index;
+    }
+
+    public int getTotalAmount() {
+        if (cumulativeAmounts.length == 0) {
+            return 0;
+        }
+        return cumulativeAmounts[cumulativeAmounts.length - 1];
+    }
+}
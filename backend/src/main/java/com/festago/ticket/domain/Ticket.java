@@ -15,10 +15,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -26,16 +30,29 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SortNatural;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "index_ticket_stage_type", columnList = "stage_id, ticket_type"),
+    @Index(name = "index_ticket_sale_type_drawn_at", columnList = "sale_type, drawn_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Ticket extends BaseTimeEntity {
 
     private static final int EARLY_ENTRY_LIMIT = 12;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ticket_id_generator")
+    @TableGenerator(
+        name = "ticket_id_generator",
+        table = "id_generator",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "ticket",
+        allocationSize = 50
+    )
     private Long id;
 
     @NotNull
@@ -49,6 +66,13 @@ public class Ticket extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private TicketType ticketType;
 
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'FIRST_COME'")
+    private TicketSaleType saleType = TicketSaleType.FIRST_COME;
+
+    private LocalDateTime drawnAt;
+
     @OneToOne(mappedBy = "ticket", optional = false, fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     private TicketAmount ticketAmount;
 
@@ -57,6 +81,9 @@ public class Ticket extends BaseTimeEntity {
     @SortNatural
     private SortedSet<TicketEntryTime> ticketEntryTimes = new TreeSet<>();
 
+    @Transient
+    private EntryTimeSchedule entryTimeSchedule;
+
     public Ticket(Stage stage, TicketType ticketType, School school) {
         this(null, stage, ticketType, school);
     }
@@ -94,6 +121,7 @@ public class Ticket extends BaseTimeEntity {
         TicketEntryTime ticketEntryTime = new TicketEntryTime(entryTime, amount);
         ticketAmount.addTotalAmount(amount);
         ticketEntryTimes.add(ticketEntryTime);
+        entryTimeSchedule = null;
     }
 
     private void validateEntryTime(LocalDateTime currentTime, LocalDateTime entryTime) {
@@ -113,23 +141,55 @@ public class Ticket extends BaseTimeEntity {
         }
     }
 
+    public void changeSaleType(LocalDateTime currentTime, TicketSaleType saleType) {
+        if (!currentTime.isBefore(stage.getTicketOpenTime())) {
+            throw new BadRequestException(ErrorCode.INVALID_TICKET_CREATE_TIME);
+        }
+        this.saleType = saleType;
+    }
+
+    public void validateLotteryApplication(LocalDateTime currentTime) {
+        if (!isLottery()) {
+            throw new BadRequestException(ErrorCode.NOT_LOTTERY_TICKET);
+        }
+        if (!currentTime.isBefore(stage.getTicketOpenTime())) {
+            throw new BadRequestException(ErrorCode.LOTTERY_APPLICATION_CLOSED);
+        }
+    }
+
+    /**
+     * 응모는 티켓 오픈 시간까지 받고, 추첨은 티켓 오픈 시간 이후 한 번만 진행합니다.
+     */
+    public void draw(LocalDateTime currentTime) {
+        if (!isLottery()) {
+            throw new BadRequestException(ErrorCode.NOT_LOTTERY_TICKET);
+        }
+        if (drawnAt != null) {
+            throw new BadRequestException(ErrorCode.LOTTERY_ALREADY_DRAWN);
+        }
+        if (currentTime.isBefore(stage.getTicketOpenTime())) {
+            throw new BadRequestException(ErrorCode.LOTTERY_DRAW_NOT_STARTED);
+        }
+        this.drawnAt = currentTime;
+    }
+
+    public boolean isLottery() {
+        return saleType == TicketSaleType.LOTTERY;
+    }
+
     public MemberTicket createMemberTicket(Member member, int reservationSequence, LocalDateTime currentTime) {
         if (stage.isStart(currentTime)) {
             throw new BadRequestException(ErrorCode.TICKET_CANNOT_RESERVE_STAGE_START);
         }
-        LocalDateTime entryTime = calculateEntryTime(reservationSequence);
+        LocalDateTime entryTime = getEntryTimeSchedule().findEntryTime(reservationSequence);
         return new MemberTicket(member, stage, reservationSequence, entryTime, ticketType);
     }
 
-    private LocalDateTime calculateEntryTime(int reservationSequence) {
-        int lastSequence = 0;
-        for (TicketEntryTime ticketEntryTime : ticketEntryTimes) {
-            lastSequence += ticketEntryTime.getAmount();
-            if (reservationSequence <= lastSequence) {
-                return ticketEntryTime.getEntryTime();
-            }
+    public EntryTimeSchedule getEntryTimeSchedule() {
+        if (entryTimeSchedule == null) {
+            entryTimeSchedule = EntryTimeSchedule.from(ticketEntryTimes);
         }
-        throw new BadRequestException(ErrorCode.TICKET_SOLD_OUT);
+        return entryTimeSchedule;
     }
 
     public Long getId() {
@@ -148,6 +208,14 @@ public class Ticket extends BaseTimeEntity {
         return ticketType;
     }
 
+    public TicketSaleType getSaleType() {
+        return saleType;
+    }
+
+    public LocalDateTime getDrawnAt() {
+        return drawnAt;
+    }
+
     public TicketAmount getTicketAmount() {
         return ticketAmount;
     }
@@ -9,10 +9,14 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @NoArgsConstructor
 public class TicketAmount extends BaseTimeEntity {
 
@@ -25,6 +29,10 @@ public class TicketAmount extends BaseTimeEntity {
     @Min(value = 0)
     private int totalAmount = 0;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @OneToOne(fetch = FetchType.LAZY)
     @MapsId
     @JoinColumn(name = "ticket_id")
@@ -52,6 +60,18 @@ public class TicketAmount extends BaseTimeEntity {
         reservedAmount++;
     }
 
+    public int allocateReservedAmount(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("할당할 예매 수량은 양수여야 합니다.");
+        }
+        if (reservedAmount >= totalAmount) {
+            throw new BadRequestException(ErrorCode.TICKET_SOLD_OUT);
+        }
+        int allocatedAmount = Math.min(amount, totalAmount - reservedAmount);
+        reservedAmount += allocatedAmount;
+        return allocatedAmount;
+    }
+
     public void addTotalAmount(int amount) {
         totalAmount += amount;
     }
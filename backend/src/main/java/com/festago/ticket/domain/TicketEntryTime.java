@@ -7,11 +7,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -20,7 +22,15 @@ public class TicketEntryTime extends BaseTimeEntity implements Comparable<Ticket
     private static final int MIN_TOTAL_AMOUNT = 1;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ticket_entry_time_id_generator")
+    @TableGenerator(
+        name = "ticket_entry_time_id_generator",
+        table = "id_generator",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "ticket_entry_time",
+        allocationSize = 50
+    )
     private Long id;
 
     @NotNull
@@ -29,6 +39,10 @@ public class TicketEntryTime extends BaseTimeEntity implements Comparable<Ticket
     @Min(value = 0)
     private int amount;
 
+    @Min(value = 0)
+    @ColumnDefault("0")
+    private int reservedAmount = 0;
+
     public TicketEntryTime(LocalDateTime entryTime, int amount) {
         this(null, entryTime, amount);
     }
@@ -76,6 +90,10 @@ public class TicketEntryTime extends BaseTimeEntity implements Comparable<Ticket
         return amount;
     }
 
+    public int getReservedAmount() {
+        return reservedAmount;
+    }
+
     @Override
     public int compareTo(TicketEntryTime o) {
         return entryTime.compareTo(o.getEntryTime());
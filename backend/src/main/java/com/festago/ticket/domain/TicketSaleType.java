@@ -0,0 +1,6 @@
+package com.festago.ticket.domain;
+
+public enum TicketSaleType {
+    FIRST_COME,
+    LOTTERY
+}
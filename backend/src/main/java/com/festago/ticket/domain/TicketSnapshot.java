@@ -0,0 +1,105 @@
+package com.festago.ticket.domain;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.member.domain.Member;
+import com.festago.stage.domain.Stage;
+import com.festago.ticketing.domain.MemberTicket;
+import java.time.LocalDateTime;
+
+/**
+ * 예매에 필요한 티켓 정보를 담은 불변 객체입니다. 티켓 오픈 이후에는 입장 시간을 변경할 수 없으므로 캐시해서 재사용할 수 있습니다.
+ */
+public class TicketSnapshot {
+
+    private final Long ticketId;
+    private final Long stageId;
+    private final TicketType ticketType;
+    private final TicketSaleType saleType;
+    private final Long schoolId;
+    private final LocalDateTime stageStartTime;
+    private final LocalDateTime ticketOpenTime;
+    private final EntryTimeSchedule entryTimeSchedule;
+
+    public TicketSnapshot(Long ticketId, Long stageId, TicketType ticketType, TicketSaleType saleType, Long schoolId,
+                          LocalDateTime stageStartTime, LocalDateTime ticketOpenTime,
+                          EntryTimeSchedule entryTimeSchedule) {
+        validate(ticketId, stageId, ticketType, saleType, stageStartTime, ticketOpenTime, entryTimeSchedule);
+        this.ticketId = ticketId;
+        this.stageId = stageId;
+        this.ticketType = ticketType;
+        this.saleType = saleType;
+        this.schoolId = schoolId;
+        this.stageStartTime = stageStartTime;
+        this.ticketOpenTime = ticketOpenTime;
+        this.entryTimeSchedule = entryTimeSchedule;
+    }
+
+    private void validate(Long ticketId, Long stageId, TicketType ticketType, TicketSaleType saleType,
+                          LocalDateTime stageStartTime, LocalDateTime ticketOpenTime,
+                          EntryTimeSchedule entryTimeSchedule) {
+        if (ticketId == null ||
+            stageId == null ||
+            ticketType == null ||
+            saleType == null ||
+            stageStartTime == null ||
+            ticketOpenTime == null ||
+            entryTimeSchedule == null) {
+            throw new IllegalArgumentException("TicketSnapshot 은 허용되지 않은 null 값으로 생성할 수 없습니다.");
+        }
+    }
+
+    public static TicketSnapshot of(Ticket ticket, EntryTimeSchedule entryTimeSchedule) {
+        Stage stage = ticket.getStage();
+        return new TicketSnapshot(ticket.getId(), stage.getId(), ticket.getTicketType(), ticket.getSaleType(),
+            ticket.getSchoolId(),
+            stage.getStartTime(), stage.getTicketOpenTime(), entryTimeSchedule);
+    }
+
+    public MemberTicket createMemberTicket(Member member, Stage stage, int reservationSequence,
+                                           LocalDateTime currentTime) {
+        if (currentTime.isAfter(stageStartTime)) {
+            throw new BadRequestException(ErrorCode.TICKET_CANNOT_RESERVE_STAGE_START);
+        }
+        LocalDateTime entryTime = entryTimeSchedule.findEntryTime(reservationSequence);
+        return new MemberTicket(member, stage, reservationSequence, entryTime, ticketType);
+    }
+
+    public void validateReservable() {
+        if (saleType == TicketSaleType.LOTTERY) {
+            throw new BadRequestException(ErrorCode.LOTTERY_TICKET_NOT_RESERVABLE);
+        }
+    }
+
+    public int findReservationSequence(Long entryTimeId, int slotSequence) {
+        return entryTimeSchedule.findReservationSequence(entryTimeId, slotSequence);
+    }
+
+    public boolean isLastSequence(int reservationSequence) {
+        return reservationSequence >= entryTimeSchedule.getTotalAmount();
+    }
+
+    public boolean isTicketOpened(LocalDateTime currentTime) {
+        return !currentTime.isBefore(ticketOpenTime);
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getStageId() {
+        return stageId;
+    }
+
+    public TicketType getTicketType() {
+        return ticketType;
+    }
+
+    public Long getSchoolId() {
+        return schoolId;
+    }
+
+    public LocalDateTime getStageStartTime() {
+        return stageStartTime;
+    }
+}
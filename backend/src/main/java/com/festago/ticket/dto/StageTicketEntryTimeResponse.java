@@ -0,0 +1,20 @@
+package com.festago.ticket.dto;
+
+import com.festago.ticket.domain.TicketEntryTime;
+import java.time.LocalDateTime;
+
+public record StageTicketEntryTimeResponse(
+    Long id,
+    LocalDateTime entryTime,
+    Integer totalAmount,
+    Integer remainAmount) {
+
+    public static StageTicketEntryTimeResponse from(TicketEntryTime ticketEntryTime) {
+        return new StageTicketEntryTimeResponse(
+            ticketEntryTime.getId(),
+            ticketEntryTime.getEntryTime(),
+            ticketEntryTime.getAmount(),
+            ticketEntryTime.getAmount() - ticketEntryTime.getReservedAmount()
+        );
+    }
+}
@@ -3,12 +3,14 @@ package com.festago.ticket.dto;
 import com.festago.ticket.domain.Ticket;
 import com.festago.ticket.domain.TicketAmount;
 import com.festago.ticket.domain.TicketType;
+import java.util.List;
 
 public record StageTicketResponse(
     Long id,
     TicketType ticketType,
     Integer totalAmount,
-    Integer remainAmount) {
+    Integer remainAmount,
+    List<StageTicketEntryTimeResponse> entryTimes) {
 
     public static StageTicketResponse from(Ticket ticket) {
         TicketAmount ticketAmount = ticket.getTicketAmount();
@@ -16,7 +18,10 @@ public record StageTicketResponse(
             ticket.getId(),
             ticket.getTicketType(),
             ticketAmount.getTotalAmount(),
-            ticketAmount.calculateRemainAmount()
+            ticketAmount.calculateRemainAmount(),
+            ticket.getTicketEntryTimes().stream()
+                .map(StageTicketEntryTimeResponse::from)
+                .toList()
         );
     }
 }
@@ -1,5 +1,6 @@
 package com.festago.ticket.dto;
 
+import com.festago.ticket.domain.TicketSaleType;
 import com.festago.ticket.domain.TicketType;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
@@ -15,7 +16,11 @@ public record TicketCreateRequest(
     Integer amount,
     @NotNull(message = "entryTime은 null 일 수 없습니다.")
     @DateTimeFormat(iso = ISO.DATE_TIME)
-    LocalDateTime entryTime
+    LocalDateTime entryTime,
+    TicketSaleType saleType
 ) {
 
+    public TicketCreateRequest(Long stageId, TicketType ticketType, Integer amount, LocalDateTime entryTime) {
+        this(stageId, ticketType, amount, entryTime, null);
+    }
 }
@@ -0,0 +1,7 @@
+package com.festago.ticket.dto.event;
+
+public record TicketAmountChangedEvent(
+    Long ticketId
+) {
+
+}
@@ -2,10 +2,13 @@ package com.festago.ticket.repository;
 
 import com.festago.ticket.domain.TicketAmount;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface TicketAmountRepository extends JpaRepository<TicketAmount, Long> {
@@ -13,4 +16,25 @@ public interface TicketAmountRepository extends JpaRepository<TicketAmount, Long
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select ta from TicketAmount ta where ta.id = :ticketId")
     Optional<TicketAmount> findByTicketIdForUpdate(@Param("ticketId") Long ticketId);
+
+    /**
+     * 락을 기다리지 않고 바로 실패하도록 NOWAIT 으로 조회합니다. 락을 얻지 못하면 PessimisticLockingFailureException 이 발생합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("select ta from TicketAmount ta where ta.id = :ticketId")
+    Optional<TicketAmount> findByTicketIdForUpdateNoWait(@Param("ticketId") Long ticketId);
+
+    @Query("select ta.id from TicketAmount ta where ta.reservedAmount >= ta.totalAmount")
+    List<Long> findSoldOutTicketIds();
+
+    /**
+     * 블록 단위로 번호를 발급하는 경우 예매 수량이 모두 할당되었더라도 남은 임대 블록이 있으면 매진이 아닙니다.
+     */
+    @Query("""
+        select ta.id from TicketAmount ta
+        where ta.reservedAmount >= ta.totalAmount
+          and not exists (select l.id from ReserveSequenceLease l where l.ticketId = ta.id)
+        """)
+    List<Long> findSoldOutTicketIdsWithoutLease();
 }
@@ -2,7 +2,9 @@ package com.festago.ticket.repository;
 
 import com.festago.stage.domain.Stage;
 import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.domain.TicketEntryTime;
 import com.festago.ticket.domain.TicketType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,15 +13,36 @@ import org.springframework.data.repository.query.Param;
 
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
-    List<Ticket> findAllByStageId(Long stageId);
+    @Query("""
+        SELECT t FROM Ticket t
+        JOIN FETCH t.ticketAmount
+        LEFT JOIN FETCH t.ticketEntryTimes
+        WHERE t.stage.id = :stageId
+        """)
+    List<Ticket> findAllDetailByStageId(@Param("stageId") Long stageId);
 
     Optional<Ticket> findByTicketTypeAndStage(TicketType ticketType, Stage stage);
 
     @Query("""
         SELECT t FROM Ticket t
         JOIN FETCH t.stage s
-        JOIN FETCH t.ticketEntryTimes et
         WHERE t.id = :ticketId
         """)
-    Optional<Ticket> findByIdWithFetch(@Param("ticketId") Long ticketId);
+    Optional<Ticket> findByIdWithStage(@Param("ticketId") Long ticketId);
+
+    @Query("""
+        SELECT et FROM Ticket t
+        JOIN t.ticketEntryTimes et
+        WHERE t.id = :ticketId
+        """)
+    List<TicketEntryTime> findTicketEntryTimesByTicketId(@Param("ticketId") Long ticketId);
+
+    @Query("""
+        SELECT t.id FROM Ticket t
+        JOIN t.stage s
+        WHERE t.saleType = com.festago.ticket.domain.TicketSaleType.LOTTERY
+        AND t.drawnAt IS NULL
+        AND s.ticketOpenTime <= :now
+        """)
+    List<Long> findUndrawnLotteryTicketIds(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,209 @@
+package com.festago.ticketing.application;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.FestaGoException;
+import com.festago.common.exception.InternalServerException;
+import com.festago.common.exception.NotFoundException;
+import com.festago.common.exception.TooManyRequestException;
+import com.festago.ticketing.domain.IdempotencyKey;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingReservationResponse;
+import com.festago.ticketing.dto.TicketingResponse;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 예매 요청을 티켓별 큐에 넣고 바로 반환한 뒤, 티켓마다 하나의 작업자가 요청을 묶어 하나의 트랜잭션으로 처리합니다. 같은 노드에서는 한 티켓의 예매 수량을 하나의 작업자만 변경하므로
+ * ticket_amount 의 락을 두고 경합하지 않습니다.
+ * <p>
+ * 클라이언트는 발급받은 handle 로 처리 결과를 조회합니다.
+ */
+@Service
+public class AsyncTicketingService {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncTicketingService.class);
+
+    private final Map<Long, TicketingPipeline> pipelines = new ConcurrentHashMap<>();
+    private final Map<String, TicketingReservation> reservations = new ConcurrentHashMap<>();
+    private final TicketingService ticketingService;
+    private final WaitingRoomService waitingRoomService;
+    private final SoldOutRegistry soldOutRegistry;
+    private final TicketingIdempotencyStore ticketingIdempotencyStore;
+    private final TicketingRetryPolicy ticketingRetryPolicy;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long resultTtlMillis;
+    private final long maxWaitMillis;
+
+    public AsyncTicketingService(TicketingService ticketingService,
+                                 WaitingRoomService waitingRoomService,
+                                 SoldOutRegistry soldOutRegistry,
+                                 TicketingIdempotencyStore ticketingIdempotencyStore,
+                                 TicketingRetryPolicy ticketingRetryPolicy,
+                                 Clock clock,
+                                 @Value("${festago.ticketing.async.enabled:false}") boolean enabled,
+                                 @Value("${festago.ticketing.async.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${festago.ticketing.async.batch-size:100}") int batchSize,
+                                 @Value("${festago.ticketing.async.result-ttl-seconds:600}") long resultTtlSeconds,
+                                 @Value("${festago.ticketing.async.max-wait-millis:10000}") long maxWaitMillis) {
+        this.ticketingService = ticketingService;
+        this.waitingRoomService = waitingRoomService;
+        this.soldOutRegistry = soldOutRegistry;
+        this.ticketingIdempotencyStore = ticketingIdempotencyStore;
+        this.ticketingRetryPolicy = ticketingRetryPolicy;
+        this.clock = clock;
+        this.executor = Executors.newCachedThreadPool(new TicketingWorkerThreadFactory());
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.resultTtlMillis = TimeUnit.SECONDS.toMillis(resultTtlSeconds);
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 응답을 받지 못한 클라이언트가 같은 키로 다시 요청하면 새로 접수하지 않고 처음 접수한 요청의 handle 을 돌려줍니다.
+     */
+    public TicketingReservationResponse enqueue(Long memberId, TicketingRequest request, String waitingToken,
+                                                String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return enqueue(memberId, request, waitingToken);
+        }
+        return ticketingIdempotencyStore.execute(new IdempotencyKey(memberId, idempotencyKey), request.ticketId(),
+            () -> enqueue(memberId, request, waitingToken));
+    }
+
+    public TicketingReservationResponse enqueue(Long memberId, TicketingRequest request, String waitingToken) {
+        Long ticketId = request.ticketId();
+        soldOutRegistry.validateNotSoldOut(ticketId);
+        waitingRoomService.validateAdmission(memberId, ticketId, waitingToken);
+        TicketingReservation reservation = new TicketingReservation(UUID.randomUUID().toString(), memberId,
+            ticketId, request.entryTimeId(), clock.millis() + resultTtlMillis);
+        reservations.put(reservation.getHandle(), reservation);
+        if (!offer(ticketId, reservation)) {
+            reservations.remove(reservation.getHandle());
+            throw new TooManyRequestException(ErrorCode.TICKETING_QUEUE_FULL);
+        }
+        return TicketingReservationResponse.from(reservation);
+    }
+
+    /**
+     * 파이프라인을 비우는 {@link #evictIdlePipelines()} 와 겹치지 않도록, 파이프라인을 찾고 요청을 넣는 일을 한 번에 처리합니다.
+     */
+    private boolean offer(Long ticketId, TicketingReservation reservation) {
+        AtomicBoolean accepted = new AtomicBoolean();
+        pipelines.compute(ticketId, (id, pipeline) -> {
+            TicketingPipeline target = pipeline != null ? pipeline
+                : new TicketingPipeline(queueCapacity, batchSize, executor, batch -> process(id, batch));
+            accepted.set(target.offer(reservation));
+            return target;
+        });
+        return accepted.get();
+    }
+
+    /**
+     * 결과가 정해지거나 대기 시간이 지나면 완료되는 future 를 반환하므로, 기다리는 동안 요청 스레드를 점유하지 않습니다.
+     */
+    public CompletableFuture<TicketingReservationResponse> find(Long memberId, String handle, long waitMillis) {
+        TicketingReservation reservation = reservations.get(handle);
+        if (reservation == null || !reservation.isOwnedBy(memberId)) {
+            throw new NotFoundException(ErrorCode.TICKETING_RESERVATION_NOT_FOUND);
+        }
+        return reservation.await(Math.min(waitMillis, maxWaitMillis))
+            .thenApply(TicketingReservationResponse::from);
+    }
+
+    /**
+     * 매진으로 실패한 요청이 있으면 티켓을 매진으로 표시해서, 이후 요청은 큐에 넣기 전에 거절합니다. 한 입장 시간만 매진된 경우는 표시하지 않습니다.
+     */
+    private void process(Long ticketId, List<TicketingReservation> batch) {
+        processWithRetry(ticketId, batch);
+        boolean soldOut = batch.stream()
+            .anyMatch(reservation -> reservation.getFailure() instanceof FestaGoException e
+                && e.getErrorCode() == ErrorCode.TICKET_SOLD_OUT);
+        if (soldOut) {
+            soldOutRegistry.markSoldOut(ticketId);
+        }
+    }
+
+    private void processWithRetry(Long ticketId, List<TicketingReservation> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Map<TicketingReservation, TicketingResponse> responses = ticketingService.ticketingInBatch(ticketId,
+                    batch);
+                responses.forEach(TicketingReservation::complete);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (!ticketingRetryPolicy.canRetry(attempt)) {
+                    failRemaining(batch, new TooManyRequestException(ErrorCode.TICKETING_CONFLICT));
+                    return;
+                }
+                ticketingRetryPolicy.backoff(attempt);
+            } catch (FestaGoException e) {
+                failRemaining(batch, e);
+                return;
+            } catch (RuntimeException e) {
+                log.error("예매 요청을 처리하는 데 실패했습니다. ticketId={}, batchSize={}", ticketId, batch.size(), e);
+                failRemaining(batch, new InternalServerException(ErrorCode.INTERNAL_SERVER_ERROR, e));
+                return;
+            }
+        }
+    }
+
+    private void failRemaining(List<TicketingReservation> batch, RuntimeException e) {
+        batch.forEach(reservation -> reservation.fail(e));
+    }
+
+    @Scheduled(fixedDelayString = "${festago.ticketing.async.evict-interval-millis:60000}")
+    public void evictExpired() {
+        long now = clock.millis();
+        reservations.values().removeIf(reservation -> reservation.isExpired(now));
+        evictIdlePipelines();
+    }
+
+    private void evictIdlePipelines() {
+        for (Long ticketId : pipelines.keySet()) {
+            pipelines.computeIfPresent(ticketId, (id, pipeline) -> pipeline.isIdle() ? null : pipeline);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class TicketingWorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ticketing-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.festago.ticketing.application;
+
+public interface EntryTimeSequenceProvider {
+
+    /**
+     * 고른 입장 시간 안에서 몇 번째 예매인지를 1부터 발급합니다.
+     */
+    int provide(Long ticketId, Long entryTimeId);
+}
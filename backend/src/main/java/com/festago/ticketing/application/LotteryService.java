@@ -0,0 +1,196 @@
+package com.festago.ticketing.application;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.student.repository.StudentRepository;
+import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.domain.TicketAmount;
+import com.festago.ticket.domain.TicketType;
+import com.festago.ticket.repository.TicketAmountRepository;
+import com.festago.ticket.repository.TicketRepository;
+import com.festago.ticketing.domain.LotteryApplication;
+import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.dto.LotteryApplicationResponse;
+import com.festago.ticketing.dto.LotteryDrawResult;
+import com.festago.ticketing.dto.event.MemberTicketCreatedEvent;
+import com.festago.ticketing.repository.LotteryApplicationRepository;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import jakarta.persistence.EntityManager;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 추첨 티켓은 오픈 전까지 응모만 받고, 오픈 이후 한 번에 추첨해서 당첨자의 멤버 티켓을 일괄 저장합니다. 응모는 insert 한 번으로 끝나고, 추첨은 티켓마다 한 번의
+ * 트랜잭션에서 배치 insert 로 처리하므로 오픈 순간의 요청이 몰리지 않습니다.
+ */
+@Service
+public class LotteryService {
+
+    private static final Logger log = LoggerFactory.getLogger(LotteryService.class);
+
+    private final Random random = new SecureRandom();
+    private final TicketRepository ticketRepository;
+    private final TicketAmountRepository ticketAmountRepository;
+    private final LotteryApplicationRepository lotteryApplicationRepository;
+    private final MemberTicketRepository memberTicketRepository;
+    private final MemberRepository memberRepository;
+    private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final ShardRouter shardRouter;
+    private final int drawBatchSize;
+
+    public LotteryService(TicketRepository ticketRepository,
+                          TicketAmountRepository ticketAmountRepository,
+                          LotteryApplicationRepository lotteryApplicationRepository,
+                          MemberTicketRepository memberTicketRepository,
+                          MemberRepository memberRepository,
+                          StudentRepository studentRepository,
+                          EntityManager entityManager,
+                          TransactionTemplate transactionTemplate,
+                          ApplicationEventPublisher eventPublisher,
+                          Clock clock,
+                          ShardRouter shardRouter,
+                          @Value("${festago.ticketing.lottery.draw-batch-size:500}") int drawBatchSize) {
+        this.ticketRepository = ticketRepository;
+        this.ticketAmountRepository = ticketAmountRepository;
+        this.lotteryApplicationRepository = lotteryApplicationRepository;
+        this.memberTicketRepository = memberTicketRepository;
+        this.memberRepository = memberRepository;
+        this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.shardRouter = shardRouter;
+        this.drawBatchSize = drawBatchSize;
+    }
+
+    /**
+     * 티켓과 응모는 티켓의 샤드에서, 멤버와 학생 인증은 디렉터리 샤드에서 읽습니다.
+     */
+    public LotteryApplicationResponse apply(Long memberId, Long ticketId) {
+        Ticket ticket = shardRouter.executeOnTicket(ticketId, () -> ticketRepository.findByIdWithStage(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND)));
+        ticket.validateLotteryApplication(LocalDateTime.now(clock));
+        Member member = memberRepository.findById(memberId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_NOT_FOUND));
+        validateStudent(member, ticket);
+        return shardRouter.executeOnTicket(ticketId, () -> save(new LotteryApplication(ticketId, memberId)));
+    }
+
+    private LotteryApplicationResponse save(LotteryApplication lotteryApplication) {
+        try {
+            return LotteryApplicationResponse.from(lotteryApplicationRepository.save(lotteryApplication));
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException(ErrorCode.LOTTERY_ALREADY_APPLIED);
+        }
+    }
+
+    private void validateStudent(Member member, Ticket ticket) {
+        if (ticket.getTicketType() != TicketType.STUDENT) {
+            return;
+        }
+        if (!studentRepository.existsByMemberAndSchoolId(member, ticket.getSchoolId())) {
+            throw new BadRequestException(ErrorCode.NEED_STUDENT_VERIFICATION);
+        }
+    }
+
+    /**
+     * 한 티켓의 추첨이 실패해도 다음 티켓은 추첨합니다. 실패한 티켓은 다음 주기에 다시 추첨합니다.
+     */
+    @Scheduled(fixedDelayString = "${festago.ticketing.lottery.draw-interval-millis:60000}")
+    public void drawOpenedTickets() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> ticketIds = shardRouter.executeOnAllShards(() -> ticketRepository.findUndrawnLotteryTicketIds(now));
+        for (Long ticketId : new LinkedHashSet<>(ticketIds)) {
+            try {
+                LotteryDrawResult result = draw(ticketId);
+                log.info("추첨을 완료했습니다. ticketId={}, applicants={}, winners={}", ticketId,
+                    result.applicantCount(), result.winnerCount());
+            } catch (RuntimeException e) {
+                log.warn("추첨을 진행하지 못했습니다. ticketId={}", ticketId, e);
+            }
+        }
+    }
+
+    /**
+     * 티켓 수량 행을 잠근 뒤 추첨 여부를 다시 확인하므로, 여러 노드에서 동시에 실행되어도 한 번만 추첨됩니다.
+     */
+    public LotteryDrawResult draw(Long ticketId) {
+        return shardRouter.executeOnTicket(ticketId,
+            () -> transactionTemplate.execute(status -> drawInTransaction(ticketId)));
+    }
+
+    private LotteryDrawResult drawInTransaction(Long ticketId) {
+        TicketAmount ticketAmount = ticketAmountRepository.findByTicketIdForUpdate(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        Ticket ticket = ticketRepository.findByIdWithStage(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        LocalDateTime now = LocalDateTime.now(clock);
+        ticket.draw(now);
+        List<Long> applicantIds = lotteryApplicationRepository.findMemberIdsByTicketId(ticketId);
+        List<Long> winnerIds = pickWinners(ticket, ticketAmount, applicantIds);
+        if (winnerIds.isEmpty()) {
+            return new LotteryDrawResult(ticketId, applicantIds.size(), 0);
+        }
+        int startSequence = ticketAmount.getReservedAmount() + 1;
+        ticketAmount.allocateReservedAmount(winnerIds.size());
+        saveWinners(ticket, winnerIds, startSequence, now);
+        return new LotteryDrawResult(ticketId, applicantIds.size(), winnerIds.size());
+    }
+
+    private List<Long> pickWinners(Ticket ticket, TicketAmount ticketAmount, List<Long> applicantIds) {
+        Set<Long> ownerIds = new HashSet<>(memberTicketRepository.findOwnerIdsByStageId(ticket.getStage().getId()));
+        List<Long> candidates = new ArrayList<>(applicantIds);
+        candidates.removeIf(ownerIds::contains);
+        Collections.shuffle(candidates, random);
+        return candidates.subList(0, Math.min(ticketAmount.calculateRemainAmount(), candidates.size()));
+    }
+
+    /**
+     * 당첨자의 멤버 티켓을 JDBC 배치로 저장합니다. 영속성 컨텍스트가 커지지 않도록 배치마다 flush 하고 비웁니다.
+     */
+    private void saveWinners(Ticket ticket, List<Long> winnerIds, int startSequence, LocalDateTime now) {
+        Long stageId = ticket.getStage().getId();
+        List<MemberTicket> memberTickets = new ArrayList<>(winnerIds.size());
+        for (int i = 0; i < winnerIds.size(); i++) {
+            Member member = memberRepository.getReferenceById(winnerIds.get(i));
+            memberTickets.add(ticket.createMemberTicket(member, startSequence + i, now));
+        }
+        entityManager.flush();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(drawBatchSize);
+        for (int from = 0; from < memberTickets.size(); from += drawBatchSize) {
+            int to = Math.min(from + drawBatchSize, memberTickets.size());
+            memberTicketRepository.saveAll(memberTickets.subList(from, to));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        for (Long winnerId : winnerIds) {
+            eventPublisher.publishEvent(new MemberTicketCreatedEvent(winnerId, stageId));
+        }
+    }
+}
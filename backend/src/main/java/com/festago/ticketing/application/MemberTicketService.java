@@ -8,15 +8,26 @@ import com.festago.common.exception.BadRequestException;
 import com.festago.common.exception.ErrorCode;
 import com.festago.common.exception.NotFoundException;
 import com.festago.member.repository.MemberRepository;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.repository.TicketRepository;
 import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.domain.ReleasedSequence;
+import com.festago.ticketing.dto.MemberTicketCursor;
+import com.festago.ticketing.dto.MemberTicketPageResponse;
+import com.festago.ticketing.dto.MemberTicketProjection;
 import com.festago.ticketing.dto.MemberTicketResponse;
 import com.festago.ticketing.dto.MemberTicketsResponse;
+import com.festago.ticketing.dto.event.MemberTicketCancelledEvent;
 import com.festago.ticketing.repository.MemberTicketRepository;
+import com.festago.ticketing.repository.ReleasedSequenceRepository;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,47 +37,131 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MemberTicketService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_CURRENT_SIZE = 100;
+    private static final Comparator<MemberTicketResponse> NEWEST_FIRST = comparing(MemberTicketResponse::entryTime)
+        .thenComparing(MemberTicketResponse::id)
+        .reversed();
+
     private final MemberTicketRepository memberTicketRepository;
     private final MemberRepository memberRepository;
+    private final TicketRepository ticketRepository;
+    private final ReleasedSequenceRepository releasedSequenceRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock;
+    private final ShardRouter shardRouter;
 
     @Transactional(readOnly = true)
     public MemberTicketResponse findById(Long memberId, Long memberTicketId) {
         validateMemberId(memberId);
-        MemberTicket memberTicket = memberTicketRepository.findById(memberTicketId)
+        return shardRouter.executeOnAllShards(() -> memberTicketRepository.findProjectionById(memberTicketId)
+                .map(projection -> toOwnedResponse(memberId, projection))
+                .stream()
+                .toList())
+            .stream()
+            .findFirst()
             .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_TICKET_NOT_FOUND));
-        if (!memberTicket.isOwner(memberId)) {
+    }
+
+    private MemberTicketResponse toOwnedResponse(Long memberId, MemberTicketProjection projection) {
+        if (!projection.isOwner(memberId)) {
             throw new BadRequestException(ErrorCode.NOT_MEMBER_TICKET_OWNER);
         }
-        return MemberTicketResponse.from(memberTicket);
+        return MemberTicketResponse.from(projection);
     }
 
+    /**
+     * 커서 뒤의 티켓을 size 개 조회합니다. 멤버 티켓은 여러 샤드에 나뉘어 있으므로 샤드마다 같은 커서로 조회한 뒤 합쳐서 다시 자릅니다. 학교를 옮긴
+     * 뒤 원본 샤드의 행을 지우기 전에는 같은 티켓이 두 샤드에서 조회되므로 중복을 제거합니다.
+     * <p>
+     * 이미 배포된 클라이언트는 size 를 100 으로 보내므로, 최대 크기보다 큰 size 는 거절하지 않고 최대 크기만큼 조회합니다. 나머지는 nextCursor 로
+     * 이어서 조회할 수 있습니다.
+     */
     @Transactional(readOnly = true)
-    public MemberTicketsResponse findAll(Long memberId, Pageable pageable) {
+    public MemberTicketPageResponse findAll(Long memberId, String cursor, int requestedSize) {
         validateMemberId(memberId);
-        List<MemberTicket> memberTickets = memberTicketRepository.findAllByOwnerId(memberId, pageable);
-        return memberTickets.stream()
-            .collect(collectingAndThen(toList(), MemberTicketsResponse::from));
+        int size = limitPageSize(requestedSize, MAX_PAGE_SIZE);
+        MemberTicketCursor decodedCursor = cursor == null ? null : MemberTicketCursor.decode(cursor);
+        Pageable limit = Pageable.ofSize(size + 1);
+        List<MemberTicketResponse> responses = shardRouter.executeOnAllShards(
+            () -> findPage(memberId, decodedCursor, limit).stream()
+                .map(MemberTicketResponse::from)
+                .toList());
+        return responses.stream()
+            .distinct()
+            .sorted(NEWEST_FIRST)
+            .limit(size + 1)
+            .collect(collectingAndThen(toList(), memberTickets -> MemberTicketPageResponse.of(memberTickets, size)));
+    }
+
+    private List<MemberTicketProjection> findPage(Long memberId, MemberTicketCursor cursor, Pageable limit) {
+        if (cursor == null) {
+            return memberTicketRepository.findPageByOwnerId(memberId, limit);
+        }
+        return memberTicketRepository.findPageByOwnerIdBeforeCursor(memberId, cursor.entryTime(), cursor.id(), limit);
+    }
+
+    private int limitPageSize(int size, int maxSize) {
+        if (size < 1) {
+            throw new BadRequestException(ErrorCode.INVALID_PAGE_SIZE);
+        }
+        return Math.min(size, maxSize);
     }
 
+    /**
+     * 입장할 수 있는 티켓을 먼저, 각각 현재 시간과 가까운 순서로 조회합니다. 거르기와 정렬은 샤드마다 데이터베이스에서 하고, 합친 결과만 같은 기준으로
+     * 다시 정렬합니다. 다음 페이지가 없으므로 커서 방식으로 바뀌기 전과 같이 최대 100개까지 조회합니다.
+     */
     @Transactional(readOnly = true)
-    public MemberTicketsResponse findCurrent(Long memberId, Pageable pageable) {
+    public MemberTicketsResponse findCurrent(Long memberId, int requestedSize) {
         validateMemberId(memberId);
-        List<MemberTicket> memberTickets = memberTicketRepository.findAllByOwnerId(memberId, pageable);
-        return MemberTicketsResponse.from(filterCurrentMemberTickets(memberTickets));
+        int size = limitPageSize(requestedSize, MAX_CURRENT_SIZE);
+        LocalDateTime currentTime = LocalDateTime.now(clock);
+        LocalDateTime entryClosedTime = MemberTicket.entryClosedTime(currentTime);
+        Pageable limit = Pageable.ofSize(size);
+        List<MemberTicketResponse> responses = shardRouter.executeOnAllShards(
+            () -> memberTicketRepository.findCurrentByOwnerId(memberId, currentTime, entryClosedTime, limit).stream()
+                .map(MemberTicketResponse::from)
+                .toList());
+        return responses.stream()
+            .distinct()
+            .sorted(comparing((MemberTicketResponse response) -> currentTime.isBefore(response.entryTime()))
+                .thenComparing(response -> calculateTimeGap(response.entryTime(), currentTime)))
+            .limit(size)
+            .collect(collectingAndThen(toList(), MemberTicketsResponse::new));
     }
 
-    private List<MemberTicket> filterCurrentMemberTickets(List<MemberTicket> memberTickets) {
-        LocalDateTime currentTime = LocalDateTime.now(clock);
-        return memberTickets.stream()
-            .filter(memberTicket -> memberTicket.isBeforeEntry(currentTime) || memberTicket.canEntry(currentTime))
-            .sorted(comparing((MemberTicket memberTicket) -> memberTicket.isBeforeEntry(currentTime))
-                .thenComparing(memberTicket -> calculateTimeGap(memberTicket, currentTime)))
-            .toList();
+    private Duration calculateTimeGap(LocalDateTime entryTime, LocalDateTime time) {
+        return Duration.between(entryTime, time).abs();
     }
 
-    private Duration calculateTimeGap(MemberTicket memberTicket, LocalDateTime time) {
-        return Duration.between(memberTicket.getEntryTime(), time).abs();
+    /**
+     * 멤버 티켓을 삭제하고 예매 번호를 대기자에게 다시 발급할 수 있도록 남겨둡니다. 예매 수량은 줄이지 않으므로 티켓 수량 행을 잠그지 않습니다. 멤버 티켓이
+     * 저장된 학교의 샤드에서 처리합니다.
+     */
+    public void cancel(Long memberId, Long memberTicketId) {
+        shardRouter.executeOnMemberTicket(memberTicketId, () -> {
+            cancelOnShard(memberId, memberTicketId);
+            return null;
+        });
+    }
+
+    private void cancelOnShard(Long memberId, Long memberTicketId) {
+        MemberTicket memberTicket = memberTicketRepository.findById(memberTicketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_TICKET_NOT_FOUND));
+        if (!memberTicket.isOwner(memberId)) {
+            throw new BadRequestException(ErrorCode.NOT_MEMBER_TICKET_OWNER);
+        }
+        memberTicket.validateCancellable(LocalDateTime.now(clock));
+        Ticket ticket = ticketRepository.findByTicketTypeAndStage(memberTicket.getTicketType(), memberTicket.getStage())
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        if (memberTicketRepository.deleteMemberTicketById(memberTicketId) == 0) {
+            throw new NotFoundException(ErrorCode.MEMBER_TICKET_NOT_FOUND);
+        }
+        releasedSequenceRepository.save(
+            new ReleasedSequence(ticket.getId(), memberTicket.getNumber(), memberTicket.getEntryTime()));
+        eventPublisher.publishEvent(new MemberTicketCancelledEvent(memberId, memberTicket.getStage().getId(),
+            ticket.getId(), memberTicket.getNumber(), memberTicket.getEntryTime()));
     }
 
     private void validateMemberId(Long memberId) {
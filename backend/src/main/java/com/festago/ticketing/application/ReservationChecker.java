@@ -0,0 +1,9 @@
+package com.festago.ticketing.application;
+
+import com.festago.member.domain.Member;
+import com.festago.stage.domain.Stage;
+
+public interface ReservationChecker {
+
+    boolean isReserved(Member member, Stage stage);
+}
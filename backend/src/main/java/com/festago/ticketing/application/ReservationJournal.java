@@ -0,0 +1,21 @@
+package com.festago.ticketing.application;
+
+import com.festago.ticketing.domain.ReservationJournalEntry;
+import java.util.List;
+
+public interface ReservationJournal {
+
+    /**
+     * 기록을 이어 쓰고 디스크 반영은 기다리지 않습니다. 반환한 위치를 {@link #awaitFlushed(long)} 에 넘기면 이 기록까지 반영될 때까지 기다립니다.
+     */
+    long append(List<ReservationJournalEntry> entries);
+
+    void awaitFlushed(long position);
+
+    List<ReservationJournalEntry> readAll();
+
+    /**
+     * 현재 기록 중인 세그먼트를 제외한 나머지 세그먼트를 삭제합니다. 저널을 DB 에 모두 반영한 뒤에 호출해야 합니다.
+     */
+    void deleteSealedSegments();
+}
@@ -0,0 +1,77 @@
+package com.festago.ticketing.application;
+
+import com.festago.ticketing.domain.ReservationJournalEntry;
+import com.festago.ticketing.domain.ReservationJournalEntryType;
+import com.festago.ticketing.dto.event.MemberTicketCancelledEvent;
+import com.festago.ticketing.dto.event.ReservationsIssuedEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 발급한 예매 번호를 DB 커밋 직전에 저널에 기록합니다. 저널 기록이 실패하면 커밋하지 않고, 저널에 기록된 뒤 커밋하지 못하면 ABORTED 를 남깁니다. 취소된
+ * 예매도 ABORTED 로 남겨서 다시 저장되지 않도록 합니다.
+ * <p>
+ * 커밋 전에는 매핑된 버퍼에 쓰기만 하고, 디스크 반영(fsync)은 커밋으로 행 락을 놓은 뒤에 기다립니다. 커밋 전에 반영까지 기다리면 DB 의 커밋 반영과 저널의
+ * 반영이 모두 끝날 때까지 ticket_amount 의 락을 쥐고 있게 됩니다. 응답은 여전히 저널 반영 이후에 나가므로, 커밋이 확인된 DB 가 예매를 잃더라도 응답받은
+ * 예매는 재시작할 때 ReservationJournalReplayer 가 다시 반영합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.journal.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReservationJournalRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationJournalRecorder.class);
+
+    private final ReservationJournal reservationJournal;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void recordIssued(ReservationsIssuedEvent event) {
+        long position = reservationJournal.append(toEntries(ReservationJournalEntryType.ISSUED, event));
+        awaitFlushedAfterCommit(position);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void recordAborted(ReservationsIssuedEvent event) {
+        long position = reservationJournal.append(toEntries(ReservationJournalEntryType.ABORTED, event));
+        reservationJournal.awaitFlushed(position);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void recordCancelled(MemberTicketCancelledEvent event) {
+        long position = reservationJournal.append(List.of(new ReservationJournalEntry(
+            ReservationJournalEntryType.ABORTED, event.ticketId(), event.number(), event.memberId(),
+            event.entryTime())));
+        awaitFlushedAfterCommit(position);
+    }
+
+    /**
+     * 이미 커밋된 뒤이므로 반영에 실패해도 예매를 되돌리지 않고 기록만 남깁니다.
+     */
+    private void awaitFlushedAfterCommit(long position) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    reservationJournal.awaitFlushed(position);
+                } catch (RuntimeException e) {
+                    log.error("커밋된 예매의 저널 기록을 디스크에 반영하지 못했습니다. position={}", position, e);
+                }
+            }
+        });
+    }
+
+    private List<ReservationJournalEntry> toEntries(ReservationJournalEntryType type, ReservationsIssuedEvent event) {
+        return event.reservations().stream()
+            .map(reservation -> new ReservationJournalEntry(type, event.ticketId(), reservation.sequence(),
+                reservation.memberId(), reservation.entryTime()))
+            .toList();
+    }
+}
@@ -0,0 +1,152 @@
+package com.festago.ticketing.application;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.member.repository.MemberRepository;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.stage.domain.Stage;
+import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.repository.TicketRepository;
+import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.domain.ReservationJournalEntry;
+import com.festago.ticketing.domain.ReservationJournalEntryType;
+import com.festago.ticketing.dto.ReservationJournalReplayResult;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저널에 ISSUED 로 남았지만 DB 에 없는 예매를 member_ticket 에 다시 저장하고, ticket_amount 의 예매 수량이 저널에서 발급된 가장 큰 번호보다 작지
+ * 않도록 맞춥니다. 티켓마다 학교의 샤드에서 반영하고, 반영을 마치면 더 이상 필요 없는 세그먼트를 삭제합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.journal.enabled", havingValue = "true")
+public class ReservationJournalReplayer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationJournalReplayer.class);
+    private static final String UPDATE_RESERVED_AMOUNT_SQL = """
+        UPDATE ticket_amount
+        SET reserved_amount = GREATEST(reserved_amount, ?),
+            version = version + 1
+        WHERE ticket_id = ?
+        """;
+
+    private final ReservationJournal reservationJournal;
+    private final TicketRepository ticketRepository;
+    private final MemberTicketRepository memberTicketRepository;
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final boolean replayOnStartup;
+
+    public ReservationJournalReplayer(ReservationJournal reservationJournal,
+                                      TicketRepository ticketRepository,
+                                      MemberTicketRepository memberTicketRepository,
+                                      MemberRepository memberRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      ShardRouter shardRouter,
+                                      @Value("${festago.ticketing.journal.replay-on-startup:true}")
+                                      boolean replayOnStartup) {
+        this.reservationJournal = reservationJournal;
+        this.ticketRepository = ticketRepository;
+        this.memberTicketRepository = memberTicketRepository;
+        this.memberRepository = memberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.replayOnStartup = replayOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        if (!replayOnStartup) {
+            return;
+        }
+        ReservationJournalReplayResult result = replay();
+        log.info("예매 저널을 반영했습니다. issued={}, restored={}, skipped={}", result.issuedCount(),
+            result.restoredCount(), result.skippedCount());
+    }
+
+    public ReservationJournalReplayResult replay() {
+        Map<Long, List<ReservationJournalEntry>> issuedByTicket = findIssuedEntries();
+        int issuedCount = 0;
+        int restoredCount = 0;
+        for (Map.Entry<Long, List<ReservationJournalEntry>> issued : issuedByTicket.entrySet()) {
+            issuedCount += issued.getValue().size();
+            Long ticketId = issued.getKey();
+            restoredCount += shardRouter.executeOnTicket(ticketId,
+                () -> transactionTemplate.execute(status -> reconcile(ticketId, issued.getValue())));
+        }
+        reservationJournal.deleteSealedSegments();
+        return new ReservationJournalReplayResult(issuedCount, restoredCount, issuedCount - restoredCount);
+    }
+
+    /**
+     * ABORTED 로 취소된 예매를 제외한 ISSUED 예매를 티켓별로 모읍니다. 기록 순서를 유지하면서 예매마다 한 번에 찾아 지울 수 있도록 예매로 색인합니다.
+     */
+    private Map<Long, List<ReservationJournalEntry>> findIssuedEntries() {
+        Map<ReservationKey, ReservationJournalEntry> issued = new LinkedHashMap<>();
+        for (ReservationJournalEntry entry : reservationJournal.readAll()) {
+            if (entry.getType() == ReservationJournalEntryType.ISSUED) {
+                issued.put(ReservationKey.from(entry), entry);
+                continue;
+            }
+            issued.remove(ReservationKey.from(entry));
+        }
+        Map<Long, List<ReservationJournalEntry>> issuedByTicket = new LinkedHashMap<>();
+        for (ReservationJournalEntry entry : issued.values()) {
+            issuedByTicket.computeIfAbsent(entry.getTicketId(), ticketId -> new ArrayList<>()).add(entry);
+        }
+        return issuedByTicket;
+    }
+
+    private int reconcile(Long ticketId, List<ReservationJournalEntry> entries) {
+        Ticket ticket = ticketRepository.findByIdWithStage(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        Stage stage = ticket.getStage();
+        int maxSequence = entries.stream()
+            .mapToInt(ReservationJournalEntry::getSequence)
+            .max()
+            .orElse(0);
+        int minSequence = entries.stream()
+            .mapToInt(ReservationJournalEntry::getSequence)
+            .min()
+            .orElse(0);
+        Set<Integer> savedNumbers = new HashSet<>(
+            memberTicketRepository.findNumbersByTicketIdAndNumberBetween(ticketId, minSequence, maxSequence));
+        Set<Long> ownerIds = new HashSet<>(memberTicketRepository.findOwnerIdsByStageId(stage.getId()));
+        List<MemberTicket> restored = new ArrayList<>();
+        for (ReservationJournalEntry entry : entries) {
+            if (savedNumbers.contains(entry.getSequence()) || !ownerIds.add(entry.getMemberId())) {
+                continue;
+            }
+            restored.add(new MemberTicket(memberRepository.getReferenceById(entry.getMemberId()), stage,
+                entry.getSequence(), entry.getEntryTime(), ticket.getTicketType()));
+        }
+        memberTicketRepository.saveAll(restored);
+        jdbcTemplate.update(UPDATE_RESERVED_AMOUNT_SQL, maxSequence, ticketId);
+        return restored.size();
+    }
+
+    private record ReservationKey(Long ticketId, int sequence, Long memberId) {
+
+        static ReservationKey from(ReservationJournalEntry entry) {
+            return new ReservationKey(entry.getTicketId(), entry.getSequence(), entry.getMemberId());
+        }
+    }
+}
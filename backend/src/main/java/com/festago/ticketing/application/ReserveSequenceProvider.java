@@ -0,0 +1,27 @@
+package com.festago.ticketing.application;
+
+import java.util.List;
+
+public interface ReserveSequenceProvider {
+
+    int provide(Long ticketId);
+
+    /**
+     * 더 이상 예매 번호를 발급할 수 없는 티켓의 식별자를 현재 샤드에서 찾습니다. 전략마다 남은 수량을 관리하는 곳이 다르므로, 매진 여부는 번호를 발급하는 전략이
+     * 판단합니다.
+     */
+    List<Long> findSoldOutTicketIds();
+
+    /**
+     * 번호를 작은 것부터 차례대로 발급하는지 여부입니다. 차례대로 발급한다면 마지막 번호가 발급된 것은 곧 매진을 뜻합니다.
+     */
+    default boolean issuesInOrder() {
+        return true;
+    }
+
+    /**
+     * 발급한 예매 번호의 주인을 기록합니다. 번호마다 따로 관리하는 상태가 있는 전략만 구현합니다.
+     */
+    default void assign(Long ticketId, int sequence, Long memberId) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.festago.ticketing.application;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.ticket.dto.event.TicketAmountChangedEvent;
+import com.festago.ticketing.dto.event.TicketSoldOutEvent;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매진된 티켓을 기억해 두고, 매진된 티켓의 예매 요청을 DB 에 접근하기 전에 거절합니다.
+ * <p>
+ * 같은 노드에서 마지막 번호가 발급되면 즉시 매진으로 표시하고, 다른 노드의 매진과 입장 시간 추가로 인한 매진 해제는 주기적으로 번호를 발급하는 전략의 매진
+ * 상태와 동기화하여 반영합니다.
+ */
+@Component
+public class SoldOutRegistry {
+
+    private final Set<Long> soldOutTicketIds = ConcurrentHashMap.newKeySet();
+    private final ReserveSequenceProvider reserveSequenceProvider;
+    private final ShardRouter shardRouter;
+    private final boolean enabled;
+
+    public SoldOutRegistry(ReserveSequenceProvider reserveSequenceProvider,
+                           ShardRouter shardRouter,
+                           @Value("${festago.ticketing.sold-out-registry.enabled:false}") boolean enabled) {
+        this.reserveSequenceProvider = reserveSequenceProvider;
+        this.shardRouter = shardRouter;
+        this.enabled = enabled;
+    }
+
+    public void validateNotSoldOut(Long ticketId) {
+        if (soldOutTicketIds.contains(ticketId)) {
+            throw new BadRequestException(ErrorCode.TICKET_SOLD_OUT);
+        }
+    }
+
+    public void markSoldOut(Long ticketId) {
+        if (enabled) {
+            soldOutTicketIds.add(ticketId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void markSoldOut(TicketSoldOutEvent event) {
+        markSoldOut(event.ticketId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void clear(TicketAmountChangedEvent event) {
+        soldOutTicketIds.remove(event.ticketId());
+    }
+
+    /**
+     * TicketAmount 의 예매 수량은 전략에 따라 늦게 반영되므로, 매진 여부는 번호를 발급하는 전략에게 묻습니다.
+     */
+    @Scheduled(fixedDelayString = "${festago.ticketing.sold-out-registry.sync-interval-millis:1000}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        Set<Long> syncedTicketIds = new HashSet<>(shardRouter.executeOnAllShards(
+            reserveSequenceProvider::findSoldOutTicketIds));
+        soldOutTicketIds.retainAll(syncedTicketIds);
+        soldOutTicketIds.addAll(syncedTicketIds);
+    }
+}
@@ -0,0 +1,60 @@
+package com.festago.ticketing.application;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.TooManyRequestException;
+import com.festago.ticketing.domain.IdempotencyKey;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TicketingFacadeService {
+
+    private final WaitingRoomService waitingRoomService;
+    private final TicketingService ticketingService;
+    private final TicketingIdempotencyStore ticketingIdempotencyStore;
+    private final TicketingRetryPolicy ticketingRetryPolicy;
+    private final SoldOutRegistry soldOutRegistry;
+
+    public TicketingResponse ticketing(Long memberId, TicketingRequest request, String waitingToken,
+                                       String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ticketing(memberId, request, waitingToken);
+        }
+        return ticketingIdempotencyStore.execute(new IdempotencyKey(memberId, idempotencyKey), request.ticketId(),
+            () -> ticketing(memberId, request, waitingToken));
+    }
+
+    /**
+     * 한 입장 시간만 매진된 경우(TICKET_ENTRY_TIME_SOLD_OUT)는 다른 입장 시간을 예매할 수 있으므로 티켓을 매진으로 표시하지 않습니다.
+     */
+    private TicketingResponse ticketing(Long memberId, TicketingRequest request, String waitingToken) {
+        soldOutRegistry.validateNotSoldOut(request.ticketId());
+        waitingRoomService.validateAdmission(memberId, request.ticketId(), waitingToken);
+        try {
+            return ticketingWithRetry(memberId, request);
+        } catch (BadRequestException e) {
+            if (e.getErrorCode() == ErrorCode.TICKET_SOLD_OUT) {
+                soldOutRegistry.markSoldOut(request.ticketId());
+            }
+            throw e;
+        }
+    }
+
+    private TicketingResponse ticketingWithRetry(Long memberId, TicketingRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return ticketingService.ticketing(memberId, request);
+            } catch (OptimisticLockingFailureException e) {
+                if (!ticketingRetryPolicy.canRetry(attempt)) {
+                    throw new TooManyRequestException(ErrorCode.TICKETING_CONFLICT);
+                }
+                ticketingRetryPolicy.backoff(attempt);
+            }
+        }
+    }
+}
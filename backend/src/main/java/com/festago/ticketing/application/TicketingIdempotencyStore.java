@@ -0,0 +1,12 @@
+package com.festago.ticketing.application;
+
+import com.festago.ticketing.domain.IdempotencyKey;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 다시 온 예매 요청에는 처음 요청의 결과를 돌려줍니다. 동기 예매는 발급된 티켓을, 비동기 예매는 접수된 요청의 handle 을 돌려줍니다.
+ */
+public interface TicketingIdempotencyStore {
+
+    <T> T execute(IdempotencyKey key, Long ticketId, Supplier<T> ticketing);
+}
@@ -0,0 +1,60 @@
+package com.festago.ticketing.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ticket_amount 행 락을 바로 얻지 못해 거절한 예매 요청을 기록하고, 클라이언트가 다시 시도하기까지 기다릴 시간을 계산합니다.
+ * <p>
+ * 최근 1초 동안 거절된 요청이 모두 락을 한 번씩 잡는다고 보고, 평균 락 점유 시간을 곱해 밀린 요청이 빠지는 시간을 Retry-After 로 사용합니다. 거절 횟수는
+ * /actuator/metrics/festago.ticketing.lock.rejected 에서 확인할 수 있습니다.
+ */
+@Component
+public class TicketingLockContention {
+
+    private static final String METRIC_NAME = "festago.ticketing.lock.rejected";
+    private static final long WINDOW_MILLIS = 1000;
+    private static final long MIN_RETRY_AFTER_SECONDS = 1;
+
+    private final TicketingLockTimer ticketingLockTimer;
+    private final Counter rejectedCounter;
+    private final Clock clock;
+    private final long maxRetryAfterSeconds;
+    private long windowStartedAt;
+    private long rejectedInWindow;
+
+    public TicketingLockContention(TicketingLockTimer ticketingLockTimer,
+                                   MeterRegistry meterRegistry,
+                                   Clock clock,
+                                   @Value("${festago.ticketing.nowait.max-retry-after-seconds:10}")
+                                   long maxRetryAfterSeconds) {
+        this.ticketingLockTimer = ticketingLockTimer;
+        this.rejectedCounter = Counter.builder(METRIC_NAME)
+            .description("ticket_amount 행 락을 얻지 못해 거절한 예매 요청 수")
+            .register(meterRegistry);
+        this.clock = clock;
+        this.maxRetryAfterSeconds = maxRetryAfterSeconds;
+    }
+
+    /**
+     * 거절을 기록하고 Retry-After 로 내려줄 초를 반환합니다.
+     */
+    public long reject() {
+        rejectedCounter.increment();
+        long rejected = countInWindow(clock.millis());
+        double backlogMillis = rejected * ticketingLockTimer.meanHoldMillis();
+        long retryAfterSeconds = (long) Math.ceil(backlogMillis / 1000);
+        return Math.min(Math.max(retryAfterSeconds, MIN_RETRY_AFTER_SECONDS), maxRetryAfterSeconds);
+    }
+
+    private synchronized long countInWindow(long now) {
+        if (now - windowStartedAt >= WINDOW_MILLIS) {
+            windowStartedAt = now;
+            rejectedInWindow = 0;
+        }
+        return ++rejectedInWindow;
+    }
+}
@@ -0,0 +1,62 @@
+package com.festago.ticketing.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 예매 번호를 발급한 시점부터 트랜잭션이 끝날 때까지, 즉 ticket_amount 행 락을 쥐고 있는 시간을 예매 한 건마다 기록합니다.
+ * <p>
+ * /actuator/metrics/festago.ticketing.lock.hold 에서 확인할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketingLockTimer {
+
+    public static final String SINGLE = "single";
+    public static final String BATCH = "batch";
+
+    private static final String METRIC_NAME = "festago.ticketing.lock.hold";
+
+    private final MeterRegistry meterRegistry;
+
+    public void startHolding(String flow) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                sample.stop(timer(flow, status));
+            }
+        });
+    }
+
+    /**
+     * 커밋된 예매 한 건이 락을 쥐고 있던 평균 시간입니다. 아직 기록이 없으면 0 을 반환합니다.
+     */
+    public double meanHoldMillis() {
+        Timer timer = meterRegistry.find(METRIC_NAME)
+            .tag("flow", SINGLE)
+            .tag("outcome", "committed")
+            .timer();
+        if (timer == null) {
+            return 0;
+        }
+        return timer.mean(TimeUnit.MILLISECONDS);
+    }
+
+    private Timer timer(String flow, int status) {
+        return Timer.builder(METRIC_NAME)
+            .description("예매 번호 발급부터 트랜잭션 종료까지 걸린 시간")
+            .tag("flow", flow)
+            .tag("outcome", status == TransactionSynchronization.STATUS_COMMITTED ? "committed" : "rolled-back")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    }
+}
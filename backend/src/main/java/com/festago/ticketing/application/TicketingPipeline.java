@@ -0,0 +1,77 @@
+package com.festago.ticketing.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 한 티켓의 예매 요청을 쌓아 두고, 한 번에 하나의 작업자만 요청을 묶어서 처리하도록 합니다. 작업자는 큐가 빌 때까지 요청을 처리하고 종료되므로, 요청이 몰리는 티켓에만 작업자가
+ * 상주합니다.
+ */
+public class TicketingPipeline {
+
+    private final BlockingQueue<TicketingReservation> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final Executor executor;
+    private final Consumer<List<TicketingReservation>> batchProcessor;
+    private final int batchSize;
+
+    public TicketingPipeline(int capacity, int batchSize, Executor executor,
+                             Consumer<List<TicketingReservation>> batchProcessor) {
+        validate(capacity, batchSize);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.batchProcessor = batchProcessor;
+    }
+
+    private void validate(int capacity, int batchSize) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("TicketingPipeline 의 크기는 0보다 커야 합니다.");
+        }
+    }
+
+    public boolean offer(TicketingReservation reservation) {
+        if (!queue.offer(reservation)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 작업자가 종료되는 사이에 들어온 요청이 남지 않도록, 종료한 뒤 큐를 한 번 더 확인합니다.
+     */
+    private void drain() {
+        try {
+            List<TicketingReservation> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                batchProcessor.accept(List.copyOf(batch));
+                batch.clear();
+            }
+        } finally {
+            draining.set(false);
+        }
+        if (!queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    public boolean isIdle() {
+        return !draining.get() && queue.isEmpty();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+}
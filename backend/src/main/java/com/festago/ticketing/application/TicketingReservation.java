@@ -0,0 +1,98 @@
+package com.festago.ticketing.application;
+
+import com.festago.ticketing.domain.TicketingReservationStatus;
+import com.festago.ticketing.dto.TicketingResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 예매 요청 하나와 그 처리 결과를 담습니다. 결과는 한 번만 정해지며, 먼저 정해진 결과가 유지됩니다.
+ */
+public class TicketingReservation {
+
+    private final String handle;
+    private final Long memberId;
+    private final Long ticketId;
+    private final Long entryTimeId;
+    private final long expiredAt;
+    private final CompletableFuture<TicketingResponse> result = new CompletableFuture<>();
+
+    public TicketingReservation(String handle, Long memberId, Long ticketId, Long entryTimeId, long expiredAt) {
+        this.handle = handle;
+        this.memberId = memberId;
+        this.ticketId = ticketId;
+        this.entryTimeId = entryTimeId;
+        this.expiredAt = expiredAt;
+    }
+
+    public void complete(TicketingResponse response) {
+        result.complete(response);
+    }
+
+    public void fail(RuntimeException e) {
+        result.completeExceptionally(e);
+    }
+
+    /**
+     * 결과가 정해지거나 timeoutMillis 가 지나면 완료되는 future 를 반환합니다. 기다리는 동안 호출한 스레드를 붙잡지 않습니다.
+     */
+    public CompletableFuture<TicketingReservation> await(long timeoutMillis) {
+        if (timeoutMillis <= 0 || result.isDone()) {
+            return CompletableFuture.completedFuture(this);
+        }
+        return result.handle((response, failure) -> this)
+            .completeOnTimeout(this, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    public boolean isOwnedBy(Long memberId) {
+        return this.memberId.equals(memberId);
+    }
+
+    public boolean isExpired(long currentTimeMillis) {
+        return isDone() && currentTimeMillis >= expiredAt;
+    }
+
+    public TicketingReservationStatus getStatus() {
+        if (!result.isDone()) {
+            return TicketingReservationStatus.PENDING;
+        }
+        if (result.isCompletedExceptionally()) {
+            return TicketingReservationStatus.FAILED;
+        }
+        return TicketingReservationStatus.COMPLETED;
+    }
+
+    public TicketingResponse getResponse() {
+        if (getStatus() != TicketingReservationStatus.COMPLETED) {
+            return null;
+        }
+        return result.join();
+    }
+
+    public Throwable getFailure() {
+        if (getStatus() != TicketingReservationStatus.FAILED) {
+            return null;
+        }
+        return result.handle((response, failure) -> failure).join();
+    }
+
+    public String getHandle() {
+        return handle;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getEntryTimeId() {
+        return entryTimeId;
+    }
+}
@@ -0,0 +1,39 @@
+package com.festago.ticketing.application;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 낙관적 락 충돌로 실패한 예매를 재시도하는 횟수와 대기 시간을 정합니다. 대기 시간은 지수적으로 늘어나는 상한 안에서 무작위로 정해(full jitter) 재시도가 다시 몰리지
+ * 않도록 합니다.
+ */
+@Component
+public class TicketingRetryPolicy {
+
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public TicketingRetryPolicy(@Value("${festago.ticketing.optimistic.max-attempts:5}") int maxAttempts,
+                                @Value("${festago.ticketing.optimistic.base-backoff-millis:5}") long baseBackoffMillis,
+                                @Value("${festago.ticketing.optimistic.max-backoff-millis:100}") long maxBackoffMillis) {
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public boolean canRetry(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    public void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt, 20));
+        long backoffMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(backoffMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
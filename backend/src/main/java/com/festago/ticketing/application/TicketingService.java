@@ -2,49 +2,176 @@ package com.festago.ticketing.application;
 
 import com.festago.common.exception.BadRequestException;
 import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.FestaGoException;
 import com.festago.common.exception.NotFoundException;
 import com.festago.member.domain.Member;
 import com.festago.member.repository.MemberRepository;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.stage.domain.Stage;
+import com.festago.stage.repository.StageRepository;
 import com.festago.student.repository.StudentRepository;
-import com.festago.ticket.domain.Ticket;
-import com.festago.ticket.domain.TicketAmount;
+import com.festago.ticket.application.TicketSnapshotCache;
+import com.festago.ticket.domain.TicketSnapshot;
 import com.festago.ticket.domain.TicketType;
-import com.festago.ticket.repository.TicketAmountRepository;
-import com.festago.ticket.repository.TicketRepository;
 import com.festago.ticketing.domain.MemberTicket;
 import com.festago.ticketing.dto.TicketingRequest;
 import com.festago.ticketing.dto.TicketingResponse;
+import com.festago.ticketing.dto.event.MemberTicketCreatedEvent;
+import com.festago.ticketing.dto.event.ReservationsIssuedEvent;
+import com.festago.ticketing.dto.event.ReservationsIssuedEvent.IssuedReservation;
+import com.festago.ticketing.dto.event.TicketSoldOutEvent;
 import com.festago.ticketing.repository.MemberTicketRepository;
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class TicketingService {
 
     private final MemberTicketRepository memberTicketRepository;
-    private final TicketAmountRepository ticketAmountRepository;
-    private final TicketRepository ticketRepository;
+    private final ReserveSequenceProvider reserveSequenceProvider;
+    private final EntryTimeSequenceProvider entryTimeSequenceProvider;
+    private final ReservationChecker reservationChecker;
+    private final TicketSnapshotCache ticketSnapshotCache;
+    private final StageRepository stageRepository;
     private final MemberRepository memberRepository;
     private final StudentRepository studentRepository;
     private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TicketingLockTimer ticketingLockTimer;
+    private final ShardRouter shardRouter;
 
+    /**
+     * 검증은 트랜잭션 밖에서 끝내고, 예매 번호 발급과 멤버 티켓 저장만 짧은 트랜잭션으로 처리합니다. 티켓과 멤버 티켓은 학교의 샤드에서, 멤버와 학생 인증은
+     * 디렉터리 샤드에서 읽습니다.
+     */
     public TicketingResponse ticketing(Long memberId, TicketingRequest request) {
-        Ticket ticket = findTicketById(request.ticketId());
+        Long ticketId = request.ticketId();
+        TicketSnapshot ticket = shardRouter.executeOnTicket(ticketId, () -> ticketSnapshotCache.get(ticketId));
+        ticket.validateReservable();
+        Stage stage = stageRepository.getReferenceById(ticket.getStageId());
         Member member = findMemberById(memberId);
-        validateAlreadyReserved(member, ticket);
+        shardRouter.executeOnTicket(ticketId, () -> {
+            validateAlreadyReserved(member, stage);
+            return null;
+        });
         validateStudent(member, ticket);
-        int reserveSequence = getReserveSequence(request.ticketId());
-        MemberTicket memberTicket = ticket.createMemberTicket(member, reserveSequence, LocalDateTime.now(clock));
+        return shardRouter.executeOnTicket(ticketId,
+            () -> transactionTemplate.execute(status -> reserve(ticket, member, stage, request.entryTimeId())));
+    }
+
+    private TicketingResponse reserve(TicketSnapshot ticket, Member member, Stage stage, Long entryTimeId) {
+        ticketingLockTimer.startHolding(TicketingLockTimer.SINGLE);
+        int reserveSequence = provideSequence(ticket, entryTimeId);
+        MemberTicket memberTicket = ticket.createMemberTicket(member, stage, reserveSequence,
+            LocalDateTime.now(clock));
+        reserveSequenceProvider.assign(ticket.getTicketId(), reserveSequence, member.getId());
         memberTicketRepository.save(memberTicket);
+        eventPublisher.publishEvent(new MemberTicketCreatedEvent(member.getId(), ticket.getStageId()));
+        eventPublisher.publishEvent(new ReservationsIssuedEvent(ticket.getTicketId(),
+            List.of(toIssuedReservation(member.getId(), memberTicket))));
+        if (reserveSequenceProvider.issuesInOrder() && ticket.isLastSequence(reserveSequence)) {
+            eventPublisher.publishEvent(new TicketSoldOutEvent(ticket.getTicketId()));
+        }
         return TicketingResponse.from(memberTicket);
     }
 
-    private void validateStudent(Member member, Ticket ticket) {
+    /**
+     * 한 티켓의 예매 요청들을 하나의 트랜잭션에서 처리합니다. 멤버와 학생 인증은 디렉터리 샤드에서 먼저 검증하고, 예매 번호 발급과 멤버 티켓 저장은 티켓의 샤드에서
+     * 처리합니다. 검증에 실패한 요청은 바로 실패로 처리하고, 나머지 요청에 차례대로 예매 번호를 발급합니다. 성공한 요청의 결과는 커밋된 뒤에 알릴 수 있도록
+     * 반환합니다.
+     */
+    public Map<TicketingReservation, TicketingResponse> ticketingInBatch(Long ticketId,
+                                                                         List<TicketingReservation> reservations) {
+        TicketSnapshot ticket = shardRouter.executeOnTicket(ticketId, () -> ticketSnapshotCache.get(ticketId));
+        ticket.validateReservable();
+        Map<TicketingReservation, Member> members = findValidMembers(ticket, reservations);
+        return shardRouter.executeOnTicket(ticketId,
+            () -> transactionTemplate.execute(status -> reserveInBatch(ticket, members)));
+    }
+
+    private Map<TicketingReservation, Member> findValidMembers(TicketSnapshot ticket,
+                                                               List<TicketingReservation> reservations) {
+        Set<Long> memberIds = new HashSet<>();
+        Map<TicketingReservation, Member> members = new LinkedHashMap<>();
+        for (TicketingReservation reservation : reservations) {
+            if (reservation.isDone()) {
+                continue;
+            }
+            try {
+                Member member = findMemberById(reservation.getMemberId());
+                validateDuplicatedInBatch(memberIds, member);
+                validateStudent(member, ticket);
+                members.put(reservation, member);
+            } catch (FestaGoException e) {
+                reservation.fail(e);
+            }
+        }
+        return members;
+    }
+
+    private Map<TicketingReservation, TicketingResponse> reserveInBatch(TicketSnapshot ticket,
+                                                                        Map<TicketingReservation, Member> members) {
+        Long ticketId = ticket.getTicketId();
+        Stage stage = stageRepository.getReferenceById(ticket.getStageId());
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<TicketingReservation, MemberTicket> memberTickets = new LinkedHashMap<>();
+        members.forEach((reservation, member) -> {
+            try {
+                validateAlreadyReserved(member, stage);
+                ticketingLockTimer.startHolding(TicketingLockTimer.BATCH);
+                int reserveSequence = provideSequence(ticket, reservation.getEntryTimeId());
+                MemberTicket memberTicket = ticket.createMemberTicket(member, stage, reserveSequence, now);
+                reserveSequenceProvider.assign(ticketId, reserveSequence, member.getId());
+                memberTickets.put(reservation, memberTicket);
+            } catch (FestaGoException e) {
+                reservation.fail(e);
+            }
+        });
+        memberTicketRepository.saveAll(memberTickets.values());
+        eventPublisher.publishEvent(new ReservationsIssuedEvent(ticketId, memberTickets.entrySet().stream()
+            .map(entry -> toIssuedReservation(entry.getKey().getMemberId(), entry.getValue()))
+            .toList()));
+        Map<TicketingReservation, TicketingResponse> responses = new LinkedHashMap<>();
+        memberTickets.forEach((reservation, memberTicket) -> {
+            eventPublisher.publishEvent(new MemberTicketCreatedEvent(reservation.getMemberId(), ticket.getStageId()));
+            if (reserveSequenceProvider.issuesInOrder() && ticket.isLastSequence(memberTicket.getNumber())) {
+                eventPublisher.publishEvent(new TicketSoldOutEvent(ticketId));
+            }
+            responses.put(reservation, TicketingResponse.from(memberTicket));
+        });
+        return responses;
+    }
+
+    private IssuedReservation toIssuedReservation(Long memberId, MemberTicket memberTicket) {
+        return new IssuedReservation(memberTicket.getNumber(), memberId, memberTicket.getEntryTime());
+    }
+
+    private int provideSequence(TicketSnapshot ticket, Long entryTimeId) {
+        if (entryTimeId == null) {
+            return reserveSequenceProvider.provide(ticket.getTicketId());
+        }
+        int slotSequence = entryTimeSequenceProvider.provide(ticket.getTicketId(), entryTimeId);
+        return ticket.findReservationSequence(entryTimeId, slotSequence);
+    }
+
+    private void validateDuplicatedInBatch(Set<Long> memberIds, Member member) {
+        if (!memberIds.add(member.getId())) {
+            throw new BadRequestException(ErrorCode.RESERVE_TICKET_OVER_AMOUNT);
+        }
+    }
+
+    private void validateStudent(Member member, TicketSnapshot ticket) {
         if (ticket.getTicketType() != TicketType.STUDENT) {
             return;
         }
@@ -53,30 +180,14 @@ public class TicketingService {
         }
     }
 
-    private Ticket findTicketById(Long ticketId) {
-        return ticketRepository.findByIdWithFetch(ticketId)
-            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
-    }
-
     private Member findMemberById(Long memberId) {
         return memberRepository.findById(memberId)
             .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
-    private void validateAlreadyReserved(Member member, Ticket ticket) {
-        if (memberTicketRepository.existsByOwnerAndStage(member, ticket.getStage())) {
+    private void validateAlreadyReserved(Member member, Stage stage) {
+        if (reservationChecker.isReserved(member, stage)) {
             throw new BadRequestException(ErrorCode.RESERVE_TICKET_OVER_AMOUNT);
         }
     }
-
-    private int getReserveSequence(Long ticketId) {
-        TicketAmount ticketAmount = findTicketAmountById(ticketId);
-        ticketAmount.increaseReservedAmount();
-        return ticketAmount.getReservedAmount();
-    }
-
-    private TicketAmount findTicketAmountById(Long ticketId) {
-        return ticketAmountRepository.findByTicketIdForUpdate(ticketId)
-            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
-    }
 }
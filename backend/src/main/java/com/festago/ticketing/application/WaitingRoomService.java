@@ -0,0 +1,165 @@
+package com.festago.ticketing.application;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.common.exception.TooManyRequestException;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.ticket.repository.TicketRepository;
+import com.festago.ticketing.domain.WaitingRoom;
+import com.festago.ticketing.domain.WaitingTokenPayload;
+import com.festago.ticketing.dto.WaitingRoomResponse;
+import com.festago.ticketing.dto.event.TicketSoldOutEvent;
+import java.time.Clock;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 티켓마다 대기열을 메모리에 두고 정해진 속도로 입장시킵니다. 매진된 티켓의 대기열은 바로 닫고, 발급한 대기열 토큰이 모두 만료된 회원과 대기열은 주기적으로
+ * 지웁니다.
+ */
+@Service
+public class WaitingRoomService {
+
+    private static final long ADMIT_INTERVAL_MILLIS = 100;
+    private static final long MILLISECOND_FACTOR = 1_000;
+    private static final long TOKEN_EXPIRATION_MILLIS = 60 * 60 * MILLISECOND_FACTOR;
+
+    private final Map<Long, WaitingRoom> waitingRooms = new ConcurrentHashMap<>();
+    private final WaitingTokenProvider waitingTokenProvider;
+    private final WaitingTokenExtractor waitingTokenExtractor;
+    private final TicketRepository ticketRepository;
+    private final ShardRouter shardRouter;
+    private final Clock clock;
+    private final boolean enabled;
+    private final long admitPerSecond;
+    private final long admitPerInterval;
+
+    public WaitingRoomService(WaitingTokenProvider waitingTokenProvider,
+                              WaitingTokenExtractor waitingTokenExtractor,
+                              TicketRepository ticketRepository,
+                              ShardRouter shardRouter,
+                              Clock clock,
+                              @Value("${festago.ticketing.waiting-room.enabled:false}") boolean enabled,
+                              @Value("${festago.ticketing.waiting-room.admit-per-second:100}") long admitPerSecond) {
+        validateAdmitPerSecond(admitPerSecond);
+        this.waitingTokenProvider = waitingTokenProvider;
+        this.waitingTokenExtractor = waitingTokenExtractor;
+        this.ticketRepository = ticketRepository;
+        this.shardRouter = shardRouter;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.admitPerSecond = admitPerSecond;
+        this.admitPerInterval = Math.max(1, admitPerSecond * ADMIT_INTERVAL_MILLIS / MILLISECOND_FACTOR);
+    }
+
+    private void validateAdmitPerSecond(long admitPerSecond) {
+        if (admitPerSecond <= 0) {
+            throw new IllegalArgumentException("초당 입장 인원은 0보다 커야 합니다.");
+        }
+    }
+
+    public WaitingRoomResponse enter(Long memberId, Long ticketId) {
+        validateTicket(ticketId);
+        long now = clock.millis();
+        AtomicLong waitingNumber = new AtomicLong();
+        WaitingRoom waitingRoom = waitingRooms.compute(ticketId, (ignore, room) -> {
+            WaitingRoom target = room == null ? new WaitingRoom() : room;
+            waitingNumber.set(target.enter(memberId, now));
+            return target;
+        });
+        WaitingTokenPayload payload = new WaitingTokenPayload(ticketId, memberId, waitingNumber.get());
+        Date expiredAt = new Date(now + TOKEN_EXPIRATION_MILLIS);
+        String token = waitingTokenProvider.provide(payload, expiredAt);
+        return createResponse(token, waitingRoom, waitingNumber.get());
+    }
+
+    private void validateTicket(Long ticketId) {
+        if (waitingRooms.containsKey(ticketId)) {
+            return;
+        }
+        if (!shardRouter.executeOnTicket(ticketId, () -> ticketRepository.existsById(ticketId))) {
+            throw new NotFoundException(ErrorCode.TICKET_NOT_FOUND);
+        }
+    }
+
+    public WaitingRoomResponse findPosition(Long memberId, String token) {
+        WaitingTokenPayload payload = extractPayload(memberId, token);
+        WaitingRoom waitingRoom = findWaitingRoom(payload.getTicketId());
+        return createResponse(token, waitingRoom, payload.getWaitingNumber());
+    }
+
+    private WaitingRoomResponse createResponse(String token, WaitingRoom waitingRoom, long waitingNumber) {
+        long position = waitingRoom.calculatePosition(waitingNumber);
+        long estimatedWaitSeconds = (position + admitPerSecond - 1) / admitPerSecond;
+        return new WaitingRoomResponse(token, waitingNumber, position, estimatedWaitSeconds,
+            waitingRoom.isAdmitted(waitingNumber));
+    }
+
+    public void validateAdmission(Long memberId, Long ticketId, String token) {
+        if (!enabled) {
+            return;
+        }
+        if (token == null) {
+            throw new BadRequestException(ErrorCode.NEED_WAITING_TOKEN);
+        }
+        WaitingTokenPayload payload = extractPayload(memberId, token);
+        if (!payload.getTicketId().equals(ticketId)) {
+            throw new BadRequestException(ErrorCode.INVALID_WAITING_TOKEN);
+        }
+        if (!findWaitingRoom(ticketId).isAdmitted(payload.getWaitingNumber())) {
+            throw new TooManyRequestException(ErrorCode.NOT_ADMITTED_YET);
+        }
+    }
+
+    private WaitingTokenPayload extractPayload(Long memberId, String token) {
+        WaitingTokenPayload payload = waitingTokenExtractor.extract(token);
+        if (!payload.isOwner(memberId)) {
+            throw new BadRequestException(ErrorCode.INVALID_WAITING_TOKEN);
+        }
+        return payload;
+    }
+
+    private WaitingRoom findWaitingRoom(Long ticketId) {
+        WaitingRoom waitingRoom = waitingRooms.get(ticketId);
+        if (waitingRoom == null) {
+            throw new BadRequestException(ErrorCode.WAITING_ROOM_CLOSED);
+        }
+        return waitingRoom;
+    }
+
+    @Scheduled(fixedRate = ADMIT_INTERVAL_MILLIS)
+    public void admit() {
+        for (WaitingRoom waitingRoom : waitingRooms.values()) {
+            if (waitingRoom.hasWaiting()) {
+                waitingRoom.admit(admitPerInterval);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void close(TicketSoldOutEvent event) {
+        waitingRooms.remove(event.ticketId());
+    }
+
+    /**
+     * 대기열 토큰은 진입할 때마다 새로 발급되므로, 마지막 진입이 토큰 만료 시간보다 오래된 회원은 유효한 토큰이 남아 있지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${festago.ticketing.waiting-room.evict-interval-millis:60000}")
+    public void evictExpired() {
+        long threshold = clock.millis() - TOKEN_EXPIRATION_MILLIS;
+        for (Long ticketId : waitingRooms.keySet()) {
+            waitingRooms.computeIfPresent(ticketId, (ignore, waitingRoom) -> {
+                waitingRoom.evictEnteredBefore(threshold);
+                return waitingRoom.isEmpty() ? null : waitingRoom;
+            });
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.festago.ticketing.application;
+
+import com.festago.ticketing.domain.WaitingTokenPayload;
+
+public interface WaitingTokenExtractor {
+
+    WaitingTokenPayload extract(String token);
+}
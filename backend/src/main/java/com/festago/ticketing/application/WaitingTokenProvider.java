@@ -0,0 +1,9 @@
+package com.festago.ticketing.application;
+
+import com.festago.ticketing.domain.WaitingTokenPayload;
+import java.util.Date;
+
+public interface WaitingTokenProvider {
+
+    String provide(WaitingTokenPayload payload, Date expiredAt);
+}
@@ -0,0 +1,238 @@
+package com.festago.ticketing.application;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.FestaGoException;
+import com.festago.common.exception.NotFoundException;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.stage.domain.Stage;
+import com.festago.student.repository.StudentRepository;
+import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.domain.TicketAmount;
+import com.festago.ticket.domain.TicketType;
+import com.festago.ticket.repository.TicketAmountRepository;
+import com.festago.ticket.repository.TicketRepository;
+import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.domain.ReleasedSequence;
+import com.festago.ticketing.domain.WaitlistEntry;
+import com.festago.ticketing.dto.WaitlistPromotionResult;
+import com.festago.ticketing.dto.WaitlistResponse;
+import com.festago.ticketing.dto.event.MemberTicketCreatedEvent;
+import com.festago.ticketing.dto.event.ReservationsIssuedEvent;
+import com.festago.ticketing.dto.event.ReservationsIssuedEvent.IssuedReservation;
+import com.festago.ticketing.dto.event.WaitlistPromotedEvent;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import com.festago.ticketing.repository.ReleasedSequenceRepository;
+import com.festago.ticketing.repository.WaitlistEntryRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 매진된 티켓의 대기 신청을 받고, 취소로 반환된 예매 번호를 대기 순서대로 발급합니다. 대기자는 예매를 다시 시도하지 않고 한 번만 신청한 뒤 발급 알림을 받습니다.
+ */
+@Service
+public class WaitlistService {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistService.class);
+
+    private final TicketRepository ticketRepository;
+    private final TicketAmountRepository ticketAmountRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final ReleasedSequenceRepository releasedSequenceRepository;
+    private final MemberTicketRepository memberTicketRepository;
+    private final MemberRepository memberRepository;
+    private final StudentRepository studentRepository;
+    private final ReserveSequenceProvider reserveSequenceProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final ShardRouter shardRouter;
+    private final int promotionBatchSize;
+
+    public WaitlistService(TicketRepository ticketRepository,
+                           TicketAmountRepository ticketAmountRepository,
+                           WaitlistEntryRepository waitlistEntryRepository,
+                           ReleasedSequenceRepository releasedSequenceRepository,
+                           MemberTicketRepository memberTicketRepository,
+                           MemberRepository memberRepository,
+                           StudentRepository studentRepository,
+                           ReserveSequenceProvider reserveSequenceProvider,
+                           TransactionTemplate transactionTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           Clock clock,
+                           ShardRouter shardRouter,
+                           @Value("${festago.ticketing.waitlist.promotion-batch-size:100}") int promotionBatchSize) {
+        this.ticketRepository = ticketRepository;
+        this.ticketAmountRepository = ticketAmountRepository;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.releasedSequenceRepository = releasedSequenceRepository;
+        this.memberTicketRepository = memberTicketRepository;
+        this.memberRepository = memberRepository;
+        this.studentRepository = studentRepository;
+        this.reserveSequenceProvider = reserveSequenceProvider;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.shardRouter = shardRouter;
+        this.promotionBatchSize = promotionBatchSize;
+    }
+
+    /**
+     * 티켓, 멤버 티켓, 대기 신청은 티켓의 샤드에서, 멤버와 학생 인증은 디렉터리 샤드에서 읽습니다.
+     */
+    public WaitlistResponse join(Long memberId, Long ticketId) {
+        Ticket ticket = shardRouter.executeOnTicket(ticketId, () -> {
+            Ticket found = ticketRepository.findByIdWithStage(ticketId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+            validateJoinable(found);
+            return found;
+        });
+        Member member = memberRepository.findById(memberId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.MEMBER_NOT_FOUND));
+        validateStudent(member, ticket);
+        return shardRouter.executeOnTicket(ticketId, () -> {
+            if (memberTicketRepository.existsByOwnerAndStage(member, ticket.getStage())) {
+                throw new BadRequestException(ErrorCode.RESERVE_TICKET_OVER_AMOUNT);
+            }
+            try {
+                WaitlistEntry waitlistEntry = waitlistEntryRepository.save(new WaitlistEntry(ticketId, memberId));
+                return toResponse(waitlistEntry);
+            } catch (DataIntegrityViolationException e) {
+                throw new BadRequestException(ErrorCode.WAITLIST_ALREADY_JOINED);
+            }
+        });
+    }
+
+    private void validateJoinable(Ticket ticket) {
+        if (ticket.isLottery()) {
+            throw new BadRequestException(ErrorCode.LOTTERY_TICKET_NOT_RESERVABLE);
+        }
+        if (ticket.getStage().isStart(LocalDateTime.now(clock))) {
+            throw new BadRequestException(ErrorCode.TICKET_CANNOT_RESERVE_STAGE_START);
+        }
+        TicketAmount ticketAmount = ticketAmountRepository.findById(ticket.getId())
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        if (ticketAmount.calculateRemainAmount() > 0) {
+            throw new BadRequestException(ErrorCode.WAITLIST_TICKET_NOT_SOLD_OUT);
+        }
+    }
+
+    private void validateStudent(Member member, Ticket ticket) {
+        if (ticket.getTicketType() != TicketType.STUDENT) {
+            return;
+        }
+        if (!studentRepository.existsByMemberAndSchoolId(member, ticket.getSchoolId())) {
+            throw new BadRequestException(ErrorCode.NEED_STUDENT_VERIFICATION);
+        }
+    }
+
+    public WaitlistResponse findPosition(Long memberId, Long ticketId) {
+        return shardRouter.executeOnTicket(ticketId, () -> toResponse(findWaitlistEntry(memberId, ticketId)));
+    }
+
+    public void leave(Long memberId, Long ticketId) {
+        shardRouter.executeOnTicket(ticketId, () -> {
+            waitlistEntryRepository.delete(findWaitlistEntry(memberId, ticketId));
+            return null;
+        });
+    }
+
+    private WaitlistEntry findWaitlistEntry(Long memberId, Long ticketId) {
+        return waitlistEntryRepository.findByTicketIdAndMemberId(ticketId, memberId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.WAITLIST_ENTRY_NOT_FOUND));
+    }
+
+    private WaitlistResponse toResponse(WaitlistEntry waitlistEntry) {
+        long position = waitlistEntryRepository.countByTicketIdAndIdLessThanEqual(waitlistEntry.getTicketId(),
+            waitlistEntry.getId());
+        return WaitlistResponse.of(waitlistEntry, position);
+    }
+
+    @Scheduled(fixedDelayString = "${festago.ticketing.waitlist.promotion-interval-millis:1000}")
+    public void promoteWaitlists() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Long> ticketIds = shardRouter.executeOnAllShards(
+            () -> releasedSequenceRepository.findPromotableTicketIds(now));
+        for (Long ticketId : new LinkedHashSet<>(ticketIds)) {
+            try {
+                WaitlistPromotionResult result = promote(ticketId);
+                log.info("대기자에게 예매 번호를 발급했습니다. ticketId={}, promoted={}", ticketId, result.promotedCount());
+            } catch (FestaGoException e) {
+                log.warn("대기자에게 예매 번호를 발급하지 못했습니다. ticketId={}", ticketId, e);
+            }
+        }
+    }
+
+    /**
+     * 티켓 수량 행을 잠그므로 여러 노드에서 동시에 실행되어도 같은 번호가 두 명에게 발급되지 않습니다. 한 번에 최대 promotionBatchSize 개의 번호를
+     * 발급하고, 남은 번호는 다음 주기에 발급합니다.
+     */
+    public WaitlistPromotionResult promote(Long ticketId) {
+        return shardRouter.executeOnTicket(ticketId,
+            () -> transactionTemplate.execute(status -> promoteInTransaction(ticketId)));
+    }
+
+    private WaitlistPromotionResult promoteInTransaction(Long ticketId) {
+        ticketAmountRepository.findByTicketIdForUpdate(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        Ticket ticket = ticketRepository.findByIdWithStage(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        Stage stage = ticket.getStage();
+        PageRequest batch = PageRequest.of(0, promotionBatchSize);
+        List<ReleasedSequence> releasedSequences = releasedSequenceRepository.findAllByTicketIdOrderByNumberAsc(
+            ticketId, batch);
+        Set<Long> ownerIds = new HashSet<>(memberTicketRepository.findOwnerIdsByStageId(stage.getId()));
+        List<WaitlistEntry> consumedEntries = new ArrayList<>();
+        List<MemberTicket> memberTickets = new ArrayList<>();
+        for (WaitlistEntry waitlistEntry : waitlistEntryRepository.findAllByTicketIdOrderByIdAsc(ticketId, batch)) {
+            if (memberTickets.size() == releasedSequences.size()) {
+                break;
+            }
+            consumedEntries.add(waitlistEntry);
+            if (!ownerIds.add(waitlistEntry.getMemberId())) {
+                continue;
+            }
+            ReleasedSequence releasedSequence = releasedSequences.get(memberTickets.size());
+            Member member = memberRepository.getReferenceById(waitlistEntry.getMemberId());
+            memberTickets.add(new MemberTicket(member, stage, releasedSequence.getNumber(),
+                releasedSequence.getEntryTime(), ticket.getTicketType()));
+            reserveSequenceProvider.assign(ticketId, releasedSequence.getNumber(), member.getId());
+        }
+        memberTicketRepository.saveAll(memberTickets);
+        releasedSequenceRepository.deleteAllInBatch(releasedSequences.subList(0, memberTickets.size()));
+        waitlistEntryRepository.deleteAllInBatch(consumedEntries);
+        publishPromoted(ticketId, stage, memberTickets);
+        return new WaitlistPromotionResult(ticketId, memberTickets.size());
+    }
+
+    private void publishPromoted(Long ticketId, Stage stage, List<MemberTicket> memberTickets) {
+        if (memberTickets.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new ReservationsIssuedEvent(ticketId, memberTickets.stream()
+            .map(memberTicket -> new IssuedReservation(memberTicket.getNumber(), memberTicket.getOwner().getId(),
+                memberTicket.getEntryTime()))
+            .toList()));
+        for (MemberTicket memberTicket : memberTickets) {
+            Long memberId = memberTicket.getOwner().getId();
+            eventPublisher.publishEvent(new MemberTicketCreatedEvent(memberId, stage.getId()));
+            eventPublisher.publishEvent(new WaitlistPromotedEvent(memberId, ticketId));
+        }
+    }
+}
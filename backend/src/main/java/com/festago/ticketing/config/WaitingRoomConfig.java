@@ -0,0 +1,29 @@
+package com.festago.ticketing.config;
+
+import com.festago.ticketing.application.WaitingTokenExtractor;
+import com.festago.ticketing.application.WaitingTokenProvider;
+import com.festago.ticketing.infrastructure.JwtWaitingTokenExtractor;
+import com.festago.ticketing.infrastructure.JwtWaitingTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WaitingRoomConfig {
+
+    private final String secretKey;
+
+    public WaitingRoomConfig(@Value("${festago.waiting-secret-key:${festago.qr-secret-key}}") String secretKey) {
+        this.secretKey = secretKey;
+    }
+
+    @Bean
+    public WaitingTokenProvider waitingTokenProvider() {
+        return new JwtWaitingTokenProvider(secretKey);
+    }
+
+    @Bean
+    public WaitingTokenExtractor waitingTokenExtractor() {
+        return new JwtWaitingTokenExtractor(secretKey);
+    }
+}
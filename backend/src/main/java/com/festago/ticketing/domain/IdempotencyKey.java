@@ -0,0 +1,17 @@
+package com.festago.ticketing.domain;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+
+public record IdempotencyKey(
+    Long memberId,
+    String value) {
+
+    private static final int MAX_LENGTH = 255;
+
+    public IdempotencyKey {
+        if (memberId == null || value == null || value.isBlank() || value.length() > MAX_LENGTH) {
+            throw new BadRequestException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.festago.ticketing.domain;
+
+import com.festago.common.domain.BaseTimeEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추첨 티켓의 응모 기록입니다. 응모는 락 없이 insert 한 번으로 끝나도록 연관관계 없이 식별자만 가집니다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "unique_lottery_application_ticket_member",
+    columnNames = {"ticket_id", "member_id"}
+))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LotteryApplication extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long ticketId;
+
+    @NotNull
+    private Long memberId;
+
+    public LotteryApplication(Long ticketId, Long memberId) {
+        validate(ticketId, memberId);
+        this.ticketId = ticketId;
+        this.memberId = memberId;
+    }
+
+    private void validate(Long ticketId, Long memberId) {
+        if (ticketId == null || memberId == null) {
+            throw new IllegalArgumentException("LotteryApplication 은 허용되지 않은 null 값으로 생성할 수 없습니다.");
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+}
@@ -1,6 +1,8 @@
 package com.festago.ticketing.domain;
 
 import com.festago.common.domain.BaseTimeEntity;
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
 import com.festago.member.domain.Member;
 import com.festago.stage.domain.Stage;
 import com.festago.ticket.domain.TicketType;
@@ -11,7 +13,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
@@ -20,13 +26,28 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "index_member_ticket_stage_owner", columnList = "stage_id, owner_id"),
+    @Index(name = "index_member_ticket_owner_entry_time", columnList = "owner_id, entry_time")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "unique_member_ticket_stage_type_number", columnNames = {"stage_id", "ticket_type",
+        "number"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MemberTicket extends BaseTimeEntity {
 
     private static final long ENTRY_LIMIT_HOUR = 24;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "member_ticket_id_generator")
+    @TableGenerator(
+        name = "member_ticket_id_generator",
+        table = "id_generator",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "member_ticket",
+        allocationSize = 50
+    )
     private Long id;
 
     @NotNull
@@ -113,6 +134,19 @@ public class MemberTicket extends BaseTimeEntity {
             && currentTime.isBefore(entryTime.plusHours(ENTRY_LIMIT_HOUR));
     }
 
+    /**
+     * 입장 시간이 반환한 시각과 같거나 이전인 티켓은 현재 시간에 입장 가능 시간이 끝났습니다.
+     */
+    public static LocalDateTime entryClosedTime(LocalDateTime currentTime) {
+        return currentTime.minusHours(ENTRY_LIMIT_HOUR);
+    }
+
+    public void validateCancellable(LocalDateTime currentTime) {
+        if (entryState != EntryState.BEFORE_ENTRY || stage.isStart(currentTime)) {
+            throw new BadRequestException(ErrorCode.MEMBER_TICKET_NOT_CANCELLABLE);
+        }
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,72 @@
+package com.festago.ticketing.domain;
+
+import com.festago.common.domain.BaseTimeEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 취소된 멤버 티켓의 예매 번호입니다. 예매 수량을 줄이면 다음 예매에 이미 발급된 번호가 다시 발급될 수 있으므로, 취소된 번호는 예매 수량으로 되돌리지 않고 대기자에게
+ * 그대로 다시 발급합니다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "unique_released_sequence_ticket_number",
+    columnNames = {"ticket_id", "number"}
+))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReleasedSequence extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long ticketId;
+
+    @Min(value = 0)
+    private int number;
+
+    @NotNull
+    private LocalDateTime entryTime;
+
+    public ReleasedSequence(Long ticketId, int number, LocalDateTime entryTime) {
+        validate(ticketId, number, entryTime);
+        this.ticketId = ticketId;
+        this.number = number;
+        this.entryTime = entryTime;
+    }
+
+    private void validate(Long ticketId, int number, LocalDateTime entryTime) {
+        if (ticketId == null || entryTime == null) {
+            throw new IllegalArgumentException("ReleasedSequence 는 허용되지 않은 null 값으로 생성할 수 없습니다.");
+        }
+        if (number < 0) {
+            throw new IllegalArgumentException("ReleasedSequence 의 필드로 허용된 범위를 넘은 column 을 넣을 수 없습니다.");
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public LocalDateTime getEntryTime() {
+        return entryTime;
+    }
+}
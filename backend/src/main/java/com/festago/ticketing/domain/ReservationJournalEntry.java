@@ -0,0 +1,77 @@
+package com.festago.ticketing.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 예매 저널에 기록되는 한 건입니다. 발급한 예매 번호는 커밋 직전에 ISSUED 로, 커밋하지 못한 예매 번호는 ABORTED 로 기록합니다.
+ */
+public class ReservationJournalEntry {
+
+    private final ReservationJournalEntryType type;
+    private final Long ticketId;
+    private final int sequence;
+    private final Long memberId;
+    private final LocalDateTime entryTime;
+
+    public ReservationJournalEntry(ReservationJournalEntryType type, Long ticketId, int sequence, Long memberId,
+                                   LocalDateTime entryTime) {
+        validate(type, ticketId, sequence, memberId, entryTime);
+        this.type = type;
+        this.ticketId = ticketId;
+        this.sequence = sequence;
+        this.memberId = memberId;
+        this.entryTime = entryTime;
+    }
+
+    private void validate(ReservationJournalEntryType type, Long ticketId, int sequence, Long memberId,
+                          LocalDateTime entryTime) {
+        if (type == null || ticketId == null || memberId == null || entryTime == null) {
+            throw new IllegalArgumentException("ReservationJournalEntry 는 허용되지 않은 null 값으로 생성할 수 없습니다.");
+        }
+        if (sequence <= 0) {
+            throw new IllegalArgumentException("ReservationJournalEntry 의 예매 번호는 양수여야 합니다.");
+        }
+    }
+
+    public ReservationJournalEntryType getType() {
+        return type;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public LocalDateTime getEntryTime() {
+        return entryTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationJournalEntry that = (ReservationJournalEntry) o;
+        return sequence == that.sequence
+            && type == that.type
+            && Objects.equals(ticketId, that.ticketId)
+            && Objects.equals(memberId, that.memberId)
+            && Objects.equals(entryTime, that.entryTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, ticketId, sequence, memberId, entryTime);
+    }
+}
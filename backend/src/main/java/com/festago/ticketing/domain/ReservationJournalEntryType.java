@@ -0,0 +1,6 @@
+package com.festago.ticketing.domain;
+
+public enum ReservationJournalEntryType {
+    ISSUED,
+    ABORTED
+}
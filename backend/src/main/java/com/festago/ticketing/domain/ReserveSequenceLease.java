@@ -0,0 +1,100 @@
+package com.festago.ticketing.domain;
+
+import com.festago.common.domain.BaseTimeEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(indexes = @Index(name = "index_reserve_sequence_lease_ticket_expired", columnList = "ticket_id, expired_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReserveSequenceLease extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long ticketId;
+
+    @Min(value = 1)
+    private int startSequence;
+
+    @Min(value = 1)
+    private int endSequence;
+
+    private String nodeId;
+
+    @NotNull
+    private LocalDateTime expiredAt;
+
+    public ReserveSequenceLease(Long ticketId, int startSequence, int endSequence, String nodeId,
+                                LocalDateTime expiredAt) {
+        validate(ticketId, startSequence, endSequence, expiredAt);
+        this.ticketId = ticketId;
+        this.startSequence = startSequence;
+        this.endSequence = endSequence;
+        this.nodeId = nodeId;
+        this.expiredAt = expiredAt;
+    }
+
+    private void validate(Long ticketId, int startSequence, int endSequence, LocalDateTime expiredAt) {
+        if (ticketId == null || expiredAt == null) {
+            throw new IllegalArgumentException("ReserveSequenceLease 는 허용되지 않은 null 값으로 생성할 수 없습니다.");
+        }
+        if (startSequence <= 0 || startSequence > endSequence) {
+            throw new IllegalArgumentException("ReserveSequenceLease 의 범위가 올바르지 않습니다.");
+        }
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiredAt.isBefore(now);
+    }
+
+    public void renew(String nodeId, LocalDateTime expiredAt) {
+        this.nodeId = nodeId;
+        this.expiredAt = expiredAt;
+    }
+
+    public void release(int nextSequence, LocalDateTime now) {
+        this.startSequence = Math.max(startSequence, nextSequence);
+        this.nodeId = null;
+        this.expiredAt = now;
+    }
+
+    public boolean isExhausted() {
+        return startSequence > endSequence;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public int getStartSequence() {
+        return startSequence;
+    }
+
+    public int getEndSequence() {
+        return endSequence;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public LocalDateTime getExpiredAt() {
+        return expiredAt;
+    }
+}
@@ -0,0 +1,95 @@
+package com.festago.ticketing.domain;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SequenceBlock {
+
+    public static final int EXHAUSTED = -1;
+
+    private final Long leaseId;
+    private final int endSequence;
+    private final Set<Integer> usedSequences;
+    private final AtomicInteger nextSequence;
+    private final long expiryMarginMillis;
+    private volatile long lastUsedAt;
+    private volatile long leaseExpiredAt;
+
+    public SequenceBlock(Long leaseId, int startSequence, int endSequence, Set<Integer> usedSequences,
+                         long currentTimeMillis, long leaseExpiredAt, long expiryMarginMillis) {
+        validate(leaseId, startSequence, endSequence);
+        this.leaseId = leaseId;
+        this.endSequence = endSequence;
+        this.usedSequences = Set.copyOf(usedSequences);
+        this.nextSequence = new AtomicInteger(startSequence);
+        this.lastUsedAt = currentTimeMillis;
+        this.leaseExpiredAt = leaseExpiredAt;
+        this.expiryMarginMillis = expiryMarginMillis;
+    }
+
+    private void validate(Long leaseId, int startSequence, int endSequence) {
+        if (leaseId == null) {
+            throw new IllegalArgumentException("SequenceBlock 은 허용되지 않은 null 값으로 생성할 수 없습니다.");
+        }
+        if (startSequence <= 0 || startSequence > endSequence + 1) {
+            throw new IllegalArgumentException("SequenceBlock 의 범위가 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 임대 만료까지 남은 시간이 여유 시간보다 짧으면 번호를 발급하지 않습니다. 발급한 번호의 예매가 커밋되기 전에 임대가 만료되어 다른 노드가 같은
+     * 번호를 발급하는 일을 막기 위함입니다.
+     */
+    public int next(long currentTimeMillis) {
+        if (isExpiring(currentTimeMillis)) {
+            return EXHAUSTED;
+        }
+        lastUsedAt = currentTimeMillis;
+        while (true) {
+            int sequence = nextSequence.getAndIncrement();
+            if (sequence > endSequence) {
+                nextSequence.set(endSequence + 1);
+                return EXHAUSTED;
+            }
+            if (!usedSequences.contains(sequence)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * 더 이상 번호를 발급하지 않도록 블록을 닫고, 아직 발급되지 않은 첫 번호를 반환합니다.
+     */
+    public int seal() {
+        int sequence = nextSequence.getAndSet(endSequence + 1);
+        return Math.min(sequence, endSequence + 1);
+    }
+
+    public boolean isExpiring(long currentTimeMillis) {
+        return currentTimeMillis >= leaseExpiredAt - expiryMarginMillis;
+    }
+
+    public void extend(long leaseExpiredAt) {
+        this.leaseExpiredAt = Math.max(this.leaseExpiredAt, leaseExpiredAt);
+    }
+
+    public boolean isExhausted() {
+        return nextSequence.get() > endSequence;
+    }
+
+    public boolean isIdle(long currentTimeMillis, long idleMillis) {
+        return currentTimeMillis - lastUsedAt >= idleMillis;
+    }
+
+    public int getNextSequence() {
+        return nextSequence.get();
+    }
+
+    public Long getLeaseId() {
+        return leaseId;
+    }
+
+    public int getEndSequence() {
+        return endSequence;
+    }
+}
@@ -0,0 +1,58 @@
+package com.festago.ticketing.domain;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 티켓 하나의 예매 수량을 하나의 원자적 카운터로 관리합니다. 예매 번호는 빈틈없이 도착 순서대로 발급되어야 하고 재시작 시 MAX(number) 로 복구하므로,
+ * 카운터를 여러 조각으로 나누지 않고 티켓마다 하나의 CAS 로 번호를 발급합니다.
+ */
+public class TicketInventory {
+
+    private final AtomicInteger reservedAmount;
+    private volatile int totalAmount;
+
+    public TicketInventory(int reservedAmount, int totalAmount) {
+        validate(reservedAmount, totalAmount);
+        this.reservedAmount = new AtomicInteger(reservedAmount);
+        this.totalAmount = totalAmount;
+    }
+
+    private void validate(int reservedAmount, int totalAmount) {
+        if (reservedAmount < 0 || totalAmount < 0) {
+            throw new IllegalArgumentException("TicketInventory 의 수량은 음수일 수 없습니다.");
+        }
+    }
+
+    public int reserve() {
+        while (true) {
+            int current = reservedAmount.get();
+            if (current >= totalAmount) {
+                throw new BadRequestException(ErrorCode.TICKET_SOLD_OUT);
+            }
+            if (reservedAmount.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    public void changeTotalAmount(int totalAmount) {
+        if (totalAmount < 0) {
+            throw new IllegalArgumentException("TicketInventory 의 수량은 음수일 수 없습니다.");
+        }
+        this.totalAmount = totalAmount;
+    }
+
+    public boolean isSoldOut() {
+        return reservedAmount.get() >= totalAmount;
+    }
+
+    public int getReservedAmount() {
+        return reservedAmount.get();
+    }
+
+    public int getTotalAmount() {
+        return totalAmount;
+    }
+}
@@ -0,0 +1,76 @@
+package com.festago.ticketing.domain;
+
+import com.festago.common.domain.BaseTimeEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌석 풀 방식에서 미리 만들어 두는 예매 번호 한 개입니다. 예매는 비어 있는 좌석 하나를 잠그고 claimed 로 바꾼 뒤 주인을 정합니다.
+ */
+@Entity
+@Table(
+    indexes = @Index(name = "index_ticket_seat_ticket_claimed", columnList = "ticket_id, claimed"),
+    uniqueConstraints = @UniqueConstraint(name = "unique_ticket_seat_ticket_number",
+        columnNames = {"ticket_id", "number"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TicketSeat extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long ticketId;
+
+    @Min(value = 1)
+    private int number;
+
+    private boolean claimed = false;
+
+    private Long ownerId;
+
+    public TicketSeat(Long ticketId, int number) {
+        validate(ticketId, number);
+        this.ticketId = ticketId;
+        this.number = number;
+    }
+
+    private void validate(Long ticketId, int number) {
+        if (ticketId == null) {
+            throw new IllegalArgumentException("TicketSeat 은 허용되지 않은 null 값으로 생성할 수 없습니다.");
+        }
+        if (number <= 0) {
+            throw new IllegalArgumentException("TicketSeat 의 번호는 양수여야 합니다.");
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public boolean isClaimed() {
+        return claimed;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+}
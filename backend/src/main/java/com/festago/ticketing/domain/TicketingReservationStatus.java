@@ -0,0 +1,7 @@
+package com.festago.ticketing.domain;
+
+public enum TicketingReservationStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,57 @@
+package com.festago.ticketing.domain;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WaitingRoom {
+
+    private final Map<Long, Waiting> waitingByMemberId = new ConcurrentHashMap<>();
+    private final AtomicLong lastWaitingNumber = new AtomicLong();
+    private final AtomicLong admittedWaitingNumber = new AtomicLong();
+
+    public long enter(Long memberId, long enteredAt) {
+        return waitingByMemberId.compute(memberId, (ignore, waiting) -> {
+            if (waiting == null) {
+                return new Waiting(lastWaitingNumber.incrementAndGet(), enteredAt);
+            }
+            return new Waiting(waiting.waitingNumber(), enteredAt);
+        }).waitingNumber();
+    }
+
+    public void admit(long count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("입장 인원은 0보다 커야 합니다.");
+        }
+        admittedWaitingNumber.updateAndGet(admitted -> Math.min(lastWaitingNumber.get(), admitted + count));
+    }
+
+    public long calculatePosition(long waitingNumber) {
+        return Math.max(0, waitingNumber - admittedWaitingNumber.get());
+    }
+
+    public boolean isAdmitted(long waitingNumber) {
+        return waitingNumber <= admittedWaitingNumber.get();
+    }
+
+    public boolean hasWaiting() {
+        return admittedWaitingNumber.get() < lastWaitingNumber.get();
+    }
+
+    /**
+     * 마지막으로 진입한 시각이 기준보다 이른 회원의 대기번호를 지웁니다. 지워진 회원이 다시 진입하면 새 대기번호를 받습니다.
+     */
+    public void evictEnteredBefore(long threshold) {
+        waitingByMemberId.values().removeIf(waiting -> waiting.enteredAt() < threshold);
+    }
+
+    public boolean isEmpty() {
+        return waitingByMemberId.isEmpty();
+    }
+
+    private record Waiting(
+        long waitingNumber,
+        long enteredAt) {
+
+    }
+}
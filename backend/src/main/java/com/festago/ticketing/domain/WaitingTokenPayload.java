@@ -0,0 +1,40 @@
+package com.festago.ticketing.domain;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.InternalServerException;
+
+public class WaitingTokenPayload {
+
+    private final Long ticketId;
+    private final Long memberId;
+    private final long waitingNumber;
+
+    public WaitingTokenPayload(Long ticketId, Long memberId, Long waitingNumber) {
+        validate(ticketId, memberId, waitingNumber);
+        this.ticketId = ticketId;
+        this.memberId = memberId;
+        this.waitingNumber = waitingNumber;
+    }
+
+    private void validate(Long ticketId, Long memberId, Long waitingNumber) {
+        if (ticketId == null || memberId == null || waitingNumber == null || waitingNumber <= 0) {
+            throw new InternalServerException(ErrorCode.INVALID_WAITING_TOKEN_PAYLOAD);
+        }
+    }
+
+    public boolean isOwner(Long memberId) {
+        return this.memberId.equals(memberId);
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public long getWaitingNumber() {
+        return waitingNumber;
+    }
+}
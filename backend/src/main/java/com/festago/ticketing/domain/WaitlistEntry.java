@@ -0,0 +1,58 @@
+package com.festago.ticketing.domain;
+
+import com.festago.common.domain.BaseTimeEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매진된 티켓의 대기 신청입니다. 식별자 순서가 곧 대기 순서이므로, 취소된 번호는 식별자가 작은 대기자부터 발급합니다.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "unique_waitlist_entry_ticket_member",
+    columnNames = {"ticket_id", "member_id"}
+))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaitlistEntry extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long ticketId;
+
+    @NotNull
+    private Long memberId;
+
+    public WaitlistEntry(Long ticketId, Long memberId) {
+        validate(ticketId, memberId);
+        this.ticketId = ticketId;
+        this.memberId = memberId;
+    }
+
+    private void validate(Long ticketId, Long memberId) {
+        if (ticketId == null || memberId == null) {
+            throw new IllegalArgumentException("WaitlistEntry 는 허용되지 않은 null 값으로 생성할 수 없습니다.");
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.festago.ticketing.dto;
+
+import com.festago.ticketing.domain.LotteryApplication;
+
+public record LotteryApplicationResponse(
+    Long id,
+    Long ticketId) {
+
+    public static LotteryApplicationResponse from(LotteryApplication lotteryApplication) {
+        return new LotteryApplicationResponse(
+            lotteryApplication.getId(),
+            lotteryApplication.getTicketId());
+    }
+}
@@ -0,0 +1,8 @@
+package com.festago.ticketing.dto;
+
+public record LotteryDrawResult(
+    Long ticketId,
+    int applicantCount,
+    int winnerCount) {
+
+}
@@ -0,0 +1,41 @@
+package com.festago.ticketing.dto;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 티켓 목록에서 마지막으로 받은 티켓의 입장 시간과 식별자입니다. 클라이언트에는 내용을 알 수 없는 문자열로 전달합니다.
+ */
+public record MemberTicketCursor(
+    LocalDateTime entryTime,
+    Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static MemberTicketCursor from(MemberTicketResponse response) {
+        return new MemberTicketCursor(response.entryTime(), response.id());
+    }
+
+    public static MemberTicketCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            return new MemberTicketCursor(
+                LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorCode.INVALID_MEMBER_TICKET_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = entryTime + DELIMITER + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package com.festago.ticketing.dto;
+
+import java.util.List;
+
+public record MemberTicketPageResponse(
+    List<MemberTicketResponse> memberTickets,
+    String nextCursor) {
+
+    /**
+     * 다음 페이지가 있는지 알 수 있도록 size 보다 하나 더 조회한 결과를 받습니다.
+     */
+    public static MemberTicketPageResponse of(List<MemberTicketResponse> memberTickets, int size) {
+        if (memberTickets.size() <= size) {
+            return new MemberTicketPageResponse(memberTickets, null);
+        }
+        List<MemberTicketResponse> page = memberTickets.subList(0, size);
+        String nextCursor = MemberTicketCursor.from(page.get(size - 1)).encode();
+        return new MemberTicketPageResponse(List.copyOf(page), nextCursor);
+    }
+}
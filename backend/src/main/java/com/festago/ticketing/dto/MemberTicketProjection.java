@@ -0,0 +1,28 @@
+package com.festago.ticketing.dto;
+
+import com.festago.ticketing.domain.EntryState;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 멤버 티켓 응답에 필요한 컬럼만 한 번에 조회한 결과입니다. 공연과 축제를 엔티티로 불러오지 않습니다.
+ */
+public record MemberTicketProjection(
+    Long id,
+    Long ownerId,
+    Integer number,
+    LocalDateTime entryTime,
+    EntryState entryState,
+    LocalDateTime reservedAt,
+    Long stageId,
+    LocalDateTime stageStartTime,
+    LocalDateTime ticketOpenTime,
+    String lineUp,
+    Long festivalId,
+    String festivalName,
+    String festivalThumbnail) {
+
+    public boolean isOwner(Long memberId) {
+        return Objects.equals(ownerId, memberId);
+    }
+}
@@ -1,9 +1,7 @@
 package com.festago.ticketing.dto;
 
-import com.festago.stage.domain.Stage;
 import com.festago.stage.dto.StageResponse;
 import com.festago.ticketing.domain.EntryState;
-import com.festago.ticketing.domain.MemberTicket;
 import java.time.LocalDateTime;
 
 public record MemberTicketResponse(
@@ -17,16 +15,23 @@ public record MemberTicketResponse(
 
     private static final MemberTicketResponse EMPTY = new MemberTicketResponse(-1L, null, null, null, null, null, null);
 
-    public static MemberTicketResponse from(MemberTicket memberTicket) {
-        Stage stage = memberTicket.getStage();
+    public static MemberTicketResponse from(MemberTicketProjection projection) {
         return new MemberTicketResponse(
-            memberTicket.getId(),
-            memberTicket.getNumber(),
-            memberTicket.getEntryTime(),
-            memberTicket.getEntryState(),
-            memberTicket.getCreatedAt(),
-            StageResponse.from(stage),
-            MemberTicketFestivalResponse.from(stage.getFestival()));
+            projection.id(),
+            projection.number(),
+            projection.entryTime(),
+            projection.entryState(),
+            projection.reservedAt(),
+            new StageResponse(
+                projection.stageId(),
+                projection.festivalId(),
+                projection.stageStartTime(),
+                projection.ticketOpenTime(),
+                projection.lineUp()),
+            new MemberTicketFestivalResponse(
+                projection.festivalId(),
+                projection.festivalName(),
+                projection.festivalThumbnail()));
     }
 
     public static MemberTicketResponse empty() {
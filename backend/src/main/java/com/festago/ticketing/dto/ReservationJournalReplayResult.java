@@ -0,0 +1,8 @@
+package com.festago.ticketing.dto;
+
+public record ReservationJournalReplayResult(
+    int issuedCount,
+    int restoredCount,
+    int skippedCount) {
+
+}
@@ -4,7 +4,11 @@ import jakarta.validation.constraints.NotNull;
 
 public record TicketingRequest(
     @NotNull(message = "ticketId는 null 일 수 없습니다.")
-    Long ticketId
+    Long ticketId,
+    Long entryTimeId
 ) {
 
+    public TicketingRequest(Long ticketId) {
+        this(ticketId, null);
+    }
 }
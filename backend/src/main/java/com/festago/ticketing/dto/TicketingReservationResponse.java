@@ -0,0 +1,32 @@
+package com.festago.ticketing.dto;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.FestaGoException;
+import com.festago.common.exception.dto.ErrorResponse;
+import com.festago.ticketing.application.TicketingReservation;
+import com.festago.ticketing.domain.TicketingReservationStatus;
+
+public record TicketingReservationResponse(
+    String handle,
+    TicketingReservationStatus status,
+    TicketingResponse ticket,
+    ErrorResponse error) {
+
+    public static TicketingReservationResponse from(TicketingReservation reservation) {
+        return new TicketingReservationResponse(
+            reservation.getHandle(),
+            reservation.getStatus(),
+            reservation.getResponse(),
+            toErrorResponse(reservation.getFailure()));
+    }
+
+    private static ErrorResponse toErrorResponse(Throwable failure) {
+        if (failure == null) {
+            return null;
+        }
+        if (failure instanceof FestaGoException festaGoException) {
+            return ErrorResponse.from(festaGoException);
+        }
+        return ErrorResponse.from(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+}
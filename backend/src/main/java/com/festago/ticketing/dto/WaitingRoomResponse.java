@@ -0,0 +1,10 @@
+package com.festago.ticketing.dto;
+
+public record WaitingRoomResponse(
+    String token,
+    Long waitingNumber,
+    Long position,
+    Long estimatedWaitSeconds,
+    boolean admitted) {
+
+}
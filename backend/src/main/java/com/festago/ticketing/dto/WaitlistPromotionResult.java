@@ -0,0 +1,7 @@
+package com.festago.ticketing.dto;
+
+public record WaitlistPromotionResult(
+    Long ticketId,
+    int promotedCount) {
+
+}
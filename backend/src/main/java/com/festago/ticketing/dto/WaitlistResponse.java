@@ -0,0 +1,16 @@
+package com.festago.ticketing.dto;
+
+import com.festago.ticketing.domain.WaitlistEntry;
+
+public record WaitlistResponse(
+    Long id,
+    Long ticketId,
+    long position) {
+
+    public static WaitlistResponse of(WaitlistEntry waitlistEntry, long position) {
+        return new WaitlistResponse(
+            waitlistEntry.getId(),
+            waitlistEntry.getTicketId(),
+            position);
+    }
+}
@@ -0,0 +1,13 @@
+package com.festago.ticketing.dto.event;
+
+import java.time.LocalDateTime;
+
+public record MemberTicketCancelledEvent(
+    Long memberId,
+    Long stageId,
+    Long ticketId,
+    int number,
+    LocalDateTime entryTime
+) {
+
+}
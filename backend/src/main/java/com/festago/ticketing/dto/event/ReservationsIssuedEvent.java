@@ -0,0 +1,18 @@
+package com.festago.ticketing.dto.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ReservationsIssuedEvent(
+    Long ticketId,
+    List<IssuedReservation> reservations
+) {
+
+    public record IssuedReservation(
+        int sequence,
+        Long memberId,
+        LocalDateTime entryTime
+    ) {
+
+    }
+}
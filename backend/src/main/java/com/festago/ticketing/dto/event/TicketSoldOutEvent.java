@@ -0,0 +1,7 @@
+package com.festago.ticketing.dto.event;
+
+public record TicketSoldOutEvent(
+    Long ticketId
+) {
+
+}
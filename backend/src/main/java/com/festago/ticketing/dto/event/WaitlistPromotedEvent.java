@@ -0,0 +1,8 @@
+package com.festago.ticketing.dto.event;
+
+public record WaitlistPromotedEvent(
+    Long memberId,
+    Long ticketId
+) {
+
+}
@@ -0,0 +1,343 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.ticket.domain.TicketAmount;
+import com.festago.ticket.repository.TicketAmountRepository;
+import com.festago.ticketing.application.ReserveSequenceProvider;
+import com.festago.ticketing.domain.ReserveSequenceLease;
+import com.festago.ticketing.domain.SequenceBlock;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import com.festago.ticketing.repository.ReserveSequenceLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.sequence-strategy", havingValue = "block")
+public class BlockReserveSequenceProvider implements ReserveSequenceProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockReserveSequenceProvider.class);
+
+    private final Map<Long, SequenceBlock> blocks = new ConcurrentHashMap<>();
+    private final Map<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final TicketAmountRepository ticketAmountRepository;
+    private final ReserveSequenceLeaseRepository reserveSequenceLeaseRepository;
+    private final MemberTicketRepository memberTicketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate renewTransactionTemplate;
+    private final Clock clock;
+    private final ShardRouter shardRouter;
+    private final String nodeId;
+    private final int blockSize;
+    private final long leaseSeconds;
+    private final long expiryMarginMillis;
+
+    public BlockReserveSequenceProvider(TicketAmountRepository ticketAmountRepository,
+                                        ReserveSequenceLeaseRepository reserveSequenceLeaseRepository,
+                                        MemberTicketRepository memberTicketRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        Clock clock,
+                                        ShardRouter shardRouter,
+                                        @Value("${festago.ticketing.block.node-id:#{T(java.util.UUID).randomUUID().toString()}}") String nodeId,
+                                        @Value("${festago.ticketing.block.size:50}") int blockSize,
+                                        @Value("${festago.ticketing.block.lease-seconds:60}") long leaseSeconds,
+                                        @Value("${festago.ticketing.block.expiry-margin-seconds:10}") long expiryMarginSeconds) {
+        this.ticketAmountRepository = ticketAmountRepository;
+        this.reserveSequenceLeaseRepository = reserveSequenceLeaseRepository;
+        this.memberTicketRepository = memberTicketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.renewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.renewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.shardRouter = shardRouter;
+        this.nodeId = nodeId;
+        this.blockSize = blockSize;
+        this.leaseSeconds = leaseSeconds;
+        this.expiryMarginMillis = expiryMarginSeconds * 1000;
+        if (expiryMarginSeconds >= leaseSeconds) {
+            throw new IllegalArgumentException("블록의 만료 여유 시간은 임대 시간보다 짧아야 합니다.");
+        }
+    }
+
+    @Override
+    public int provide(Long ticketId) {
+        SequenceBlock pendingBlock = findPendingBlock(ticketId);
+        if (pendingBlock != null) {
+            int sequence = pendingBlock.next(clock.millis());
+            if (sequence != SequenceBlock.EXHAUSTED) {
+                return sequence;
+            }
+        }
+        while (true) {
+            SequenceBlock block = blocks.get(ticketId);
+            if (block != null) {
+                int sequence = block.next(clock.millis());
+                if (sequence != SequenceBlock.EXHAUSTED) {
+                    return sequence;
+                }
+            }
+            Integer sequence = claimAndProvide(ticketId, block);
+            if (sequence != null) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * 이 트랜잭션에서 할당했지만 아직 커밋되지 않아 공개되지 않은 블록입니다. 한 트랜잭션에서 여러 번호를 발급하는 묶음 예매가 번호마다 새 블록을 할당하지
+     * 않도록, 같은 트랜잭션의 다음 발급은 이 블록에서 이어서 발급합니다.
+     */
+    private SequenceBlock findPendingBlock(Long ticketId) {
+        PendingBlocks pendingBlocks = (PendingBlocks) TransactionSynchronizationManager.getResource(this);
+        if (pendingBlocks == null) {
+            return null;
+        }
+        return pendingBlocks.get(ticketId);
+    }
+
+    /**
+     * 노드마다 서로 다른 블록에서 번호를 발급하므로, 마지막 번호가 다른 번호보다 먼저 발급될 수 있습니다.
+     */
+    @Override
+    public boolean issuesInOrder() {
+        return false;
+    }
+
+    @Override
+    public List<Long> findSoldOutTicketIds() {
+        return ticketAmountRepository.findSoldOutTicketIdsWithoutLease();
+    }
+
+    /**
+     * 블록 할당은 예매 트랜잭션에 참여하므로, 새 블록은 커밋된 뒤에야 다른 요청에게 공개됩니다. 그 전까지 같은 티켓의 다른 요청은 락에서 대기하므로 할당이
+     * 롤백되더라도 같은 번호가 두 번 발급되지 않습니다.
+     * <p>
+     * 번호가 남았는데도 발급하지 못한 블록은 임대 만료가 가까운 블록이므로, 새 블록을 받는 대신 임대를 먼저 연장합니다.
+     */
+    private Integer claimAndProvide(Long ticketId, SequenceBlock exhaustedBlock) {
+        ReentrantLock lock = locks.computeIfAbsent(ticketId, id -> new ReentrantLock());
+        lock.lock();
+        boolean handedOver = false;
+        try {
+            if (blocks.get(ticketId) != exhaustedBlock) {
+                return null;
+            }
+            if (exhaustedBlock != null && !exhaustedBlock.isExhausted()) {
+                if (exhaustedBlock.isExpiring(clock.millis())) {
+                    renew(ticketId, exhaustedBlock);
+                }
+                return null;
+            }
+            SequenceBlock pendingBlock = findPendingBlock(ticketId);
+            SequenceBlock block = transactionTemplate.execute(
+                status -> claim(ticketId, exhaustedBlock, pendingBlock));
+            int sequence = block.next(clock.millis());
+            handedOver = publish(ticketId, block, lock);
+            return sequence;
+        } finally {
+            if (!handedOver) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private SequenceBlock claim(Long ticketId, SequenceBlock exhaustedBlock, SequenceBlock pendingBlock) {
+        TicketAmount ticketAmount = ticketAmountRepository.findByTicketIdForUpdate(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        if (exhaustedBlock != null) {
+            deleteOwnedLease(exhaustedBlock);
+        }
+        if (pendingBlock != null && pendingBlock.isExhausted()) {
+            deleteOwnedLease(pendingBlock);
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiredAt = now.plusSeconds(leaseSeconds);
+        for (ReserveSequenceLease lease : reserveSequenceLeaseRepository
+            .findAllByTicketIdAndExpiredAtBeforeOrderByStartSequenceAsc(ticketId, now)) {
+            Set<Integer> usedSequences = findUsedSequences(ticketId, lease);
+            if (usedSequences.size() > lease.getEndSequence() - lease.getStartSequence()) {
+                reserveSequenceLeaseRepository.delete(lease);
+                continue;
+            }
+            lease.renew(nodeId, expiredAt);
+            return toBlock(lease, usedSequences);
+        }
+        int startSequence = ticketAmount.getReservedAmount() + 1;
+        int allocatedAmount = ticketAmount.allocateReservedAmount(blockSize);
+        ReserveSequenceLease lease = reserveSequenceLeaseRepository.save(
+            new ReserveSequenceLease(ticketId, startSequence, startSequence + allocatedAmount - 1, nodeId, expiredAt));
+        return toBlock(lease, Set.of());
+    }
+
+    private void deleteOwnedLease(SequenceBlock block) {
+        reserveSequenceLeaseRepository.findById(block.getLeaseId())
+            .filter(this::isOwned)
+            .ifPresent(reserveSequenceLeaseRepository::delete);
+    }
+
+    private boolean isOwned(ReserveSequenceLease lease) {
+        return nodeId.equals(lease.getNodeId());
+    }
+
+    private Set<Integer> findUsedSequences(Long ticketId, ReserveSequenceLease lease) {
+        return new HashSet<>(memberTicketRepository.findNumbersByTicketIdAndNumberBetween(ticketId,
+            lease.getStartSequence(), lease.getEndSequence()));
+    }
+
+    private SequenceBlock toBlock(ReserveSequenceLease lease, Set<Integer> usedSequences) {
+        return new SequenceBlock(lease.getId(), lease.getStartSequence(), lease.getEndSequence(), usedSequences,
+            clock.millis(), toMillis(lease.getExpiredAt()), expiryMarginMillis);
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private boolean publish(Long ticketId, SequenceBlock block, ReentrantLock lock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            blocks.put(ticketId, block);
+            return false;
+        }
+        PendingBlocks pendingBlocks = (PendingBlocks) TransactionSynchronizationManager.getResource(this);
+        if (pendingBlocks == null) {
+            pendingBlocks = new PendingBlocks();
+            TransactionSynchronizationManager.bindResource(this, pendingBlocks);
+            TransactionSynchronizationManager.registerSynchronization(pendingBlocks);
+        }
+        pendingBlocks.add(ticketId, block, lock);
+        return true;
+    }
+
+    /**
+     * 트랜잭션에 묶인 미공개 블록과, 그 블록을 할당하며 잡은 락입니다. 커밋되면 티켓마다 마지막으로 할당한 블록을 공개하고, 트랜잭션이 끝나면 락을 모두 풉니다.
+     * 다른 트랜잭션이 시작되어 이 트랜잭션이 보류되는 동안에는 그 트랜잭션이 이 블록에서 번호를 발급하지 않도록 묶음을 풀어둡니다.
+     */
+    private class PendingBlocks implements TransactionSynchronization {
+
+        private final Map<Long, SequenceBlock> claimedBlocks = new HashMap<>();
+        private final List<ReentrantLock> heldLocks = new ArrayList<>();
+
+        SequenceBlock get(Long ticketId) {
+            return claimedBlocks.get(ticketId);
+        }
+
+        void add(Long ticketId, SequenceBlock block, ReentrantLock lock) {
+            claimedBlocks.put(ticketId, block);
+            heldLocks.add(lock);
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(BlockReserveSequenceProvider.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(BlockReserveSequenceProvider.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            blocks.putAll(claimedBlocks);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BlockReserveSequenceProvider.this);
+            heldLocks.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${festago.ticketing.block.renew-interval-millis:10000}")
+    public void renewLeases() {
+        long idleMillis = leaseSeconds * 1000 / 2;
+        for (Map.Entry<Long, SequenceBlock> entry : blocks.entrySet()) {
+            SequenceBlock block = entry.getValue();
+            if (block.isExhausted() || block.isIdle(clock.millis(), idleMillis)) {
+                release(entry.getKey(), block);
+                continue;
+            }
+            try {
+                renew(entry.getKey(), block);
+            } catch (RuntimeException e) {
+                log.warn("예매 번호 블록의 임대를 연장하지 못했습니다. ticketId={}, leaseId={}", entry.getKey(),
+                    block.getLeaseId(), e);
+            }
+        }
+    }
+
+    /**
+     * 임대 행은 티켓이 속한 학교의 샤드에 있으므로 그 샤드에서 연장합니다.
+     * <p>
+     * 예매 트랜잭션 안에서 호출되더라도 연장은 별도 트랜잭션으로 커밋한 뒤에 블록의 만료 시각을 늦춥니다. 예매가 롤백되어 연장이 취소되었는데 블록만 계속
+     * 발급하는 일을 막기 위함입니다.
+     */
+    private void renew(Long ticketId, SequenceBlock block) {
+        LocalDateTime expiredAt = LocalDateTime.now(clock).plusSeconds(leaseSeconds);
+        Integer renewed = shardRouter.executeOnTicket(ticketId, () -> renewTransactionTemplate.execute(
+            status -> reserveSequenceLeaseRepository.renew(block.getLeaseId(), nodeId, expiredAt)));
+        if (renewed == null || renewed == 0) {
+            log.warn("예매 번호 블록의 임대가 만료되어 블록을 폐기합니다. ticketId={}, leaseId={}", ticketId, block.getLeaseId());
+            blocks.remove(ticketId, block);
+            block.seal();
+            return;
+        }
+        block.extend(toMillis(expiredAt));
+    }
+
+    private void release(Long ticketId, SequenceBlock block) {
+        ReentrantLock lock = locks.computeIfAbsent(ticketId, id -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (!blocks.remove(ticketId, block)) {
+                return;
+            }
+            int nextSequence = block.seal();
+            shardRouter.executeOnTicket(ticketId, () -> transactionTemplate.execute(status -> {
+                reserveSequenceLeaseRepository.findById(block.getLeaseId())
+                    .filter(this::isOwned)
+                    .ifPresent(lease -> returnLease(lease, nextSequence));
+                return null;
+            }));
+        } catch (RuntimeException e) {
+            log.warn("예매 번호 블록을 반납하는 데 실패했습니다. 임대가 만료되면 회수됩니다. leaseId={}", block.getLeaseId(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void returnLease(ReserveSequenceLease lease, int nextSequence) {
+        lease.release(nextSequence, LocalDateTime.now(clock));
+        if (lease.isExhausted()) {
+            reserveSequenceLeaseRepository.delete(lease);
+        }
+    }
+
+    @PreDestroy
+    public void releaseOnShutdown() {
+        blocks.forEach(this::release);
+    }
+}
@@ -0,0 +1,59 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.ticketing.application.ReserveSequenceProvider;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * TicketAmount 엔티티를 읽지 않고, 남은 수량이 있을 때만 예매 수량을 증가시키는 UPDATE 한 번으로 예매 번호를 발급합니다. 행 락은 UPDATE 시점에야 잡히고, 증가된
+ * 값은 락을 잡은 같은 트랜잭션에서 다시 읽으므로 다른 요청의 값과 섞이지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.sequence-strategy", havingValue = "conditional-update")
+@RequiredArgsConstructor
+public class ConditionalUpdateReserveSequenceProvider implements ReserveSequenceProvider {
+
+    private static final String INCREASE_RESERVED_AMOUNT_SQL = """
+        UPDATE ticket_amount
+        SET reserved_amount = reserved_amount + 1,
+            version = version + 1
+        WHERE ticket_id = ? AND reserved_amount < total_amount
+        """;
+    private static final String SELECT_RESERVED_AMOUNT_SQL = """
+        SELECT reserved_amount
+        FROM ticket_amount
+        WHERE ticket_id = ?
+        """;
+    private static final String FIND_SOLD_OUT_TICKET_IDS_SQL = """
+        SELECT ticket_id
+        FROM ticket_amount
+        WHERE reserved_amount >= total_amount
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int provide(Long ticketId) {
+        int updated = jdbcTemplate.update(INCREASE_RESERVED_AMOUNT_SQL, ticketId);
+        List<Integer> reservedAmounts = jdbcTemplate.queryForList(SELECT_RESERVED_AMOUNT_SQL, Integer.class,
+            ticketId);
+        if (reservedAmounts.isEmpty()) {
+            throw new NotFoundException(ErrorCode.TICKET_NOT_FOUND);
+        }
+        if (updated == 0) {
+            throw new BadRequestException(ErrorCode.TICKET_SOLD_OUT);
+        }
+        return reservedAmounts.get(0);
+    }
+
+    @Override
+    public List<Long> findSoldOutTicketIds() {
+        return jdbcTemplate.queryForList(FIND_SOLD_OUT_TICKET_IDS_SQL, Long.class);
+    }
+}
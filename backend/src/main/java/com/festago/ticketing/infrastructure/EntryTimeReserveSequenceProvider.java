@@ -0,0 +1,138 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.ticketing.application.EntryTimeSequenceProvider;
+import com.festago.ticketing.application.ReserveSequenceProvider;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 구매자가 고른 입장 시간의 수량 행에서 예매 번호를 발급합니다. 입장 시간마다 다른 행을 갱신하므로 같은 티켓이라도 입장 시간이 다르면 서로 기다리지 않습니다.
+ * <p>
+ * TicketAmount 의 예매 수량은 입장 시간별 예매 수량의 합으로 주기적으로 맞춥니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.sequence-strategy", havingValue = "entry-time")
+@RequiredArgsConstructor
+public class EntryTimeReserveSequenceProvider implements ReserveSequenceProvider, EntryTimeSequenceProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(EntryTimeReserveSequenceProvider.class);
+    private static final String INCREASE_RESERVED_AMOUNT_SQL = """
+        UPDATE ticket_entry_time
+        SET reserved_amount = reserved_amount + 1
+        WHERE id = ? AND ticket_id = ? AND reserved_amount < amount
+        """;
+    private static final String SELECT_RESERVED_AMOUNT_SQL = """
+        SELECT reserved_amount
+        FROM ticket_entry_time
+        WHERE id = ? AND ticket_id = ?
+        """;
+    private static final String FIND_SOLD_OUT_TICKET_IDS_SQL = """
+        SELECT ticket_id
+        FROM ticket_entry_time
+        GROUP BY ticket_id
+        HAVING SUM(reserved_amount) >= SUM(amount)
+        """;
+    private static final String SYNC_TICKET_AMOUNT_SQL = """
+        UPDATE ticket_amount
+        SET reserved_amount = (SELECT COALESCE(SUM(te.reserved_amount), 0)
+                               FROM ticket_entry_time te
+                               WHERE te.ticket_id = ?),
+            version = version + 1
+        WHERE ticket_id = ?
+        """;
+
+    private final Set<Long> dirtyTicketIds = ConcurrentHashMap.newKeySet();
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    @Override
+    public int provide(Long ticketId) {
+        throw new BadRequestException(ErrorCode.TICKET_ENTRY_TIME_NOT_SELECTED);
+    }
+
+    @Override
+    public int provide(Long ticketId, Long entryTimeId) {
+        int updated = jdbcTemplate.update(INCREASE_RESERVED_AMOUNT_SQL, entryTimeId, ticketId);
+        List<Integer> reservedAmounts = jdbcTemplate.queryForList(SELECT_RESERVED_AMOUNT_SQL, Integer.class,
+            entryTimeId, ticketId);
+        if (reservedAmounts.isEmpty()) {
+            throw new NotFoundException(ErrorCode.TICKET_ENTRY_TIME_NOT_FOUND);
+        }
+        if (updated == 0) {
+            throw new BadRequestException(ErrorCode.TICKET_ENTRY_TIME_SOLD_OUT);
+        }
+        markDirtyAfterCommit(ticketId);
+        return reservedAmounts.get(0);
+    }
+
+    private void markDirtyAfterCommit(Long ticketId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirtyTicketIds.add(ticketId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirtyTicketIds.add(ticketId);
+            }
+        });
+    }
+
+    /**
+     * TicketAmount 의 예매 수량은 늦게 맞춰지므로, 모든 입장 시간의 수량이 찼는지로 매진을 판단합니다.
+     */
+    @Override
+    public List<Long> findSoldOutTicketIds() {
+        return jdbcTemplate.queryForList(FIND_SOLD_OUT_TICKET_IDS_SQL, Long.class);
+    }
+
+    /**
+     * 한 입장 시간이 매진되어도 다른 입장 시간은 남아 있을 수 있으므로, 마지막 번호의 발급이 곧 매진을 뜻하지 않습니다.
+     */
+    @Override
+    public boolean issuesInOrder() {
+        return false;
+    }
+
+    /**
+     * 티켓마다 학교의 샤드에서 맞춥니다. 학교를 옮기는 중이거나 실패한 티켓은 다음 주기에 다시 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${festago.ticketing.entry-time.sync-interval-millis:1000}")
+    public void syncTicketAmounts() {
+        List<Long> ticketIds = new ArrayList<>();
+        for (Long ticketId : dirtyTicketIds) {
+            dirtyTicketIds.remove(ticketId);
+            ticketIds.add(ticketId);
+        }
+        for (Long ticketId : ticketIds) {
+            try {
+                shardRouter.executeOnTicket(ticketId,
+                    () -> jdbcTemplate.update(SYNC_TICKET_AMOUNT_SQL, ticketId, ticketId));
+            } catch (RuntimeException e) {
+                dirtyTicketIds.add(ticketId);
+                log.warn("입장 시간별 예매 수량을 TicketAmount 에 반영하는 데 실패했습니다. ticketId={}", ticketId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void syncOnShutdown() {
+        syncTicketAmounts();
+    }
+}
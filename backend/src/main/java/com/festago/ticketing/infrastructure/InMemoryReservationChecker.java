@@ -0,0 +1,97 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.util.LongHashSet;
+import com.festago.member.domain.Member;
+import com.festago.stage.domain.Stage;
+import com.festago.ticketing.application.ReservationChecker;
+import com.festago.ticketing.dto.event.MemberTicketCancelledEvent;
+import com.festago.ticketing.dto.event.MemberTicketCreatedEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공연마다 예매한 멤버를 메모리에 모아 중복 예매를 데이터베이스 조회 없이 확인합니다.
+ * <p>
+ * 인덱스는 처음 조회할 때 한 번 적재한 뒤 이 노드에서 커밋된 예매와 취소만 반영합니다. 다른 노드에서 커밋된 예매는 보이지 않아 노드마다 한 번씩 예매할 수
+ * 있으므로, 한 노드로만 운영할 때만 사용해야 합니다. 실수로 여러 노드에서 켜지 않도록 festago.ticketing.reservation-index.single-node 를 true 로
+ * 설정해야 시작됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.reservation-index.enabled", havingValue = "true")
+public class InMemoryReservationChecker implements ReservationChecker {
+
+    private static final String FIND_OWNER_IDS_SQL = "SELECT owner_id FROM member_ticket WHERE stage_id = ?";
+
+    private final Map<Long, LongHashSet> reservedMemberIdsByStage = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate loadTransactionTemplate;
+
+    public InMemoryReservationChecker(JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${festago.ticketing.reservation-index.single-node:false}")
+                                      boolean singleNode) {
+        if (!singleNode) {
+            throw new IllegalStateException(
+                "메모리 예매 인덱스는 한 노드로 운영할 때만 사용할 수 있습니다. festago.ticketing.reservation-index.single-node 를 확인해주세요.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.loadTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.loadTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public boolean isReserved(Member member, Stage stage) {
+        LongHashSet reservedMemberIds = reservedMemberIdsByStage.computeIfAbsent(stage.getId(), this::load);
+        synchronized (reservedMemberIds) {
+            return reservedMemberIds.contains(member.getId());
+        }
+    }
+
+    /**
+     * 배치 예매는 트랜잭션 안에서 중복 예매를 확인하므로, 호출한 트랜잭션의 커넥션으로 적재하면 트랜잭션이 시작된 시점의 스냅숏을 읽습니다. 그 뒤에 커밋된
+     * 예매는 스냅숏에 없고, 적재 전에 커밋 이벤트가 지나가 인덱스에도 추가되지 않습니다. 새 트랜잭션에서 적재하면 적재 전에 커밋된 예매는 조회 결과에 있고, 적재
+     * 중에 커밋된 예매는 add 가 적재가 끝나기를 기다려 추가합니다.
+     */
+    private LongHashSet load(Long stageId) {
+        return loadTransactionTemplate.execute(status -> {
+            LongHashSet reservedMemberIds = new LongHashSet();
+            jdbcTemplate.query(FIND_OWNER_IDS_SQL, rs -> {
+                reservedMemberIds.add(rs.getLong(1));
+            }, stageId);
+            return reservedMemberIds;
+        });
+    }
+
+    /**
+     * 인덱스를 적재하는 중에 커밋된 예매도 놓치지 않도록 computeIfPresent 로 적재가 끝나기를 기다린 뒤 추가합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void add(MemberTicketCreatedEvent event) {
+        reservedMemberIdsByStage.computeIfPresent(event.stageId(), (stageId, reservedMemberIds) -> {
+            synchronized (reservedMemberIds) {
+                reservedMemberIds.add(event.memberId());
+            }
+            return reservedMemberIds;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void remove(MemberTicketCancelledEvent event) {
+        reservedMemberIdsByStage.computeIfPresent(event.stageId(), (stageId, reservedMemberIds) -> {
+            synchronized (reservedMemberIds) {
+                reservedMemberIds.remove(event.memberId());
+            }
+            return reservedMemberIds;
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.ticket.domain.TicketAmount;
+import com.festago.ticket.dto.event.TicketAmountChangedEvent;
+import com.festago.ticket.repository.TicketAmountRepository;
+import com.festago.ticketing.application.ReserveSequenceProvider;
+import com.festago.ticketing.domain.TicketInventory;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 티켓마다 하나의 TicketInventory 를 메모리에 두고 행 잠금 없이 예매 번호를 발급합니다. 발급한 수량은 주기적으로 ticket_amount 에 반영하며, 한 노드에서만
+ * 사용할 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.sequence-strategy", havingValue = "in-memory")
+@RequiredArgsConstructor
+public class InMemoryReserveSequenceProvider implements ReserveSequenceProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryReserveSequenceProvider.class);
+    private static final String UPDATE_RESERVED_AMOUNT_SQL = """
+        UPDATE ticket_amount
+        SET reserved_amount = GREATEST(reserved_amount, ?),
+            version = version + 1
+        WHERE ticket_id = ?
+        """;
+
+    private final Map<Long, TicketInventory> inventories = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyTicketIds = ConcurrentHashMap.newKeySet();
+    private final TicketAmountRepository ticketAmountRepository;
+    private final MemberTicketRepository memberTicketRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    @Override
+    public int provide(Long ticketId) {
+        TicketInventory inventory = inventories.computeIfAbsent(ticketId, this::loadInventory);
+        int sequence = inventory.reserve();
+        dirtyTicketIds.add(ticketId);
+        return sequence;
+    }
+
+    private TicketInventory loadInventory(Long ticketId) {
+        TicketAmount ticketAmount = findTicketAmount(ticketId);
+        int reservedAmount = memberTicketRepository.findMaxNumberByTicketId(ticketId);
+        return new TicketInventory(reservedAmount, ticketAmount.getTotalAmount());
+    }
+
+    private TicketAmount findTicketAmount(Long ticketId) {
+        return ticketAmountRepository.findById(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+    }
+
+    /**
+     * 번호는 이 노드의 메모리에서 발급되고 TicketAmount 에는 늦게 반영되므로, 메모리에 올라온 티켓의 남은 수량으로 매진을 판단합니다.
+     */
+    @Override
+    public List<Long> findSoldOutTicketIds() {
+        return inventories.entrySet().stream()
+            .filter(entry -> entry.getValue().isSoldOut())
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /**
+     * 티켓 수량은 학교의 샤드에서 바뀌므로 그 샤드에서 다시 읽습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void changeTotalAmount(TicketAmountChangedEvent event) {
+        TicketInventory inventory = inventories.get(event.ticketId());
+        if (inventory == null) {
+            return;
+        }
+        TicketAmount ticketAmount = shardRouter.executeOnTicket(event.ticketId(),
+            () -> findTicketAmount(event.ticketId()));
+        inventory.changeTotalAmount(ticketAmount.getTotalAmount());
+    }
+
+    /**
+     * 티켓을 학교의 샤드마다 묶어 샤드마다 한 번의 배치로 반영합니다. 학교를 옮기는 중이거나 반영에 실패한 티켓은 다음 주기에 다시 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${festago.ticketing.in-memory.flush-interval-millis:500}")
+    public void flush() {
+        Map<String, List<Long>> ticketIdsByShard = new HashMap<>();
+        for (Long ticketId : dirtyTicketIds) {
+            dirtyTicketIds.remove(ticketId);
+            try {
+                ticketIdsByShard.computeIfAbsent(shardRouter.findShardKeyByTicket(ticketId), key -> new ArrayList<>())
+                    .add(ticketId);
+            } catch (RuntimeException e) {
+                dirtyTicketIds.add(ticketId);
+                log.warn("예매 수량을 반영할 샤드를 찾지 못했습니다. ticketId={}", ticketId, e);
+            }
+        }
+        ticketIdsByShard.forEach(this::flushShard);
+    }
+
+    private void flushShard(String shardKey, List<Long> ticketIds) {
+        List<Object[]> arguments = ticketIds.stream()
+            .map(ticketId -> new Object[]{inventories.get(ticketId).getReservedAmount(), ticketId})
+            .toList();
+        try {
+            shardRouter.executeOnShard(shardKey,
+                () -> jdbcTemplate.batchUpdate(UPDATE_RESERVED_AMOUNT_SQL, arguments));
+        } catch (RuntimeException e) {
+            dirtyTicketIds.addAll(ticketIds);
+            log.warn("예매 수량을 DB에 반영하는 데 실패했습니다. shard={}, ticketIds={}", shardKey, ticketIds, e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,114 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.TooManyRequestException;
+import com.festago.ticketing.application.TicketingIdempotencyStore;
+import com.festago.ticketing.domain.IdempotencyKey;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InMemoryTicketingIdempotencyStore implements TicketingIdempotencyStore {
+
+    private final Map<IdempotencyKey, Entry> entries;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final long waitTimeoutMillis;
+
+    public InMemoryTicketingIdempotencyStore(Clock clock,
+                                             @Value("${festago.ticketing.idempotency.ttl-seconds:600}") long ttlSeconds,
+                                             @Value("${festago.ticketing.idempotency.maximum-size:100000}") int maximumSize,
+                                             @Value("${festago.ticketing.idempotency.wait-timeout-millis:10000}") long waitTimeoutMillis) {
+        this.clock = clock;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IdempotencyKey, Entry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(IdempotencyKey key, Long ticketId, Supplier<T> ticketing) {
+        Entry entry = new Entry(ticketId, new CompletableFuture<>(), clock.millis() + ttlMillis);
+        Entry previous = register(key, entry);
+        if (previous != null) {
+            return (T) await(previous, ticketId);
+        }
+        try {
+            T response = ticketing.get();
+            entry.response().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 용량을 넘으면 가장 오래 사용되지 않은 키부터 즉시 밀려나므로, 요청 경로에서 전체를 훑는 정리 작업은 하지 않는다.
+     */
+    private Entry register(IdempotencyKey key, Entry entry) {
+        synchronized (entries) {
+            Entry previous = entries.get(key);
+            if (previous != null && !previous.isExpired(clock.millis())) {
+                return previous;
+            }
+            entries.put(key, entry);
+            return null;
+        }
+    }
+
+    private Object await(Entry entry, Long ticketId) {
+        if (!entry.ticketId().equals(ticketId)) {
+            throw new BadRequestException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return entry.response().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new TooManyRequestException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${festago.ticketing.idempotency.evict-interval-millis:60000}")
+    public void evictExpired() {
+        long now = clock.millis();
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.isExpired(now));
+        }
+    }
+
+    private record Entry(
+        Long ticketId,
+        CompletableFuture<Object> response,
+        long expiredAt) {
+
+        boolean isExpired(long now) {
+            return expiredAt <= now;
+        }
+    }
+}
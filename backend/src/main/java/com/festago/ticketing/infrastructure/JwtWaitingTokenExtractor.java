@@ -0,0 +1,50 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.ticketing.application.WaitingTokenExtractor;
+import com.festago.ticketing.domain.WaitingTokenPayload;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import javax.crypto.SecretKey;
+
+public class JwtWaitingTokenExtractor implements WaitingTokenExtractor {
+
+    private static final String TICKET_ID_KEY = "ticketId";
+    private static final String MEMBER_ID_KEY = "memberId";
+    private static final String WAITING_NUMBER_KEY = "waitingNumber";
+
+    private final JwtParser jwtParser;
+
+    public JwtWaitingTokenExtractor(String secretKey) {
+        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+    }
+
+    @Override
+    public WaitingTokenPayload extract(String token) {
+        Claims claims = getClaims(token);
+        return new WaitingTokenPayload(
+            claims.get(TICKET_ID_KEY, Long.class),
+            claims.get(MEMBER_ID_KEY, Long.class),
+            claims.get(WAITING_NUMBER_KEY, Long.class));
+    }
+
+    private Claims getClaims(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token)
+                .getBody();
+        } catch (ExpiredJwtException e) {
+            throw new BadRequestException(ErrorCode.EXPIRED_WAITING_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadRequestException(ErrorCode.INVALID_WAITING_TOKEN);
+        }
+    }
+}
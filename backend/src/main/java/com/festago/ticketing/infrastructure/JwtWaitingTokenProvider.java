@@ -0,0 +1,34 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.ticketing.application.WaitingTokenProvider;
+import com.festago.ticketing.domain.WaitingTokenPayload;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import javax.crypto.SecretKey;
+
+public class JwtWaitingTokenProvider implements WaitingTokenProvider {
+
+    private static final String TICKET_ID_KEY = "ticketId";
+    private static final String MEMBER_ID_KEY = "memberId";
+    private static final String WAITING_NUMBER_KEY = "waitingNumber";
+
+    private final SecretKey key;
+
+    public JwtWaitingTokenProvider(String secretKey) {
+        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String provide(WaitingTokenPayload payload, Date expiredAt) {
+        return Jwts.builder()
+            .claim(TICKET_ID_KEY, payload.getTicketId())
+            .claim(MEMBER_ID_KEY, payload.getMemberId())
+            .claim(WAITING_NUMBER_KEY, payload.getWaitingNumber())
+            .setExpiration(expiredAt)
+            .signWith(key, SignatureAlgorithm.HS256)
+            .compact();
+    }
+}
@@ -0,0 +1,164 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.InternalServerException;
+import com.festago.ticketing.application.ReservationJournal;
+import com.festago.ticketing.domain.ReservationJournalEntry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세그먼트 파일을 메모리에 매핑해서 예매 기록을 이어 쓰는 저널입니다. 세그먼트가 가득 차면 디스크에 반영한 뒤 다음 세그먼트로 넘어갑니다.
+ * <p>
+ * 디스크 반영은 그룹 커밋으로 처리합니다. 기록을 마친 스레드는 먼저 반영을 시작한 스레드가 끝나기를 기다리고, 그 사이 쌓인 기록은 다음 한 번의 force 로
+ * 함께 반영되므로 동시에 기록하는 요청이 많을수록 요청당 fsync 횟수가 줄어듭니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.journal.enabled", havingValue = "true")
+public class MappedFileReservationJournal implements ReservationJournal {
+
+    private static final String SEGMENT_PREFIX = "reservation-journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Object writeLock = new Object();
+    private final Object flushLock = new Object();
+    private final Path directory;
+    private final int segmentSize;
+    private ReservationJournalSegment segment;
+    private long segmentIndex;
+    private long appendedCount;
+    private volatile long flushedCount;
+
+    public MappedFileReservationJournal(@Value("${festago.ticketing.journal.directory:./journal}") String directory,
+                                        @Value("${festago.ticketing.journal.segment-size-bytes:67108864}")
+                                        int segmentSize) {
+        this.directory = Path.of(directory);
+        this.segmentSize = Math.max(segmentSize, ReservationJournalSegment.RECORD_SIZE);
+        openLastSegment();
+    }
+
+    private void openLastSegment() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = findSegments();
+            segmentIndex = segments.isEmpty() ? 0 : parseIndex(segments.get(segments.size() - 1));
+            segment = ReservationJournalSegment.open(segmentPath(segmentIndex), segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("예매 저널을 열 수 없습니다. directory=" + directory, e);
+        }
+    }
+
+    @Override
+    public long append(List<ReservationJournalEntry> entries) {
+        synchronized (writeLock) {
+            for (ReservationJournalEntry entry : entries) {
+                ensureCapacity();
+                segment.write(entry);
+            }
+            appendedCount += entries.size();
+            return appendedCount;
+        }
+    }
+
+    private void ensureCapacity() {
+        if (segment.hasRemaining()) {
+            return;
+        }
+        try {
+            segment.close();
+            segmentIndex++;
+            segment = ReservationJournalSegment.open(segmentPath(segmentIndex), segmentSize);
+        } catch (IOException e) {
+            throw new InternalServerException(ErrorCode.RESERVATION_JOURNAL_WRITE_FAILED, e);
+        }
+    }
+
+    /**
+     * 이전 세그먼트는 넘어갈 때 이미 반영되었으므로, 현재 세그먼트만 반영하면 position 번째 기록까지 디스크에 남습니다.
+     */
+    @Override
+    public void awaitFlushed(long position) {
+        synchronized (flushLock) {
+            if (flushedCount >= position) {
+                return;
+            }
+            long target;
+            ReservationJournalSegment current;
+            synchronized (writeLock) {
+                target = appendedCount;
+                current = segment;
+            }
+            current.force();
+            flushedCount = target;
+        }
+    }
+
+    @Override
+    public List<ReservationJournalEntry> readAll() {
+        synchronized (writeLock) {
+            try {
+                segment.force();
+                List<ReservationJournalEntry> entries = new ArrayList<>();
+                for (Path path : findSegments()) {
+                    entries.addAll(ReservationJournalSegment.read(path));
+                }
+                return entries;
+            } catch (IOException e) {
+                throw new UncheckedIOException("예매 저널을 읽을 수 없습니다. directory=" + directory, e);
+            }
+        }
+    }
+
+    @Override
+    public void deleteSealedSegments() {
+        synchronized (writeLock) {
+            try {
+                for (Path path : findSegments()) {
+                    if (!path.equals(segment.getPath())) {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("예매 저널 세그먼트를 삭제할 수 없습니다. directory=" + directory, e);
+            }
+        }
+    }
+
+    private List<Path> findSegments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(this::isSegment)
+                .sorted()
+                .toList();
+        }
+    }
+
+    private boolean isSegment(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private long parseIndex(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", index) + SEGMENT_SUFFIX);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            segment.close();
+        }
+    }
+}
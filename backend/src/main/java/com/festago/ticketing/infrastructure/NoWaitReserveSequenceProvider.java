@@ -0,0 +1,49 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.common.exception.ServiceUnavailableException;
+import com.festago.ticket.domain.TicketAmount;
+import com.festago.ticket.repository.TicketAmountRepository;
+import com.festago.ticketing.application.ReserveSequenceProvider;
+import com.festago.ticketing.application.TicketingLockContention;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비관적 락과 같은 방식으로 번호를 발급하지만, 락을 기다리지 않습니다. 다른 트랜잭션이 락을 쥐고 있으면 바로 503 으로 거절해서 요청 스레드와 커넥션이 락 대기로
+ * 묶이지 않도록 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.sequence-strategy", havingValue = "nowait")
+@RequiredArgsConstructor
+public class NoWaitReserveSequenceProvider implements ReserveSequenceProvider {
+
+    private final TicketAmountRepository ticketAmountRepository;
+    private final TicketingLockContention ticketingLockContention;
+
+    @Override
+    public int provide(Long ticketId) {
+        TicketAmount ticketAmount = findForUpdate(ticketId);
+        ticketAmount.increaseReservedAmount();
+        return ticketAmount.getReservedAmount();
+    }
+
+    @Override
+    public List<Long> findSoldOutTicketIds() {
+        return ticketAmountRepository.findSoldOutTicketIds();
+    }
+
+    private TicketAmount findForUpdate(Long ticketId) {
+        try {
+            return ticketAmountRepository.findByTicketIdForUpdateNoWait(ticketId)
+                .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        } catch (PessimisticLockingFailureException e) {
+            throw new ServiceUnavailableException(ErrorCode.TICKETING_LOCK_UNAVAILABLE,
+                ticketingLockContention.reject());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.ticket.domain.TicketAmount;
+import com.festago.ticket.repository.TicketAmountRepository;
+import com.festago.ticketing.application.ReserveSequenceProvider;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 없이 TicketAmount 를 읽고 증가시킵니다. 동시에 예매한 다른 트랜잭션이 먼저 커밋하면 커밋 시점의 버전 검사가 실패하고, TicketingFacadeService 가 예매를
+ * 재시도합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.sequence-strategy", havingValue = "optimistic")
+@RequiredArgsConstructor
+public class OptimisticReserveSequenceProvider implements ReserveSequenceProvider {
+
+    private final TicketAmountRepository ticketAmountRepository;
+
+    @Override
+    public int provide(Long ticketId) {
+        TicketAmount ticketAmount = ticketAmountRepository.findById(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        ticketAmount.increaseReservedAmount();
+        return ticketAmount.getReservedAmount();
+    }
+
+    @Override
+    public List<Long> findSoldOutTicketIds() {
+        return ticketAmountRepository.findSoldOutTicketIds();
+    }
+}
@@ -0,0 +1,32 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.ticket.domain.TicketAmount;
+import com.festago.ticket.repository.TicketAmountRepository;
+import com.festago.ticketing.application.ReserveSequenceProvider;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.sequence-strategy", havingValue = "pessimistic", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PessimisticReserveSequenceProvider implements ReserveSequenceProvider {
+
+    private final TicketAmountRepository ticketAmountRepository;
+
+    @Override
+    public int provide(Long ticketId) {
+        TicketAmount ticketAmount = ticketAmountRepository.findByTicketIdForUpdate(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        ticketAmount.increaseReservedAmount();
+        return ticketAmount.getReservedAmount();
+    }
+
+    @Override
+    public List<Long> findSoldOutTicketIds() {
+        return ticketAmountRepository.findSoldOutTicketIds();
+    }
+}
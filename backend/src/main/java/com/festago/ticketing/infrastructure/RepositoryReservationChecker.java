@@ -0,0 +1,22 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.member.domain.Member;
+import com.festago.stage.domain.Stage;
+import com.festago.ticketing.application.ReservationChecker;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.reservation-index.enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RepositoryReservationChecker implements ReservationChecker {
+
+    private final MemberTicketRepository memberTicketRepository;
+
+    @Override
+    public boolean isReserved(Member member, Stage stage) {
+        return memberTicketRepository.existsByOwnerAndStage(member, stage);
+    }
+}
@@ -0,0 +1,125 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.ticketing.domain.ReservationJournalEntry;
+import com.festago.ticketing.domain.ReservationJournalEntryType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 고정 크기의 저널 파일 하나를 메모리에 매핑해서 다룹니다. 기록은 40 바이트 고정 길이이며, 앞 4 바이트의 CRC 가 맞지 않는 첫 기록을 파일의 끝으로
+ * 봅니다. 따라서 기록 도중 종료되어 일부만 쓰인 기록은 읽을 때 무시됩니다.
+ * <pre>
+ * | crc(4) | type(1) | padding(3) | ticketId(8) | sequence(4) | entryNanos(4) | memberId(8) | entryEpochSecond(8) |
+ * </pre>
+ */
+class ReservationJournalSegment {
+
+    static final int RECORD_SIZE = 40;
+
+    private static final int CRC_SIZE = 4;
+    private static final byte ISSUED = 1;
+    private static final byte ABORTED = 2;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private ReservationJournalSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static ReservationJournalSegment open(Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        int capacity = Math.max(size, (int) channel.size()) / RECORD_SIZE * RECORD_SIZE;
+        MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, capacity);
+        channel.force(true);
+        ReservationJournalSegment segment = new ReservationJournalSegment(path, channel, buffer);
+        buffer.position(segment.findEndPosition());
+        return segment;
+    }
+
+    static List<ReservationJournalEntry> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            List<ReservationJournalEntry> entries = new ArrayList<>();
+            for (int position = 0; position + RECORD_SIZE <= buffer.capacity(); position += RECORD_SIZE) {
+                if (!isValid(buffer, position)) {
+                    break;
+                }
+                entries.add(decode(buffer, position));
+            }
+            return entries;
+        }
+    }
+
+    private int findEndPosition() {
+        int position = 0;
+        while (position + RECORD_SIZE <= buffer.capacity() && isValid(buffer, position)) {
+            position += RECORD_SIZE;
+        }
+        return position;
+    }
+
+    boolean hasRemaining() {
+        return buffer.remaining() >= RECORD_SIZE;
+    }
+
+    void write(ReservationJournalEntry entry) {
+        int position = buffer.position();
+        buffer.put(position + CRC_SIZE, entry.getType() == ReservationJournalEntryType.ISSUED ? ISSUED : ABORTED);
+        buffer.putLong(position + 8, entry.getTicketId());
+        buffer.putInt(position + 16, entry.getSequence());
+        buffer.putInt(position + 20, entry.getEntryTime().getNano());
+        buffer.putLong(position + 24, entry.getMemberId());
+        buffer.putLong(position + 32, entry.getEntryTime().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(position, crc(buffer, position));
+        buffer.position(position + RECORD_SIZE);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    private static boolean isValid(ByteBuffer buffer, int position) {
+        byte type = buffer.get(position + CRC_SIZE);
+        return (type == ISSUED || type == ABORTED) && buffer.getInt(position) == crc(buffer, position);
+    }
+
+    private static int crc(ByteBuffer buffer, int position) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(position + CRC_SIZE, RECORD_SIZE - CRC_SIZE));
+        return (int) crc.getValue();
+    }
+
+    private static ReservationJournalEntry decode(ByteBuffer buffer, int position) {
+        ReservationJournalEntryType type = buffer.get(position + CRC_SIZE) == ISSUED
+            ? ReservationJournalEntryType.ISSUED
+            : ReservationJournalEntryType.ABORTED;
+        LocalDateTime entryTime = LocalDateTime.ofEpochSecond(buffer.getLong(position + 32),
+            buffer.getInt(position + 20), ZoneOffset.UTC);
+        return new ReservationJournalEntry(type, buffer.getLong(position + 8), buffer.getInt(position + 16),
+            buffer.getLong(position + 24), entryTime);
+    }
+}
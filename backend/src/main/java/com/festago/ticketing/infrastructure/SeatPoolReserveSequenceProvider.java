@@ -0,0 +1,311 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.NotFoundException;
+import com.festago.common.exception.TooManyRequestException;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.ticket.domain.EntryTimeSchedule;
+import com.festago.ticket.dto.event.TicketAmountChangedEvent;
+import com.festago.ticket.repository.TicketAmountRepository;
+import com.festago.ticket.repository.TicketRepository;
+import com.festago.ticketing.application.ReserveSequenceProvider;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import jakarta.annotation.PreDestroy;
+import java.sql.DatabaseMetaData;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 티켓의 예매 번호를 좌석 행으로 미리 만들어 두고, 예매할 때 비어 있는 좌석 하나를 가져갑니다. MySQL 8 에서는 SKIP LOCKED 로 다른 트랜잭션이 잡고 있는
+ * 좌석을 건너뛰므로 동시에 예매하는 요청이 한 행을 두고 기다리지 않습니다. SKIP LOCKED 를 지원하지 않는 MySQL 에서는 UPDATE ... LIMIT 1 한 번으로 좌석을
+ * 차지하고 LAST_INSERT_ID 로 번호를 돌려받습니다. 그 밖의 DB(H2 등)에서는 조건부 UPDATE 로 좌석을 차지하고, 다른 요청에게 빼앗기면 정해진 횟수까지만 다음
+ * 좌석을 시도합니다.
+ * <p>
+ * 입장 시간은 좌석에 저장하지 않고 예매 번호로 티켓의 입장 시간 구간에서 찾습니다. 좌석은 티켓의 입장 시간이 바뀔 때마다 같은 트랜잭션에서 다시 만들고,
+ * TicketAmount 의 예매 수량은 남은 좌석 수로 주기적으로 맞춥니다.
+ */
+@Component
+@ConditionalOnProperty(name = "festago.ticketing.sequence-strategy", havingValue = "seat-pool")
+public class SeatPoolReserveSequenceProvider implements ReserveSequenceProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatPoolReserveSequenceProvider.class);
+    private static final String CLAIM_SKIP_LOCKED_SQL = """
+        SELECT id, number
+        FROM ticket_seat
+        WHERE ticket_id = ? AND claimed = false
+        ORDER BY id
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+        """;
+    private static final String FIND_FREE_SEAT_SQL = """
+        SELECT id, number
+        FROM ticket_seat
+        WHERE ticket_id = ? AND claimed = false
+        ORDER BY id
+        LIMIT 1
+        """;
+    private static final String CLAIM_SQL = "UPDATE ticket_seat SET claimed = true WHERE id = ? AND claimed = false";
+    private static final String CLAIM_FIRST_FREE_SEAT_SQL = """
+        UPDATE ticket_seat
+        SET claimed = true, number = LAST_INSERT_ID(number)
+        WHERE ticket_id = ? AND claimed = false
+        ORDER BY id
+        LIMIT 1
+        """;
+    private static final String FIND_CLAIMED_NUMBER_SQL = "SELECT LAST_INSERT_ID()";
+    private static final String ASSIGN_SQL = "UPDATE ticket_seat SET owner_id = ? WHERE ticket_id = ? AND number = ?";
+    private static final String COUNT_SEATS_SQL = "SELECT COUNT(*) FROM ticket_seat WHERE ticket_id = ?";
+    private static final String FIND_CLAIMED_NUMBERS_SQL = """
+        SELECT number
+        FROM ticket_seat
+        WHERE ticket_id = ? AND claimed = true
+        """;
+    private static final String DELETE_FREE_SEATS_SQL = "DELETE FROM ticket_seat WHERE ticket_id = ? AND claimed = false";
+    private static final String INSERT_SEAT_SQL = """
+        INSERT INTO ticket_seat (ticket_id, number, claimed, created_at, updated_at)
+        VALUES (?, ?, false, ?, ?)
+        """;
+    private static final String FIND_SOLD_OUT_TICKET_IDS_SQL = """
+        SELECT ticket_id
+        FROM ticket_seat
+        GROUP BY ticket_id
+        HAVING SUM(CASE WHEN claimed THEN 0 ELSE 1 END) = 0
+        """;
+    private static final String SYNC_TICKET_AMOUNT_SQL = """
+        UPDATE ticket_amount
+        SET reserved_amount = total_amount - (SELECT COUNT(*)
+                                              FROM ticket_seat s
+                                              WHERE s.ticket_id = ? AND s.claimed = false),
+            version = version + 1
+        WHERE ticket_id = ?
+        """;
+
+    private final Set<Long> dirtyTicketIds = ConcurrentHashMap.newKeySet();
+    private final JdbcTemplate jdbcTemplate;
+    private final TicketRepository ticketRepository;
+    private final TicketAmountRepository ticketAmountRepository;
+    private final MemberTicketRepository memberTicketRepository;
+    private final Clock clock;
+    private final ShardRouter shardRouter;
+    private final int maxClaimAttempts;
+    private final ClaimMode claimMode;
+
+    public SeatPoolReserveSequenceProvider(JdbcTemplate jdbcTemplate,
+                                           TicketRepository ticketRepository,
+                                           TicketAmountRepository ticketAmountRepository,
+                                           MemberTicketRepository memberTicketRepository,
+                                           Clock clock,
+                                           ShardRouter shardRouter,
+                                           @Value("${festago.ticketing.seat-pool.max-claim-attempts:10}")
+                                           int maxClaimAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ticketRepository = ticketRepository;
+        this.ticketAmountRepository = ticketAmountRepository;
+        this.memberTicketRepository = memberTicketRepository;
+        this.clock = clock;
+        this.shardRouter = shardRouter;
+        this.maxClaimAttempts = maxClaimAttempts;
+        this.claimMode = detectClaimMode();
+        log.info("좌석 풀 예매 방식을 사용합니다. claimMode={}", claimMode);
+    }
+
+    private ClaimMode detectClaimMode() {
+        return jdbcTemplate.execute((ConnectionCallback<ClaimMode>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (!"MySQL".equalsIgnoreCase(metaData.getDatabaseProductName())) {
+                return ClaimMode.CONDITIONAL_UPDATE;
+            }
+            return metaData.getDatabaseMajorVersion() >= 8 ? ClaimMode.SKIP_LOCKED : ClaimMode.UPDATE_LIMIT;
+        });
+    }
+
+    @Override
+    public int provide(Long ticketId) {
+        Optional<Integer> claimed = claim(ticketId);
+        if (claimed.isEmpty() && initializeIfAbsent(ticketId)) {
+            claimed = claim(ticketId);
+        }
+        int number = claimed.orElseThrow(() -> new BadRequestException(ErrorCode.TICKET_SOLD_OUT));
+        markDirtyAfterCommit(ticketId);
+        return number;
+    }
+
+    private Optional<Integer> claim(Long ticketId) {
+        return switch (claimMode) {
+            case SKIP_LOCKED -> claimSkipLocked(ticketId);
+            case UPDATE_LIMIT -> claimWithUpdateLimit(ticketId);
+            case CONDITIONAL_UPDATE -> claimWithConditionalUpdate(ticketId);
+        };
+    }
+
+    private Optional<Integer> claimSkipLocked(Long ticketId) {
+        return jdbcTemplate.query(CLAIM_SKIP_LOCKED_SQL, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getInt(2)},
+                ticketId)
+            .stream()
+            .findFirst()
+            .map(seat -> {
+                jdbcTemplate.update(CLAIM_SQL, seat[0]);
+                return (int) seat[1];
+            });
+    }
+
+    /**
+     * UPDATE 는 잠금을 잡고 최신 커밋을 읽으므로, 다른 요청이 먼저 차지한 좌석을 다시 고르지 않습니다.
+     */
+    private Optional<Integer> claimWithUpdateLimit(Long ticketId) {
+        if (jdbcTemplate.update(CLAIM_FIRST_FREE_SEAT_SQL, ticketId) == 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(jdbcTemplate.queryForObject(FIND_CLAIMED_NUMBER_SQL, Integer.class));
+    }
+
+    /**
+     * 일관된 읽기를 하는 격리 수준에서는 다른 요청이 차지한 좌석이 계속 비어 있는 것으로 보일 수 있으므로, 정해진 횟수만큼만 시도합니다.
+     */
+    private Optional<Integer> claimWithConditionalUpdate(Long ticketId) {
+        for (int attempt = 0; attempt < maxClaimAttempts; attempt++) {
+            List<long[]> seats = jdbcTemplate.query(FIND_FREE_SEAT_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getInt(2)}, ticketId);
+            if (seats.isEmpty()) {
+                return Optional.empty();
+            }
+            long[] seat = seats.get(0);
+            if (jdbcTemplate.update(CLAIM_SQL, seat[0]) == 1) {
+                return Optional.of((int) seat[1]);
+            }
+        }
+        throw new TooManyRequestException(ErrorCode.TICKETING_CONFLICT);
+    }
+
+    /**
+     * 좌석 풀 방식으로 바꾸기 전에 만들어진 티켓은 좌석이 없으므로, 처음 예매할 때 티켓 수량 행을 잠그고 좌석을 만듭니다.
+     */
+    private boolean initializeIfAbsent(Long ticketId) {
+        if (countSeats(ticketId) > 0) {
+            return false;
+        }
+        ticketAmountRepository.findByTicketIdForUpdate(ticketId)
+            .orElseThrow(() -> new NotFoundException(ErrorCode.TICKET_NOT_FOUND));
+        if (countSeats(ticketId) > 0) {
+            return true;
+        }
+        generateSeats(ticketId);
+        return true;
+    }
+
+    private int countSeats(Long ticketId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_SEATS_SQL, Integer.class, ticketId);
+        return count == null ? 0 : count;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void regenerateSeats(TicketAmountChangedEvent event) {
+        generateSeats(event.ticketId());
+    }
+
+    /**
+     * 입장 시간이 추가되면 뒤쪽 입장 시간의 번호가 밀리므로, 비어 있는 좌석은 지우고 현재 입장 시간 기준으로 다시 만듭니다. 이미 팔린 번호는 건너뜁니다.
+     */
+    private void generateSeats(Long ticketId) {
+        EntryTimeSchedule schedule = EntryTimeSchedule.from(ticketRepository.findTicketEntryTimesByTicketId(ticketId));
+        int totalAmount = schedule.getTotalAmount();
+        jdbcTemplate.update(DELETE_FREE_SEATS_SQL, ticketId);
+        Set<Integer> takenNumbers = new HashSet<>(
+            jdbcTemplate.queryForList(FIND_CLAIMED_NUMBERS_SQL, Integer.class, ticketId));
+        takenNumbers.addAll(memberTicketRepository.findNumbersByTicketIdAndNumberBetween(ticketId, 1, totalAmount));
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int number = 1; number <= totalAmount; number++) {
+            if (takenNumbers.contains(number)) {
+                continue;
+            }
+            batchArgs.add(new Object[]{ticketId, number, now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SEAT_SQL, batchArgs);
+    }
+
+    @Override
+    public void assign(Long ticketId, int sequence, Long memberId) {
+        jdbcTemplate.update(ASSIGN_SQL, memberId, ticketId, sequence);
+    }
+
+    /**
+     * 좌석은 번호 순서와 상관없이 먼저 잡은 요청이 가져가므로, 마지막 번호의 발급이 곧 매진을 뜻하지 않습니다.
+     */
+    @Override
+    public boolean issuesInOrder() {
+        return false;
+    }
+
+    /**
+     * TicketAmount 의 예매 수량은 늦게 맞춰지므로, 좌석을 만든 티켓 중 비어 있는 좌석이 없는 티켓을 매진으로 판단합니다.
+     */
+    @Override
+    public List<Long> findSoldOutTicketIds() {
+        return jdbcTemplate.queryForList(FIND_SOLD_OUT_TICKET_IDS_SQL, Long.class);
+    }
+
+    private void markDirtyAfterCommit(Long ticketId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirtyTicketIds.add(ticketId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirtyTicketIds.add(ticketId);
+            }
+        });
+    }
+
+    /**
+     * 티켓마다 학교의 샤드에서 맞춥니다. 학교를 옮기는 중이거나 실패한 티켓은 다음 주기에 다시 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${festago.ticketing.seat-pool.sync-interval-millis:1000}")
+    public void syncTicketAmounts() {
+        List<Long> ticketIds = new ArrayList<>();
+        for (Long ticketId : dirtyTicketIds) {
+            dirtyTicketIds.remove(ticketId);
+            ticketIds.add(ticketId);
+        }
+        for (Long ticketId : ticketIds) {
+            try {
+                shardRouter.executeOnTicket(ticketId,
+                    () -> jdbcTemplate.update(SYNC_TICKET_AMOUNT_SQL, ticketId, ticketId));
+            } catch (RuntimeException e) {
+                dirtyTicketIds.add(ticketId);
+                log.warn("남은 좌석 수를 TicketAmount 에 반영하는 데 실패했습니다. ticketId={}", ticketId, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void syncOnShutdown() {
+        syncTicketAmounts();
+    }
+
+    private enum ClaimMode {
+        SKIP_LOCKED,
+        UPDATE_LIMIT,
+        CONDITIONAL_UPDATE
+    }
+}
@@ -0,0 +1,17 @@
+package com.festago.ticketing.infrastructure;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.ticketing.application.EntryTimeSequenceProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnExpression("'${festago.ticketing.sequence-strategy:pessimistic}' != 'entry-time'")
+public class UnsupportedEntryTimeSequenceProvider implements EntryTimeSequenceProvider {
+
+    @Override
+    public int provide(Long ticketId, Long entryTimeId) {
+        throw new BadRequestException(ErrorCode.TICKET_ENTRY_TIME_SELECTION_NOT_SUPPORTED);
+    }
+}
@@ -0,0 +1,18 @@
+package com.festago.ticketing.repository;
+
+import com.festago.ticketing.domain.LotteryApplication;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LotteryApplicationRepository extends JpaRepository<LotteryApplication, Long> {
+
+    @Query("""
+        SELECT la.memberId
+        FROM LotteryApplication la
+        WHERE la.ticketId = :ticketId
+        ORDER BY la.id
+        """)
+    List<Long> findMemberIdsByTicketId(@Param("ticketId") Long ticketId);
+}
@@ -3,13 +3,111 @@ package com.festago.ticketing.repository;
 import com.festago.member.domain.Member;
 import com.festago.stage.domain.Stage;
 import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.dto.MemberTicketProjection;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberTicketRepository extends JpaRepository<MemberTicket, Long> {
 
+    /**
+     * 멤버 티켓 응답에 필요한 컬럼을 공연, 축제와 조인해서 한 번에 조회합니다. 연관 엔티티를 지연 로딩하지 않습니다.
+     */
+    String SELECT_PROJECTION = """
+        SELECT new com.festago.ticketing.dto.MemberTicketProjection(
+            mt.id, mt.owner.id, mt.number, mt.entryTime, mt.entryState, mt.createdAt,
+            s.id, s.startTime, s.ticketOpenTime, s.lineUp,
+            f.id, f.name, f.thumbnail)
+        FROM MemberTicket mt
+        JOIN mt.stage s
+        JOIN s.festival f
+        """;
+
     List<MemberTicket> findAllByOwnerId(Long memberId, Pageable pageable);
 
+    @Query(SELECT_PROJECTION + """
+        WHERE mt.id = :memberTicketId
+        """)
+    Optional<MemberTicketProjection> findProjectionById(@Param("memberTicketId") Long memberTicketId);
+
+    @Query(SELECT_PROJECTION + """
+        WHERE mt.owner.id = :memberId
+        ORDER BY mt.entryTime DESC, mt.id DESC
+        """)
+    List<MemberTicketProjection> findPageByOwnerId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 커서보다 앞선 티켓을 입장 시간과 식별자의 역순으로 조회합니다. 건너뛸 행을 읽지 않으므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회합니다.
+     */
+    @Query(SELECT_PROJECTION + """
+        WHERE mt.owner.id = :memberId
+        AND (mt.entryTime < :entryTime OR (mt.entryTime = :entryTime AND mt.id < :id))
+        ORDER BY mt.entryTime DESC, mt.id DESC
+        """)
+    List<MemberTicketProjection> findPageByOwnerIdBeforeCursor(@Param("memberId") Long memberId,
+                                                               @Param("entryTime") LocalDateTime entryTime,
+                                                               @Param("id") Long id,
+                                                               Pageable pageable);
+
+    /**
+     * 입장할 수 있거나 입장 전인 티켓을 입장할 수 있는 티켓부터, 각각 현재 시간과 가까운 순서로 조회합니다. 입장 가능 시간이 지난 티켓은
+     * 인덱스 범위에서 제외되므로 예매 이력이 쌓여도 조회 비용이 늘지 않습니다.
+     */
+    @Query(SELECT_PROJECTION + """
+        WHERE mt.owner.id = :memberId
+        AND mt.entryTime > :entryClosedTime
+        ORDER BY
+            CASE WHEN mt.entryTime > :currentTime THEN 1 ELSE 0 END,
+            CASE WHEN mt.entryTime > :currentTime THEN mt.entryTime END ASC,
+            CASE WHEN mt.entryTime <= :currentTime THEN mt.entryTime END DESC
+        """)
+    List<MemberTicketProjection> findCurrentByOwnerId(@Param("memberId") Long memberId,
+                                                      @Param("currentTime") LocalDateTime currentTime,
+                                                      @Param("entryClosedTime") LocalDateTime entryClosedTime,
+                                                      Pageable pageable);
+
     boolean existsByOwnerAndStage(Member owner, Stage stage);
+
+    @Query("""
+        SELECT COALESCE(MAX(mt.number), 0)
+        FROM MemberTicket mt, Ticket t
+        WHERE t.id = :ticketId
+        AND mt.stage = t.stage
+        AND mt.ticketType = t.ticketType
+        """)
+    int findMaxNumberByTicketId(@Param("ticketId") Long ticketId);
+
+    @Query("""
+        SELECT mt.number
+        FROM MemberTicket mt, Ticket t
+        WHERE t.id = :ticketId
+        AND mt.stage = t.stage
+        AND mt.ticketType = t.ticketType
+        AND mt.number BETWEEN :startNumber AND :endNumber
+        """)
+    List<Integer> findNumbersByTicketIdAndNumberBetween(@Param("ticketId") Long ticketId,
+                                                        @Param("startNumber") int startNumber,
+                                                        @Param("endNumber") int endNumber);
+
+    @Query("""
+        SELECT mt.owner.id
+        FROM MemberTicket mt
+        WHERE mt.stage.id = :stageId
+        """)
+    List<Long> findOwnerIdsByStageId(@Param("stageId") Long stageId);
+
+    /**
+     * 같은 멤버 티켓을 동시에 취소해도 한 번만 삭제되도록, 삭제된 행의 수를 반환합니다.
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM MemberTicket mt
+        WHERE mt.id = :memberTicketId
+        """)
+    int deleteMemberTicketById(@Param("memberTicketId") Long memberTicketId);
 }
@@ -0,0 +1,23 @@
+package com.festago.ticketing.repository;
+
+import com.festago.ticketing.domain.ReleasedSequence;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReleasedSequenceRepository extends JpaRepository<ReleasedSequence, Long> {
+
+    List<ReleasedSequence> findAllByTicketIdOrderByNumberAsc(Long ticketId, Pageable pageable);
+
+    @Query("""
+        SELECT DISTINCT rs.ticketId
+        FROM ReleasedSequence rs, Ticket t
+        WHERE t.id = rs.ticketId
+        AND t.stage.startTime > :now
+        AND EXISTS (SELECT 1 FROM WaitlistEntry we WHERE we.ticketId = rs.ticketId)
+        """)
+    List<Long> findPromotableTicketIds(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,25 @@
+package com.festago.ticketing.repository;
+
+import com.festago.ticketing.domain.ReserveSequenceLease;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReserveSequenceLeaseRepository extends JpaRepository<ReserveSequenceLease, Long> {
+
+    List<ReserveSequenceLease> findAllByTicketIdAndExpiredAtBeforeOrderByStartSequenceAsc(Long ticketId,
+                                                                                          LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        UPDATE ReserveSequenceLease l
+        SET l.expiredAt = :expiredAt
+        WHERE l.id = :leaseId
+        AND l.nodeId = :nodeId
+        """)
+    int renew(@Param("leaseId") Long leaseId, @Param("nodeId") String nodeId,
+              @Param("expiredAt") LocalDateTime expiredAt);
+}
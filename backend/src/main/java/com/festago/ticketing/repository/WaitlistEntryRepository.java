@@ -0,0 +1,16 @@
+package com.festago.ticketing.repository;
+
+import com.festago.ticketing.domain.WaitlistEntry;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    Optional<WaitlistEntry> findByTicketIdAndMemberId(Long ticketId, Long memberId);
+
+    List<WaitlistEntry> findAllByTicketIdOrderByIdAsc(Long ticketId, Pageable pageable);
+
+    long countByTicketIdAndIdLessThanEqual(Long ticketId, Long id);
+}
@@ -0,0 +1,17 @@
+create table if not exists reserve_sequence_lease
+(
+    id             bigint  not null auto_increment,
+    created_at     datetime(6),
+    updated_at     datetime(6),
+    ticket_id      bigint  not null,
+    start_sequence integer not null,
+    end_sequence   integer not null,
+    node_id        varchar(255),
+    expired_at     datetime(6) not null,
+    primary key (id)
+) engine innodb
+  default charset = utf8mb4
+  collate = utf8mb4_0900_ai_ci;
+
+create index index_reserve_sequence_lease_ticket_expired
+    on reserve_sequence_lease (ticket_id, expired_at);
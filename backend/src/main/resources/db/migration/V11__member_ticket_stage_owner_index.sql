@@ -0,0 +1,2 @@
+create index index_member_ticket_stage_owner
+    on member_ticket (stage_id, owner_id);
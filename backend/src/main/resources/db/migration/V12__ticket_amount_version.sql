@@ -0,0 +1,2 @@
+alter table ticket_amount
+    add column version bigint not null default 0;
@@ -0,0 +1,2 @@
+alter table ticket_entry_time
+    add column reserved_amount integer not null default 0;
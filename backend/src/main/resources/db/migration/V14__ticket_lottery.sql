@@ -0,0 +1,20 @@
+alter table ticket
+    add column sale_type varchar(255) not null default 'FIRST_COME';
+
+alter table ticket
+    add column drawn_at datetime(6);
+
+create table if not exists lottery_application
+(
+    id         bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    ticket_id  bigint not null,
+    member_id  bigint not null,
+    primary key (id)
+) engine innodb
+  default charset = utf8mb4
+  collate = utf8mb4_0900_ai_ci;
+
+alter table lottery_application
+    add constraint unique_lottery_application_ticket_member unique (ticket_id, member_id);
@@ -0,0 +1,20 @@
+create table if not exists ticket_seat
+(
+    id         bigint      not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    ticket_id  bigint      not null,
+    number     integer     not null,
+    entry_time datetime(6) not null,
+    claimed    bit         not null default 0,
+    owner_id   bigint,
+    primary key (id)
+) engine innodb
+  default charset = utf8mb4
+  collate = utf8mb4_0900_ai_ci;
+
+alter table ticket_seat
+    add constraint unique_ticket_seat_ticket_number unique (ticket_id, number);
+
+create index index_ticket_seat_ticket_claimed
+    on ticket_seat (ticket_id, claimed);
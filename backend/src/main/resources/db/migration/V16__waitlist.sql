@@ -0,0 +1,30 @@
+create table if not exists released_sequence
+(
+    id         bigint      not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    ticket_id  bigint      not null,
+    number     integer     not null,
+    entry_time datetime(6) not null,
+    primary key (id)
+) engine innodb
+  default charset = utf8mb4
+  collate = utf8mb4_0900_ai_ci;
+
+alter table released_sequence
+    add constraint unique_released_sequence_ticket_number unique (ticket_id, number);
+
+create table if not exists waitlist_entry
+(
+    id         bigint not null auto_increment,
+    created_at datetime(6),
+    updated_at datetime(6),
+    ticket_id  bigint not null,
+    member_id  bigint not null,
+    primary key (id)
+) engine innodb
+  default charset = utf8mb4
+  collate = utf8mb4_0900_ai_ci;
+
+alter table waitlist_entry
+    add constraint unique_waitlist_entry_ticket_member unique (ticket_id, member_id);
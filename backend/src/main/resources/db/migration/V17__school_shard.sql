@@ -0,0 +1,11 @@
+create table if not exists school_shard
+(
+    school_id  bigint       not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    shard_key  varchar(255) not null,
+    migrating  bit          not null default 0,
+    primary key (school_id)
+) engine innodb
+  default charset = utf8mb4
+  collate = utf8mb4_0900_ai_ci;
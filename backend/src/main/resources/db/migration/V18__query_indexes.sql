@@ -0,0 +1,17 @@
+create index index_member_ticket_owner_entry_time
+    on member_ticket (owner_id, entry_time);
+
+create index index_member_ticket_stage_type_number
+    on member_ticket (stage_id, ticket_type, number);
+
+create index index_ticket_stage_type
+    on ticket (stage_id, ticket_type);
+
+create index index_ticket_sale_type_drawn_at
+    on ticket (sale_type, drawn_at);
+
+create index index_stage_festival_start_time
+    on stage (festival_id, start_time);
+
+create index index_student_school_username
+    on student (school_id, username);
@@ -0,0 +1,4 @@
+drop index index_member_ticket_stage_type_number on member_ticket;
+
+alter table member_ticket
+    add constraint unique_member_ticket_stage_type_number unique (stage_id, ticket_type, number);
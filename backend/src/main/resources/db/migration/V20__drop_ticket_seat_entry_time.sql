@@ -0,0 +1,2 @@
+alter table ticket_seat
+    drop column entry_time;
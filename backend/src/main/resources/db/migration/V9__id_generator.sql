@@ -0,0 +1,21 @@
+create table if not exists id_generator
+(
+    sequence_name varchar(255) not null,
+    next_val      bigint,
+    primary key (sequence_name)
+) engine innodb
+  default charset = utf8mb4
+  collate = utf8mb4_0900_ai_ci;
+
+-- pooled optimizer 는 next_val 을 할당 블록의 상한으로 사용하므로 기존 최대 id 보다 allocationSize(50) 이상 크게 시작한다.
+insert into id_generator (sequence_name, next_val)
+select 'member_ticket', coalesce(max(id), 0) + 51
+from member_ticket;
+
+insert into id_generator (sequence_name, next_val)
+select 'ticket', coalesce(max(id), 0) + 51
+from ticket;
+
+insert into id_generator (sequence_name, next_val)
+select 'ticket_entry_time', coalesce(max(id), 0) + 51
+from ticket_entry_time;
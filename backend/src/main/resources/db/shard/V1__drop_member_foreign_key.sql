@@ -0,0 +1,3 @@
+-- 멤버는 디렉터리 샤드에만 저장하므로, 다른 샤드의 멤버 티켓은 멤버를 외래 키로 참조할 수 없다.
+alter table member_ticket
+    drop foreign key fk_member_ticket__member;
@@ -0,0 +1,59 @@
+package benchmark;
+
+import com.festago.common.domain.BaseTimeEntity;
+import com.festago.member.domain.Member;
+import com.festago.stage.domain.Stage;
+import com.festago.ticket.domain.TicketType;
+import com.festago.ticketing.domain.EntryState;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * MemberTicket 과 같은 컬럼을 IDENTITY 로 저장하는 벤치마크 전용 엔티티입니다. pooled 테이블 시퀀스로 바꾸기 전의 Hibernate 저장 방식을 재현합니다.
+ * <p>
+ * 다른 통합 테스트의 엔티티 스캔에 잡혀 테이블이 만들어지지 않도록 com.festago 바깥에 두고, 벤치마크 컨텍스트에서만 등록합니다.
+ */
+@Entity
+@Table(name = "member_ticket_identity_benchmark")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdentityMemberTicket extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private EntryState entryState = EntryState.BEFORE_ENTRY;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Member owner;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Stage stage;
+
+    private int number;
+
+    private LocalDateTime entryTime;
+
+    @Enumerated(EnumType.STRING)
+    private TicketType ticketType;
+
+    public IdentityMemberTicket(Member owner, Stage stage, int number, LocalDateTime entryTime,
+                                TicketType ticketType) {
+        this.owner = owner;
+        this.stage = stage;
+        this.number = number;
+        this.entryTime = entryTime;
+        this.ticketType = ticketType;
+    }
+}
@@ -28,6 +28,7 @@ public class DataInitializer implements InitializingBean {
     private Set<String> metaTableNames = Set.of(
         "sys_config",
         "flyway_schema_history",
+        "ID_GENERATOR",
         "CONSTANTS",
         "ENUM_VALUES",
         "INDEXES",
@@ -24,6 +24,8 @@ import com.festago.entry.dto.TicketValidationResponse;
 import com.festago.entry.dto.event.EntryProcessEvent;
 import com.festago.festival.domain.Festival;
 import com.festago.member.domain.Member;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.sharding.infrastructure.SingleShardRouter;
 import com.festago.stage.domain.Stage;
 import com.festago.support.FestivalFixture;
 import com.festago.support.MemberFixture;
@@ -67,6 +69,9 @@ class EntryServiceTest {
     @Spy
     Clock clock = Clock.systemDefaultZone();
 
+    @Spy
+    ShardRouter shardRouter = new SingleShardRouter();
+
     @InjectMocks
     EntryService entryService;
 
@@ -40,6 +40,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(ReplaceUnderscores.class)
@@ -58,6 +59,9 @@ class FestivalServiceTest {
     @Mock
     SchoolRepository schoolRepository;
 
+    @Mock
+    ApplicationEventPublisher publisher;
+
     @InjectMocks
     FestivalService festivalService;
 
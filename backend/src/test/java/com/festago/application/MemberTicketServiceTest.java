@@ -1,28 +1,39 @@
 package com.festago.application;
 
 import static com.festago.common.exception.ErrorCode.MEMBER_NOT_FOUND;
+import static com.festago.common.exception.ErrorCode.MEMBER_TICKET_NOT_CANCELLABLE;
 import static com.festago.common.exception.ErrorCode.MEMBER_TICKET_NOT_FOUND;
 import static com.festago.common.exception.ErrorCode.NOT_MEMBER_TICKET_OWNER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.BDDMockito.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 import com.festago.common.exception.BadRequestException;
 import com.festago.common.exception.NotFoundException;
 import com.festago.member.domain.Member;
 import com.festago.member.repository.MemberRepository;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.sharding.infrastructure.SingleShardRouter;
 import com.festago.stage.domain.Stage;
 import com.festago.support.MemberFixture;
 import com.festago.support.MemberTicketFixture;
 import com.festago.support.StageFixture;
+import com.festago.support.TicketFixture;
+import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.repository.TicketRepository;
 import com.festago.ticketing.application.MemberTicketService;
+import com.festago.ticketing.domain.EntryState;
 import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.domain.ReleasedSequence;
+import com.festago.ticketing.dto.MemberTicketProjection;
 import com.festago.ticketing.dto.MemberTicketResponse;
 import com.festago.ticketing.dto.MemberTicketsResponse;
+import com.festago.ticketing.dto.event.MemberTicketCancelledEvent;
 import com.festago.ticketing.repository.MemberTicketRepository;
+import com.festago.ticketing.repository.ReleasedSequenceRepository;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,7 +47,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,9 +61,21 @@ class MemberTicketServiceTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    TicketRepository ticketRepository;
+
+    @Mock
+    ReleasedSequenceRepository releasedSequenceRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @Spy
     Clock clock = Clock.systemDefaultZone();
 
+    @Spy
+    ShardRouter shardRouter = new SingleShardRouter();
+
     @InjectMocks
     MemberTicketService memberTicketService;
 
@@ -68,10 +91,24 @@ class MemberTicketServiceTest {
                 .willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> memberTicketService.findAll(memberId, PageRequest.ofSize(1)))
+            assertThatThrownBy(() -> memberTicketService.findAll(memberId, null, 1))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage(MEMBER_NOT_FOUND.getMessage());
         }
+
+        @Test
+        void 최대_크기보다_큰_size_는_최대_크기만큼_조회한다() {
+            // given
+            Long memberId = 1L;
+            given(memberRepository.findById(memberId))
+                .willReturn(Optional.of(new Member(memberId)));
+
+            // when
+            memberTicketService.findAll(memberId, null, 100);
+
+            // then
+            verify(memberTicketRepository).findPageByOwnerId(memberId, Pageable.ofSize(51));
+        }
     }
 
     @Nested
@@ -86,51 +123,28 @@ class MemberTicketServiceTest {
                 .willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> memberTicketService.findCurrent(memberId, Pageable.ofSize(10)))
+            assertThatThrownBy(() -> memberTicketService.findCurrent(memberId, 10))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage(MEMBER_NOT_FOUND.getMessage());
         }
 
-        @Test
-        void 입장시간이_24시간_지난_티켓은_조회되지_않는다() {
-            // given
-            Long memberId = 1L;
-            MemberTicket memberTicket = MemberTicketFixture.memberTicket()
-                .entryTime(LocalDateTime.now().minusHours(25))
-                .build();
-
-            given(memberTicketRepository.findAllByOwnerId(anyLong(), any(Pageable.class)))
-                .willReturn(List.of(memberTicket));
-            given(memberRepository.findById(memberId))
-                .willReturn(Optional.of(new Member(memberId)));
-
-            // when
-            MemberTicketsResponse response = memberTicketService.findCurrent(memberId, Pageable.ofSize(100));
-
-            // then
-            assertThat(response.memberTickets()).isEmpty();
-        }
-
         @Test
         void 활성화된_티켓이_먼저_조회된다() {
             // given
             Long memberId = 1L;
-            MemberTicket pendingMemberTicket = MemberTicketFixture.memberTicket()
-                .id(1L)
-                .entryTime(LocalDateTime.now().plusHours(1))
-                .build();
-            MemberTicket activateMemberTicket = MemberTicketFixture.memberTicket()
-                .id(2L)
-                .entryTime(LocalDateTime.now().minusHours(1))
-                .build();
+            MemberTicketProjection pendingMemberTicket = memberTicketProjection(1L, 1L,
+                LocalDateTime.now().plusHours(1));
+            MemberTicketProjection activateMemberTicket = memberTicketProjection(2L, 1L,
+                LocalDateTime.now().minusHours(1));
 
-            given(memberTicketRepository.findAllByOwnerId(eq(memberId), any(Pageable.class)))
+            given(memberTicketRepository.findCurrentByOwnerId(eq(memberId), any(LocalDateTime.class),
+                any(LocalDateTime.class), any(Pageable.class)))
                 .willReturn(List.of(pendingMemberTicket, activateMemberTicket));
             given(memberRepository.findById(memberId))
                 .willReturn(Optional.of(new Member(memberId)));
 
             // when
-            MemberTicketsResponse response = memberTicketService.findCurrent(memberId, Pageable.ofSize(100));
+            MemberTicketsResponse response = memberTicketService.findCurrent(memberId, 100);
 
             // then
             List<Long> memberTicketIds = response.memberTickets().stream()
@@ -143,31 +157,24 @@ class MemberTicketServiceTest {
         void 활성화_및_비활성화_내에서는_현재시간과_가까운순으로_정렬되어_조회된다() {
             // given
             Long memberId = 1L;
-            MemberTicket pendingMemberTicket1 = MemberTicketFixture.memberTicket()
-                .id(1L)
-                .entryTime(LocalDateTime.now().plusHours(1))
-                .build();
-            MemberTicket pendingMemberTicket2 = MemberTicketFixture.memberTicket()
-                .id(2L)
-                .entryTime(LocalDateTime.now().plusHours(2))
-                .build();
-            MemberTicket activateMemberTicket1 = MemberTicketFixture.memberTicket()
-                .id(3L)
-                .entryTime(LocalDateTime.now().minusHours(2))
-                .build();
-            MemberTicket activateMemberTicket2 = MemberTicketFixture.memberTicket()
-                .id(4L)
-                .entryTime(LocalDateTime.now().minusHours(1))
-                .build();
-
-            given(memberTicketRepository.findAllByOwnerId(eq(memberId), any(Pageable.class)))
+            MemberTicketProjection pendingMemberTicket1 = memberTicketProjection(1L, 1L,
+                LocalDateTime.now().plusHours(1));
+            MemberTicketProjection pendingMemberTicket2 = memberTicketProjection(2L, 1L,
+                LocalDateTime.now().plusHours(2));
+            MemberTicketProjection activateMemberTicket1 = memberTicketProjection(3L, 1L,
+                LocalDateTime.now().minusHours(2));
+            MemberTicketProjection activateMemberTicket2 = memberTicketProjection(4L, 1L,
+                LocalDateTime.now().minusHours(1));
+
+            given(memberTicketRepository.findCurrentByOwnerId(eq(memberId), any(LocalDateTime.class),
+                any(LocalDateTime.class), any(Pageable.class)))
                 .willReturn(
                     List.of(pendingMemberTicket1, pendingMemberTicket2, activateMemberTicket1, activateMemberTicket2));
             given(memberRepository.findById(memberId))
                 .willReturn(Optional.of(new Member(memberId)));
 
             // when
-            MemberTicketsResponse response = memberTicketService.findCurrent(memberId, Pageable.ofSize(100));
+            MemberTicketsResponse response = memberTicketService.findCurrent(memberId, 100);
 
             // then
             List<Long> memberTicketIds = response.memberTickets().stream()
@@ -200,7 +207,7 @@ class MemberTicketServiceTest {
             Long memberId = 1L;
             Long memberTicketId = 1L;
 
-            given(memberTicketRepository.findById(memberTicketId))
+            given(memberTicketRepository.findProjectionById(memberTicketId))
                 .willReturn(Optional.empty());
             given(memberRepository.findById(memberId))
                 .willReturn(Optional.of(new Member(memberId)));
@@ -215,17 +222,12 @@ class MemberTicketServiceTest {
         void 사용자가_티켓의_주인이_아니면_예외() {
             // given
             Long memberId = 1L;
-            Member other = MemberFixture.member()
-                .id(2L)
-                .build();
-
-            MemberTicket otherMemberTicket = MemberTicketFixture.memberTicket()
-                .owner(other)
-                .build();
+            Long otherMemberId = 2L;
+            Long otherTicketId = 1L;
+            MemberTicketProjection otherMemberTicket = memberTicketProjection(otherTicketId, otherMemberId,
+                LocalDateTime.now());
 
-            Long otherTicketId = otherMemberTicket.getId();
-
-            given(memberTicketRepository.findById(otherTicketId))
+            given(memberTicketRepository.findProjectionById(otherTicketId))
                 .willReturn(Optional.of(otherMemberTicket));
             given(memberRepository.findById(memberId))
                 .willReturn(Optional.of(new Member(memberId)));
@@ -240,28 +242,107 @@ class MemberTicketServiceTest {
         void 성공() {
             // given
             Long memberId = 2L;
-            Member member = MemberFixture.member()
-                .id(memberId)
+            Long memberTicketId = 1L;
+            MemberTicketProjection memberTicket = memberTicketProjection(memberTicketId, memberId,
+                LocalDateTime.now());
+
+            given(memberTicketRepository.findProjectionById(memberTicketId))
+                .willReturn(Optional.of(memberTicket));
+            given(memberRepository.findById(memberId))
+                .willReturn(Optional.of(new Member(memberId)));
+
+            // when
+            MemberTicketResponse response = memberTicketService.findById(memberId, memberTicketId);
+
+            // then
+            assertThat(response.id()).isEqualTo(memberTicketId);
+        }
+    }
+
+    @Nested
+    class 멤버_티켓_취소 {
+
+        @Test
+        void 주인이_아니면_예외() {
+            // given
+            Long memberTicketId = 1L;
+            MemberTicket memberTicket = MemberTicketFixture.memberTicket()
+                .id(memberTicketId)
+                .owner(MemberFixture.member().id(1L).build())
                 .build();
+
+            given(memberTicketRepository.findById(memberTicketId))
+                .willReturn(Optional.of(memberTicket));
+
+            // when & then
+            assertThatThrownBy(() -> memberTicketService.cancel(2L, memberTicketId))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(NOT_MEMBER_TICKET_OWNER.getMessage());
+        }
+
+        @Test
+        void 공연이_시작된_티켓은_취소할_수_없다() {
+            // given
+            Long memberId = 1L;
+            Long memberTicketId = 1L;
             Stage stage = StageFixture.stage()
+                .startTime(LocalDateTime.now().minusMinutes(1))
+                .ticketOpenTime(LocalDateTime.now().minusDays(1))
+                .build();
+            MemberTicket memberTicket = MemberTicketFixture.memberTicket()
+                .id(memberTicketId)
+                .owner(MemberFixture.member().id(memberId).build())
+                .stage(stage)
                 .build();
+
+            given(memberTicketRepository.findById(memberTicketId))
+                .willReturn(Optional.of(memberTicket));
+
+            // when & then
+            assertThatThrownBy(() -> memberTicketService.cancel(memberId, memberTicketId))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(MEMBER_TICKET_NOT_CANCELLABLE.getMessage());
+        }
+
+        @Test
+        void 취소하면_예매_번호를_반환하고_취소_이벤트를_발행한다() {
+            // given
+            Long memberId = 1L;
             Long memberTicketId = 1L;
+            Stage stage = StageFixture.stage()
+                .id(1L)
+                .startTime(LocalDateTime.now().plusDays(1))
+                .build();
             MemberTicket memberTicket = MemberTicketFixture.memberTicket()
+                .id(memberTicketId)
+                .owner(MemberFixture.member().id(memberId).build())
+                .stage(stage)
+                .number(7)
+                .build();
+            Ticket ticket = TicketFixture.ticket()
                 .id(1L)
-                .owner(member)
                 .stage(stage)
                 .build();
 
             given(memberTicketRepository.findById(memberTicketId))
                 .willReturn(Optional.of(memberTicket));
-            given(memberRepository.findById(memberId))
-                .willReturn(Optional.of(new Member(memberId)));
+            given(ticketRepository.findByTicketTypeAndStage(memberTicket.getTicketType(), stage))
+                .willReturn(Optional.of(ticket));
+            given(memberTicketRepository.deleteMemberTicketById(memberTicketId))
+                .willReturn(1);
 
             // when
-            MemberTicketResponse response = memberTicketService.findById(member.getId(), memberTicketId);
+            memberTicketService.cancel(memberId, memberTicketId);
 
             // then
-            assertThat(response.id()).isEqualTo(memberTicketId);
+            verify(releasedSequenceRepository).save(any(ReleasedSequence.class));
+            verify(eventPublisher).publishEvent(new MemberTicketCancelledEvent(memberId, 1L, 1L, 7,
+                memberTicket.getEntryTime()));
         }
     }
+
+    private MemberTicketProjection memberTicketProjection(Long id, Long ownerId, LocalDateTime entryTime) {
+        return new MemberTicketProjection(id, ownerId, 1, entryTime, EntryState.BEFORE_ENTRY, LocalDateTime.now(),
+            1L, entryTime, entryTime.minusDays(1), "오리", 1L, "테코대학교 축제", "https://picsum.photos/536/354");
+    }
 }
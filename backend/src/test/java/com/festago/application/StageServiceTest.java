@@ -22,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @DisplayNameGeneration(ReplaceUnderscores.class)
 @SuppressWarnings("NonAsciiCharacters")
@@ -34,6 +35,9 @@ class StageServiceTest {
     @Mock
     FestivalRepository festivalRepository;
 
+    @Mock
+    ApplicationEventPublisher publisher;
+
     @InjectMocks
     StageService stageService;
 
@@ -3,7 +3,10 @@ package com.festago.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 
+import com.festago.sharding.application.ShardRouter;
+import com.festago.sharding.infrastructure.SingleShardRouter;
 import com.festago.stage.domain.Stage;
+import com.festago.stage.repository.StageRepository;
 import com.festago.support.StageFixture;
 import com.festago.support.TicketFixture;
 import com.festago.ticket.application.TicketService;
@@ -13,12 +16,14 @@ import com.festago.ticket.dto.StageTicketResponse;
 import com.festago.ticket.dto.StageTicketsResponse;
 import com.festago.ticket.repository.TicketRepository;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +34,12 @@ class TicketServiceTest {
     @Mock
     TicketRepository ticketRepository;
 
+    @Mock
+    StageRepository stageRepository;
+
+    @Spy
+    ShardRouter shardRouter = new SingleShardRouter();
+
     @InjectMocks
     TicketService ticketService;
 
@@ -41,7 +52,9 @@ class TicketServiceTest {
             TicketFixture.ticket().id(1L).ticketType(TicketType.STUDENT).stage(stage).build(),
             TicketFixture.ticket().id(2L).ticketType(TicketType.VISITOR).stage(stage).build()
         );
-        given(ticketRepository.findAllByStageId(stageId))
+        given(stageRepository.findSchoolIdById(stageId))
+            .willReturn(Optional.of(1L));
+        given(ticketRepository.findAllDetailByStageId(stageId))
             .willReturn(tickets);
 
         // when
@@ -0,0 +1,103 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticketing.application.AsyncTicketingService;
+import com.festago.ticketing.domain.TicketingReservationStatus;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingReservationResponse;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@TestPropertySource(properties = {
+    "festago.ticketing.async.enabled=true",
+    "festago.ticketing.async.batch-size=20"
+})
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class AsyncTicketingIntegrationTest extends ApplicationIntegrationTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    AsyncTicketingService asyncTicketingService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    Clock clock;
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 접수된_예매_요청을_묶어서_처리하고_결과를_조회할_수_있다() {
+        // given
+        int tryCount = 60;
+        List<Member> members = IntStream.range(0, tryCount)
+            .mapToObj(i -> memberRepository.save(MemberFixture.member().socialId("member-" + i).build()))
+            .toList();
+        TicketingRequest request = new TicketingRequest(1L);
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+
+        // when
+        Map<Member, String> handles = members.stream()
+            .collect(Collectors.toMap(Function.identity(),
+                member -> asyncTicketingService.enqueue(member.getId(), request, null).handle()));
+        List<TicketingReservationResponse> results = members.stream()
+            .map(member -> asyncTicketingService.find(member.getId(), handles.get(member), 10_000).join())
+            .toList();
+
+        // then
+        List<Integer> numbers = jdbcTemplate.queryForList("SELECT number FROM member_ticket", Integer.class);
+        assertThat(numbers).hasSize(50).doesNotHaveDuplicates();
+        assertThat(results)
+            .filteredOn(result -> result.status() == TicketingReservationStatus.COMPLETED)
+            .hasSize(50);
+        assertThat(results)
+            .filteredOn(result -> result.status() == TicketingReservationStatus.FAILED)
+            .allMatch(result -> result.error().errorCode() == ErrorCode.TICKET_SOLD_OUT)
+            .hasSize(10);
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 같은_멱등키로_다시_접수하면_처음_접수한_요청의_handle_을_돌려준다() {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+        TicketingRequest request = new TicketingRequest(1L);
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+        TicketingReservationResponse first = asyncTicketingService.enqueue(member.getId(), request, null, "key");
+
+        // when
+        TicketingReservationResponse retried = asyncTicketingService.enqueue(member.getId(), request, null, "key");
+
+        // then
+        asyncTicketingService.find(member.getId(), first.handle(), 10_000).join();
+        Integer memberTicketCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_ticket", Integer.class);
+        assertThat(retried.handle()).isEqualTo(first.handle());
+        assertThat(memberTicketCount).isOne();
+    }
+}
@@ -0,0 +1,83 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticketing.application.AsyncTicketingService;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingReservationResponse;
+import java.time.Clock;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * 매진 표시가 주기적인 동기화가 아니라 비동기 처리 결과로 반영되는지 확인하기 위해 동기화 주기를 길게 둡니다.
+ */
+@TestPropertySource(properties = {
+    "festago.ticketing.async.enabled=true",
+    "festago.ticketing.sold-out-registry.enabled=true",
+    "festago.ticketing.sold-out-registry.sync-interval-millis=3600000"
+})
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class AsyncTicketingSoldOutIntegrationTest extends ApplicationIntegrationTest {
+
+    private static final TicketingRequest REQUEST = new TicketingRequest(1L);
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    AsyncTicketingService asyncTicketingService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    Clock clock;
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 매진으로_실패한_요청이_있으면_다음_요청은_접수하지_않고_거절한다() {
+        // given
+        jdbcTemplate.update("UPDATE ticket_amount SET reserved_amount = total_amount WHERE ticket_id = ?", 1L);
+        Member member = memberRepository.save(MemberFixture.member().socialId("member-1").build());
+        Member other = memberRepository.save(MemberFixture.member().socialId("member-2").build());
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+        String handle = asyncTicketingService.enqueue(member.getId(), REQUEST, null).handle();
+
+        // when
+        TicketingReservationResponse result = asyncTicketingService.find(member.getId(), handle, 10_000).join();
+
+        // then
+        assertThat(result.error().errorCode()).isEqualTo(ErrorCode.TICKET_SOLD_OUT);
+        assertThatThrownBy(() -> enqueueUntilRejected(other.getId()))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.TICKET_SOLD_OUT.getMessage());
+    }
+
+    /**
+     * 결과는 작업자가 매진을 표시하기 직전에 완료되므로, 표시될 때까지 잠시 다시 접수합니다.
+     */
+    private void enqueueUntilRejected(Long memberId) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            asyncTicketingService.enqueue(memberId, REQUEST, null);
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.support.TicketingTestData;
+import com.festago.ticketing.application.TicketingReservation;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.infrastructure.BlockReserveSequenceProvider;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "festago.ticketing.sequence-strategy=block",
+    "festago.ticketing.block.size=10"
+})
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class BlockTicketingInBatchIntegrationTest extends ApplicationIntegrationTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    BlockReserveSequenceProvider blockReserveSequenceProvider;
+
+    @AfterEach
+    void tearDown() {
+        blockReserveSequenceProvider.releaseOnShutdown();
+    }
+
+    @Test
+    void 묶음_예매는_한_트랜잭션에서_할당한_블록을_이어서_사용한다() {
+        // given
+        List<TicketingReservation> reservations = createReservations(5);
+
+        // when
+        ticketingService.ticketingInBatch(TicketingTestData.TICKET_ID, reservations);
+
+        // then
+        List<Integer> numbers = jdbcTemplate.queryForList("SELECT number FROM member_ticket", Integer.class);
+        assertThat(numbers).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+        assertThat(findReservedAmount()).isEqualTo(10);
+    }
+
+    @Test
+    void 묶음_예매가_블록보다_크면_블록을_다_쓴_뒤에만_새_블록을_할당한다() {
+        // given
+        List<TicketingReservation> reservations = createReservations(12);
+
+        // when
+        ticketingService.ticketingInBatch(TicketingTestData.TICKET_ID, reservations);
+
+        // then
+        List<Integer> numbers = jdbcTemplate.queryForList("SELECT number FROM member_ticket", Integer.class);
+        assertThat(numbers).hasSize(12).doesNotHaveDuplicates();
+        assertThat(findReservedAmount()).isEqualTo(20);
+    }
+
+    private List<TicketingReservation> createReservations(int count) {
+        TicketingTestData.insertOpenedTicket(jdbcTemplate, 50);
+        return IntStream.range(0, count)
+            .mapToObj(i -> memberRepository.save(MemberFixture.member().socialId("member-" + i).build()))
+            .map(this::createReservation)
+            .toList();
+    }
+
+    private TicketingReservation createReservation(Member member) {
+        return new TicketingReservation("handle-" + member.getId(), member.getId(), TicketingTestData.TICKET_ID,
+            null, Long.MAX_VALUE);
+    }
+
+    private Integer findReservedAmount() {
+        return jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class,
+            TicketingTestData.TICKET_ID);
+    }
+}
@@ -0,0 +1,123 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.ApplicationNode;
+import com.festago.support.MemberFixture;
+import com.festago.support.TicketingTestData;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class BlockTicketingMultiNodeTest {
+
+    private static final int NODE_COUNT = 3;
+    private static final int TOTAL_AMOUNT = 100;
+    private static final TicketingRequest REQUEST = new TicketingRequest(TicketingTestData.TICKET_ID);
+
+    private final List<ApplicationNode> nodes = new ArrayList<>();
+    private String url;
+
+    @BeforeEach
+    void setUp() {
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000";
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add(startNode("node-" + i, i == 0 ? "create" : "none"));
+        }
+        TicketingTestData.insertOpenedTicket(nodes.get(0).getBean(JdbcTemplate.class), TOTAL_AMOUNT);
+    }
+
+    private ApplicationNode startNode(String nodeId, String ddlAuto) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("spring.datasource.url", url);
+        properties.put("spring.jpa.hibernate.ddl-auto", ddlAuto);
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.org.hibernate.orm.jdbc.bind", "info");
+        properties.put("festago.ticketing.sequence-strategy", "block");
+        properties.put("festago.ticketing.block.node-id", nodeId);
+        properties.put("festago.ticketing.block.size", "10");
+        return ApplicationNode.start(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ApplicationNode::close);
+        nodes.clear();
+    }
+
+    @Test
+    void 여러_노드가_동시에_예매해도_번호가_중복되지_않고_총_수량만큼만_판매된다() {
+        // given
+        int tryCount = 150;
+        List<Member> members = saveMembers(tryCount);
+        ExecutorService executor = Executors.newFixedThreadPool(24);
+
+        // when
+        List<CompletableFuture<TicketingResponse>> futures = IntStream.range(0, tryCount)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> nodes.get(i % NODE_COUNT)
+                .getBean(TicketingService.class)
+                .ticketing(members.get(i).getId(), REQUEST), executor)
+                .exceptionally(e -> null))
+            .toList();
+        List<Integer> numbers = futures.stream()
+            .map(CompletableFuture::join)
+            .filter(response -> response != null)
+            .map(TicketingResponse::number)
+            .toList();
+        executor.shutdown();
+
+        // then
+        JdbcTemplate jdbcTemplate = nodes.get(0).getBean(JdbcTemplate.class);
+        Integer reservedAmount = jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class, 1L);
+        assertThat(numbers).hasSize(TOTAL_AMOUNT)
+            .doesNotHaveDuplicates()
+            .allMatch(number -> 1 <= number && number <= TOTAL_AMOUNT);
+        assertThat(reservedAmount).isEqualTo(TOTAL_AMOUNT);
+    }
+
+    @Test
+    void 종료된_노드가_반납한_블록의_남은_번호는_다른_노드가_이어서_사용한다() {
+        // given
+        List<Member> members = saveMembers(2);
+        ApplicationNode stoppedNode = nodes.remove(0);
+        stoppedNode.getBean(TicketingService.class).ticketing(members.get(0).getId(), REQUEST);
+        stoppedNode.close();
+
+        // when
+        TicketingResponse response = nodes.get(0).getBean(TicketingService.class)
+            .ticketing(members.get(1).getId(), REQUEST);
+
+        // then
+        Integer reservedAmount = nodes.get(0).getBean(JdbcTemplate.class).queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class, 1L);
+        assertThat(response.number()).isEqualTo(2);
+        assertThat(reservedAmount).isEqualTo(10);
+    }
+
+    private List<Member> saveMembers(int count) {
+        MemberRepository memberRepository = nodes.get(0).getBean(MemberRepository.class);
+        return IntStream.range(0, count)
+            .mapToObj(i -> memberRepository.save(MemberFixture.member().socialId("social-" + i).build()))
+            .toList();
+    }
+}
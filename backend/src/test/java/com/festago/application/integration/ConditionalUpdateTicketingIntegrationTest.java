@@ -0,0 +1,92 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.dto.TicketingRequest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@TestPropertySource(properties = "festago.ticketing.sequence-strategy=conditional-update")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ConditionalUpdateTicketingIntegrationTest extends ApplicationIntegrationTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    Clock clock;
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 동시에_예약해도_매진_수량만큼_중복_없이_판매된다() {
+        // given
+        int tryCount = 100;
+        List<Member> members = IntStream.range(0, tryCount)
+            .mapToObj(i -> memberRepository.save(MemberFixture.member().socialId("member-" + i).build()))
+            .toList();
+        TicketingRequest request = new TicketingRequest(1L);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+
+        // when
+        List<CompletableFuture<Void>> futures = members.stream()
+            .map(member -> CompletableFuture.runAsync(() -> {
+                ticketingService.ticketing(member.getId(), request);
+            }, executor).exceptionally(e -> null))
+            .toList();
+        futures.forEach(CompletableFuture::join);
+
+        // then
+        Integer reservedAmount = jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class, 1L);
+        List<Integer> numbers = jdbcTemplate.queryForList("SELECT number FROM member_ticket", Integer.class);
+        assertThat(numbers).hasSize(50).doesNotHaveDuplicates();
+        assertThat(reservedAmount).isEqualTo(50);
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 매진된_티켓을_예매하면_예외() {
+        // given
+        jdbcTemplate.update("UPDATE ticket_amount SET reserved_amount = total_amount WHERE ticket_id = ?", 1L);
+        Member member = memberRepository.save(MemberFixture.member().build());
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+
+        // when & then
+        assertThatThrownBy(() -> ticketingService.ticketing(member.getId(), new TicketingRequest(1L)))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.TICKET_SOLD_OUT.getMessage());
+    }
+}
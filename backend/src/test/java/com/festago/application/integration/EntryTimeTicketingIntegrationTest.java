@@ -0,0 +1,134 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.infrastructure.EntryTimeReserveSequenceProvider;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@TestPropertySource(properties = "festago.ticketing.sequence-strategy=entry-time")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class EntryTimeTicketingIntegrationTest extends ApplicationIntegrationTest {
+
+    private static final Long SECOND_ENTRY_TIME_ID = 2L;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    EntryTimeReserveSequenceProvider entryTimeReserveSequenceProvider;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 고른_입장_시간의_수량만큼_그_입장_시간의_번호_구간에서_판매된다() {
+        // given
+        int tryCount = 30;
+        List<Member> members = IntStream.range(0, tryCount)
+            .mapToObj(i -> memberRepository.save(MemberFixture.member().socialId("member-" + i).build()))
+            .toList();
+        TicketingRequest request = new TicketingRequest(1L, SECOND_ENTRY_TIME_ID);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<CompletableFuture<Void>> futures = members.stream()
+            .map(member -> CompletableFuture.runAsync(() -> {
+                ticketingService.ticketing(member.getId(), request);
+            }, executor).exceptionally(e -> null))
+            .toList();
+        futures.forEach(CompletableFuture::join);
+        entryTimeReserveSequenceProvider.syncTicketAmounts();
+
+        // then
+        List<Integer> numbers = jdbcTemplate.queryForList("SELECT number FROM member_ticket", Integer.class);
+        Integer reservedAmount = jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class, 1L);
+        assertThat(numbers).hasSize(20)
+            .doesNotHaveDuplicates()
+            .allMatch(number -> 11 <= number && number <= 30);
+        assertThat(reservedAmount).isEqualTo(20);
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 고른_입장_시간이_매진되면_입장_시간_매진_예외() {
+        // given
+        jdbcTemplate.update("UPDATE ticket_entry_time SET reserved_amount = amount WHERE id = ?",
+            SECOND_ENTRY_TIME_ID);
+        Member member = memberRepository.save(MemberFixture.member().build());
+        TicketingRequest request = new TicketingRequest(1L, SECOND_ENTRY_TIME_ID);
+
+        // when & then
+        assertThatThrownBy(() -> ticketingService.ticketing(member.getId(), request))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.TICKET_ENTRY_TIME_SOLD_OUT.getMessage());
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 모든_입장_시간이_매진되어야_예매_수량이_반영되기_전에도_매진으로_찾는다() {
+        // given
+        jdbcTemplate.update("UPDATE ticket_entry_time SET reserved_amount = amount WHERE id = ?",
+            SECOND_ENTRY_TIME_ID);
+        List<Long> partlySoldOut = entryTimeReserveSequenceProvider.findSoldOutTicketIds();
+        jdbcTemplate.update("UPDATE ticket_entry_time SET reserved_amount = amount WHERE ticket_id = ?", 1L);
+
+        // when
+        List<Long> actual = entryTimeReserveSequenceProvider.findSoldOutTicketIds();
+
+        // then
+        assertThat(partlySoldOut).doesNotContain(1L);
+        assertThat(actual).contains(1L);
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 입장_시간을_고르지_않으면_예외() {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+
+        // when & then
+        assertThatThrownBy(() -> ticketingService.ticketing(member.getId(), new TicketingRequest(1L)))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.TICKET_ENTRY_TIME_NOT_SELECTED.getMessage());
+    }
+}
@@ -0,0 +1,99 @@
+package com.festago.application.integration;
+
+import static com.festago.common.exception.ErrorCode.RESERVE_TICKET_OVER_AMOUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.stage.domain.Stage;
+import com.festago.stage.repository.StageRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticket.domain.TicketType;
+import com.festago.ticketing.application.ReservationChecker;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = {
+    "festago.ticketing.reservation-index.enabled=true",
+    "festago.ticketing.reservation-index.single-node=true"
+})
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class InMemoryReservationIndexIntegrationTest extends ApplicationIntegrationTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    ReservationChecker reservationChecker;
+
+    @Autowired
+    StageRepository stageRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @SpyBean
+    MemberTicketRepository memberTicketRepository;
+
+    @SpyBean
+    Clock clock;
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 커밋된_예매는_인덱스에_반영되어_DB_조회_없이_중복_예매를_막는다() {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+        TicketingRequest request = new TicketingRequest(1L);
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+        ticketingService.ticketing(member.getId(), request);
+
+        // when & then
+        assertThatThrownBy(() -> ticketingService.ticketing(member.getId(), request))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(RESERVE_TICKET_OVER_AMOUNT.getMessage());
+        verify(memberTicketRepository, never()).existsByOwnerAndStage(any(Member.class), any(Stage.class));
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 인덱스는_호출한_트랜잭션이_아닌_새_트랜잭션에서_적재한다() {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+        Stage stage = stageRepository.findById(1L).orElseThrow();
+
+        // when
+        Boolean reserved = transactionTemplate.execute(status -> {
+            memberTicketRepository.saveAndFlush(new MemberTicket(member, stage, 1,
+                LocalDateTime.parse("2023-07-30T00:21:31"), TicketType.VISITOR));
+            return reservationChecker.isReserved(member, stage);
+        });
+
+        // then
+        assertThat(reserved).isFalse();
+    }
+}
@@ -0,0 +1,84 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.stage.domain.Stage;
+import com.festago.support.MemberFixture;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.infrastructure.InMemoryReserveSequenceProvider;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@TestPropertySource(properties = "festago.ticketing.sequence-strategy=in-memory")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class InMemoryTicketingIntegrationTest extends ApplicationIntegrationTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    InMemoryReserveSequenceProvider inMemoryReserveSequenceProvider;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    MemberTicketRepository memberTicketRepository;
+
+    @SpyBean
+    Clock clock;
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 동시에_100명이_예약해도_매진_경계를_넘지_않고_예매_수량이_DB에_반영된다() {
+        // given
+        int tryCount = 100;
+        Member member = memberRepository.save(MemberFixture.member().build());
+        TicketingRequest request = new TicketingRequest(1L);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        doReturn(false)
+            .when(memberTicketRepository)
+            .existsByOwnerAndStage(any(Member.class), any(Stage.class));
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+
+        // when
+        List<CompletableFuture<Void>> futures = IntStream.range(0, tryCount)
+            .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                ticketingService.ticketing(member.getId(), request);
+            }, executor).exceptionally(e -> null))
+            .toList();
+        futures.forEach(CompletableFuture::join);
+        inMemoryReserveSequenceProvider.flush();
+
+        // then
+        Integer reservedAmount = jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class, 1L);
+        assertThat(memberTicketRepository.count()).isEqualTo(50);
+        assertThat(reservedAmount).isEqualTo(50);
+    }
+}
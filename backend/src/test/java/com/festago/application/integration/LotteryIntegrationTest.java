@@ -0,0 +1,144 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticketing.application.LotteryService;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.dto.LotteryDrawResult;
+import com.festago.ticketing.dto.TicketingRequest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@TestPropertySource(properties = "festago.ticketing.lottery.draw-interval-millis=3600000")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class LotteryIntegrationTest extends ApplicationIntegrationTest {
+
+    private static final Long TICKET_ID = 1L;
+    private static final Instant BEFORE_OPEN = Instant.parse("2023-07-22T03:21:31Z");
+    private static final Instant AFTER_OPEN = Instant.parse("2023-07-24T03:21:31Z");
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    LotteryService lotteryService;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(BEFORE_OPEN)
+            .when(clock)
+            .instant();
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 응모자를_추첨해서_수량만큼_멤버_티켓을_발급한다() {
+        // given
+        changeToLottery();
+        List<Member> members = IntStream.range(0, 60)
+            .mapToObj(i -> memberRepository.save(MemberFixture.member().socialId("member-" + i).build()))
+            .toList();
+        members.forEach(member -> lotteryService.apply(member.getId(), TICKET_ID));
+        doReturn(AFTER_OPEN)
+            .when(clock)
+            .instant();
+
+        // when
+        LotteryDrawResult result = lotteryService.draw(TICKET_ID);
+
+        // then
+        List<Integer> numbers = jdbcTemplate.queryForList("SELECT number FROM member_ticket", Integer.class);
+        Integer reservedAmount = jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class, TICKET_ID);
+        assertSoftly(softly -> {
+            softly.assertThat(result.applicantCount()).isEqualTo(60);
+            softly.assertThat(result.winnerCount()).isEqualTo(50);
+            softly.assertThat(numbers).hasSize(50)
+                .doesNotHaveDuplicates()
+                .allMatch(number -> 1 <= number && number <= 50);
+            softly.assertThat(reservedAmount).isEqualTo(50);
+        });
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 추첨은_한_번만_진행된다() {
+        // given
+        changeToLottery();
+        Member member = memberRepository.save(MemberFixture.member().build());
+        lotteryService.apply(member.getId(), TICKET_ID);
+        doReturn(AFTER_OPEN)
+            .when(clock)
+            .instant();
+        lotteryService.draw(TICKET_ID);
+
+        // when & then
+        assertThatThrownBy(() -> lotteryService.draw(TICKET_ID))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.LOTTERY_ALREADY_DRAWN.getMessage());
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 같은_티켓에_두_번_응모하면_예외() {
+        // given
+        changeToLottery();
+        Member member = memberRepository.save(MemberFixture.member().build());
+        lotteryService.apply(member.getId(), TICKET_ID);
+
+        // when & then
+        assertThatThrownBy(() -> lotteryService.apply(member.getId(), TICKET_ID))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.LOTTERY_ALREADY_APPLIED.getMessage());
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 추첨_티켓은_선착순으로_예매할_수_없다() {
+        // given
+        changeToLottery();
+        Member member = memberRepository.save(MemberFixture.member().build());
+        doReturn(AFTER_OPEN)
+            .when(clock)
+            .instant();
+
+        // when & then
+        assertThatThrownBy(() -> ticketingService.ticketing(member.getId(), new TicketingRequest(TICKET_ID)))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.LOTTERY_TICKET_NOT_RESERVABLE.getMessage());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_ticket", Integer.class)).isZero();
+    }
+
+    private void changeToLottery() {
+        jdbcTemplate.update("UPDATE ticket SET sale_type = 'LOTTERY' WHERE id = ?", TICKET_ID);
+    }
+}
@@ -1,6 +1,8 @@
 package com.festago.application.integration;
 
+import static java.util.Comparator.comparing;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import com.festago.festival.domain.Festival;
 import com.festago.festival.repository.FestivalRepository;
@@ -13,22 +15,30 @@ import com.festago.stage.repository.StageRepository;
 import com.festago.support.FestivalFixture;
 import com.festago.support.MemberFixture;
 import com.festago.support.MemberTicketFixture;
+import com.festago.support.QueryCounts;
 import com.festago.support.SchoolFixture;
 import com.festago.support.StageFixture;
 import com.festago.ticket.repository.TicketRepository;
 import com.festago.ticketing.application.MemberTicketService;
+import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.dto.MemberTicketPageResponse;
+import com.festago.ticketing.dto.MemberTicketResponse;
 import com.festago.ticketing.dto.MemberTicketsResponse;
 import com.festago.ticketing.repository.MemberTicketRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 
 @DisplayNameGeneration(ReplaceUnderscores.class)
 @SuppressWarnings("NonAsciiCharacters")
 class MemberTicketIntegrationTest extends ApplicationIntegrationTest {
 
+    QueryCounts queryCounts = new QueryCounts();
+
     @Autowired
     MemberTicketService memberTicketService;
 
@@ -51,7 +61,7 @@ class MemberTicketIntegrationTest extends ApplicationIntegrationTest {
     SchoolRepository schoolRepository;
 
     @Test
-    void 예매한_티켓_조회시_Pageable_적용() {
+    void 예매한_티켓_조회시_개수_제한_적용() {
         // given
         School school = schoolRepository.save(SchoolFixture.school().build());
         Member member = memberRepository.save(MemberFixture.member().build());
@@ -61,14 +71,89 @@ class MemberTicketIntegrationTest extends ApplicationIntegrationTest {
             memberTicketRepository.save(MemberTicketFixture.memberTicket()
                 .stage(stage)
                 .owner(member)
+                .number(i + 1)
                 .build()
             );
         }
 
         // when
-        MemberTicketsResponse actual = memberTicketService.findAll(member.getId(), PageRequest.of(0, 10));
+        MemberTicketPageResponse actual = memberTicketService.findAll(member.getId(), null, 10);
 
         // then
         assertThat(actual.memberTickets()).hasSize(10);
+        assertThat(actual.nextCursor()).isNotNull();
+    }
+
+    @Test
+    void 커서로_다음_페이지를_조회하면_모든_티켓을_입장_시간과_식별자의_역순으로_한_번씩_조회한다() {
+        // given
+        School school = schoolRepository.save(SchoolFixture.school().build());
+        Member member = memberRepository.save(MemberFixture.member().build());
+        Festival festival = festivalRepository.save(FestivalFixture.festival().school(school).build());
+        Stage stage = stageRepository.save(StageFixture.stage().festival(festival).build());
+        LocalDateTime entryTime = LocalDateTime.of(2023, 7, 30, 0, 0);
+        for (int i = 0; i < 20; i++) {
+            memberTicketRepository.save(MemberTicketFixture.memberTicket()
+                .stage(stage)
+                .owner(member)
+                .number(i + 1)
+                .entryTime(entryTime.plusHours(i % 5))
+                .build()
+            );
+        }
+
+        // when
+        List<MemberTicketResponse> actual = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            MemberTicketPageResponse page = memberTicketService.findAll(member.getId(), cursor, 7);
+            actual.addAll(page.memberTickets());
+            pageSizes.add(page.memberTickets().size());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(pageSizes).containsExactly(7, 7, 6);
+        assertThat(actual).extracting(MemberTicketResponse::id)
+            .doesNotHaveDuplicates()
+            .hasSize(20);
+        assertThat(actual).isSortedAccordingTo(comparing(MemberTicketResponse::entryTime)
+            .thenComparing(MemberTicketResponse::id)
+            .reversed());
+    }
+
+    @Test
+    void 티켓_수와_관계없이_조회마다_회원_확인과_티켓_조회_두_개의_쿼리만_실행한다() {
+        // given
+        School school = schoolRepository.save(SchoolFixture.school().build());
+        Member member = memberRepository.save(MemberFixture.member().build());
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> memberTicketIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Festival festival = festivalRepository.save(FestivalFixture.festival().school(school).build());
+            Stage stage = stageRepository.save(StageFixture.stage().festival(festival).build());
+            MemberTicket memberTicket = memberTicketRepository.save(MemberTicketFixture.memberTicket()
+                .stage(stage)
+                .owner(member)
+                .entryTime(now.plusHours(i))
+                .build());
+            memberTicketIds.add(memberTicket.getId());
+        }
+
+        // when
+        MemberTicketPageResponse page = queryCounts.callWithMaxQueryCount(2,
+            () -> memberTicketService.findAll(member.getId(), null, 10));
+        MemberTicketsResponse current = queryCounts.callWithMaxQueryCount(2,
+            () -> memberTicketService.findCurrent(member.getId(), 10));
+        MemberTicketResponse memberTicket = queryCounts.callWithMaxQueryCount(2,
+            () -> memberTicketService.findById(member.getId(), memberTicketIds.get(0)));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(page.memberTickets()).hasSize(5);
+            softly.assertThat(current.memberTickets()).hasSize(5);
+            softly.assertThat(memberTicket.id()).isEqualTo(memberTicketIds.get(0));
+        });
     }
 }
@@ -0,0 +1,90 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.ServiceUnavailableException;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.dto.TicketingRequest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = "festago.ticketing.sequence-strategy=nowait")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class NoWaitTicketingIntegrationTest extends ApplicationIntegrationTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @SpyBean
+    Clock clock;
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 다른_트랜잭션이_티켓_수량의_락을_쥐고_있으면_기다리지_않고_503_예외() throws Exception {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> lockHolder = CompletableFuture.runAsync(() ->
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForObject(
+                    "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ? FOR UPDATE", Integer.class, 1L);
+                locked.countDown();
+                await(release);
+            }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> ticketingService.ticketing(member.getId(), new TicketingRequest(1L)))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage(ErrorCode.TICKETING_LOCK_UNAVAILABLE.getMessage());
+            assertThat(lockHolder).isNotDone();
+        } finally {
+            release.countDown();
+            lockHolder.join();
+        }
+        Integer reservedAmount = jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class, 1L);
+        assertThat(reservedAmount).isZero();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticketing.application.ReservationJournalReplayer;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.dto.ReservationJournalReplayResult;
+import com.festago.ticketing.dto.TicketingRequest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@TestPropertySource(properties = {
+    "festago.ticketing.journal.enabled=true",
+    "festago.ticketing.journal.directory=build/test-journal/${random.uuid}",
+    "festago.ticketing.journal.replay-on-startup=false"
+})
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ReservationJournalReplayIntegrationTest extends ApplicationIntegrationTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    ReservationJournalReplayer reservationJournalReplayer;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 저널에만_남은_예매를_DB에_다시_반영한다() {
+        // given
+        List<Member> members = IntStream.range(0, 3)
+            .mapToObj(i -> memberRepository.save(MemberFixture.member().socialId("member-" + i).build()))
+            .toList();
+        members.forEach(member -> ticketingService.ticketing(member.getId(), new TicketingRequest(1L)));
+        jdbcTemplate.update("DELETE FROM member_ticket WHERE number > 1");
+        jdbcTemplate.update("UPDATE ticket_amount SET reserved_amount = 1 WHERE ticket_id = 1");
+
+        // when
+        ReservationJournalReplayResult result = reservationJournalReplayer.replay();
+
+        // then
+        List<Integer> numbers = jdbcTemplate.queryForList("SELECT number FROM member_ticket", Integer.class);
+        Integer reservedAmount = jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = 1", Integer.class);
+        assertSoftly(softly -> {
+            softly.assertThat(result.issuedCount()).isEqualTo(3);
+            softly.assertThat(result.restoredCount()).isEqualTo(2);
+            softly.assertThat(numbers).containsExactlyInAnyOrder(1, 2, 3);
+            softly.assertThat(reservedAmount).isEqualTo(3);
+        });
+    }
+}
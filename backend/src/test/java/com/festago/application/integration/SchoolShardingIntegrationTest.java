@@ -0,0 +1,252 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.sharding.application.ShardMigrationService;
+import com.festago.sharding.dto.ShardMigrationResponse;
+import com.festago.sharding.infrastructure.ShardIdRanges;
+import com.festago.sharding.infrastructure.ShardRoutingDataSource;
+import com.festago.stage.application.StageService;
+import com.festago.stage.dto.StageCreateRequest;
+import com.festago.stage.dto.StageResponse;
+import com.festago.stage.dto.StageUpdateRequest;
+import com.festago.support.MemberFixture;
+import com.festago.ticket.application.TicketService;
+import com.festago.ticket.domain.TicketType;
+import com.festago.ticket.dto.TicketCreateRequest;
+import com.festago.ticket.dto.TicketCreateResponse;
+import com.festago.ticketing.application.MemberTicketService;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.dto.MemberTicketPageResponse;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingResponse;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@TestPropertySource(properties = {
+    "festago.sharding.enabled=true",
+    "festago.sharding.directory-shard=directory",
+    "festago.sharding.shards.directory.url=jdbc:h2:mem:shard-directory;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "festago.sharding.shards.directory.username=sa",
+    "festago.sharding.shards.shard-1.url=jdbc:h2:mem:shard-1;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "festago.sharding.shards.shard-1.username=sa",
+    "festago.sharding.shards.shard-1.id-offset=" + SchoolShardingIntegrationTest.SHARD_ID_OFFSET,
+    "festago.sharding.map-sync-interval-millis=3600000",
+    "festago.sharding.migration.drain-millis=0"
+})
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class SchoolShardingIntegrationTest extends ApplicationIntegrationTest {
+
+    static final long SHARD_ID_OFFSET = 1L << 40;
+    private static final String SHARD_KEY = "shard-1";
+    private static final Long SCHOOL_ID = 1L;
+    private static final Long TICKET_ID = 1L;
+
+    @Autowired
+    ShardMigrationService shardMigrationService;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    MemberTicketService memberTicketService;
+
+    @Autowired
+    TicketService ticketService;
+
+    @Autowired
+    StageService stageService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ShardRoutingDataSource shardRoutingDataSource;
+
+    @SpyBean
+    Clock clock;
+
+    JdbcTemplate shardJdbcTemplate;
+
+    /**
+     * 테스트에서는 Flyway 를 사용하지 않으므로, 디렉터리 샤드에 Hibernate 가 만든 스키마를 외래 키 없이 샤드에 복사합니다.
+     */
+    @BeforeEach
+    void setUp() {
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+        DataSource shardDataSource = shardRoutingDataSource.getResolvedDataSources().get(SHARD_KEY);
+        shardJdbcTemplate = new JdbcTemplate(shardDataSource);
+        shardJdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.queryForList("SCRIPT NODATA", String.class).stream()
+            .filter(statement -> statement.startsWith("CREATE") || statement.startsWith("ALTER"))
+            .filter(statement -> !statement.startsWith("CREATE USER") && !statement.contains("FOREIGN KEY"))
+            .forEach(shardJdbcTemplate::execute);
+        ShardIdRanges.apply(shardDataSource, SHARD_ID_OFFSET);
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 학교를_샤드로_옮기면_예매와_조회가_옮긴_샤드에서_처리된다() {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+
+        // when
+        ShardMigrationResponse migration = shardMigrationService.migrate(SCHOOL_ID, SHARD_KEY);
+        TicketingResponse ticketing = ticketingService.ticketing(member.getId(), new TicketingRequest(TICKET_ID));
+        MemberTicketPageResponse memberTickets = memberTicketService.findAll(member.getId(), null, 10);
+
+        // then
+        List<Long> shardMemberTicketIds = shardJdbcTemplate.queryForList("SELECT id FROM member_ticket", Long.class);
+        Integer directoryTicketCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ticket", Integer.class);
+        Integer directoryStageCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stage", Integer.class);
+        assertSoftly(softly -> {
+            softly.assertThat(migration.sourceShard()).isEqualTo("directory");
+            softly.assertThat(migration.movedRowCount()).isEqualTo(5);
+            softly.assertThat(migration.sourceCleaned()).isTrue();
+            softly.assertThat(shardMemberTicketIds).containsExactly(ticketing.id());
+            softly.assertThat(ticketing.id()).isGreaterThan(SHARD_ID_OFFSET);
+            softly.assertThat(directoryTicketCount).isZero();
+            softly.assertThat(directoryStageCount).isOne();
+            softly.assertThat(memberTickets.memberTickets()).hasSize(1);
+            softly.assertThat(memberTickets.memberTickets().get(0).id()).isEqualTo(ticketing.id());
+        });
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 학교를_옮긴_뒤의_취소는_옮긴_샤드에서_처리된다() {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+        shardMigrationService.migrate(SCHOOL_ID, SHARD_KEY);
+        TicketingResponse ticketing = ticketingService.ticketing(member.getId(), new TicketingRequest(TICKET_ID));
+
+        // when
+        memberTicketService.cancel(member.getId(), ticketing.id());
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(shardJdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_ticket", Integer.class))
+                .isZero();
+            softly.assertThat(shardJdbcTemplate.queryForObject("SELECT COUNT(*) FROM released_sequence",
+                Integer.class)).isOne();
+            softly.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM released_sequence", Integer.class))
+                .isZero();
+        });
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 학교를_옮긴_뒤에_만든_티켓은_옮긴_샤드에_저장된다() {
+        // given
+        shardMigrationService.migrate(SCHOOL_ID, SHARD_KEY);
+        doReturn(Instant.parse("2023-07-22T00:00:00Z"))
+            .when(clock)
+            .instant();
+        TicketCreateRequest request = new TicketCreateRequest(1L, TicketType.STUDENT, 100,
+            LocalDateTime.parse("2023-07-30T01:00:00"));
+
+        // when
+        ticketService.create(request);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(shardJdbcTemplate.queryForObject("SELECT COUNT(*) FROM ticket", Integer.class))
+                .isEqualTo(2);
+            softly.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ticket", Integer.class))
+                .isZero();
+            softly.assertThat(ticketService.findStageTickets(1L).tickets()).hasSize(2);
+        });
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 학교를_옮긴_뒤에_만들고_바꾼_공연이_옮긴_샤드에_반영되어_티켓을_팔_수_있다() {
+        // given
+        jdbcTemplate.update("UPDATE festival SET start_date = '2023-07-29', end_date = '2023-08-02' WHERE id = ?", 1L);
+        shardMigrationService.migrate(SCHOOL_ID, SHARD_KEY);
+        doReturn(Instant.parse("2023-07-22T00:00:00Z"))
+            .when(clock)
+            .instant();
+        LocalDateTime ticketOpenTime = LocalDateTime.parse("2023-07-23T00:00:00");
+        StageResponse stage = stageService.create(new StageCreateRequest(LocalDateTime.parse("2023-07-31T18:00:00"),
+            "애쉬", ticketOpenTime, 1L));
+        TicketCreateResponse ticket = ticketService.create(new TicketCreateRequest(stage.id(), TicketType.VISITOR,
+            10, LocalDateTime.parse("2023-07-31T17:00:00")));
+        stageService.update(stage.id(), new StageUpdateRequest(LocalDateTime.parse("2023-07-31T19:00:00"),
+            ticketOpenTime, "애쉬,푸우"));
+        Member member = memberRepository.save(MemberFixture.member().build());
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+
+        // when
+        TicketingResponse ticketing = ticketingService.ticketing(member.getId(), new TicketingRequest(ticket.id()));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(ticketing.id()).isGreaterThan(SHARD_ID_OFFSET);
+            softly.assertThat(shardJdbcTemplate.queryForObject("SELECT start_time FROM stage WHERE id = ?",
+                LocalDateTime.class, stage.id())).isEqualTo(LocalDateTime.parse("2023-07-31T19:00:00"));
+            softly.assertThat(shardJdbcTemplate.queryForObject("SELECT line_up FROM stage WHERE id = ?",
+                String.class, stage.id())).isEqualTo("애쉬,푸우");
+        });
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 디렉터리가_아닌_샤드에서_옮기면_하위_테이블부터_지워서_원본_샤드에_행이_남지_않는다() {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+        shardMigrationService.migrate(SCHOOL_ID, SHARD_KEY);
+        ticketingService.ticketing(member.getId(), new TicketingRequest(TICKET_ID));
+
+        // when
+        ShardMigrationResponse migration = shardMigrationService.migrate(SCHOOL_ID, "directory");
+
+        // then
+        List<String> tables = List.of("member_ticket", "ticket_amount", "ticket", "stage", "festival", "school");
+        assertSoftly(softly -> {
+            softly.assertThat(migration.sourceCleaned()).isTrue();
+            for (String table : tables) {
+                softly.assertThat(shardJdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class))
+                    .as(table)
+                    .isZero();
+            }
+            softly.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_ticket", Integer.class))
+                .isOne();
+        });
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 학교가_저장된_샤드의_데이터는_지울_수_없다() {
+        // when & then
+        assertThatThrownBy(() -> shardMigrationService.cleanUpSource(SCHOOL_ID, "directory"))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.SHARD_CLEANUP_NOT_ALLOWED.getMessage());
+    }
+}
@@ -0,0 +1,118 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticket.dto.event.TicketAmountChangedEvent;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.infrastructure.SeatPoolReserveSequenceProvider;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = "festago.ticketing.sequence-strategy=seat-pool")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class SeatPoolTicketingIntegrationTest extends ApplicationIntegrationTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    SeatPoolReserveSequenceProvider seatPoolReserveSequenceProvider;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 동시에_예매해도_좌석마다_한_명만_가져간다() {
+        // given
+        int tryCount = 60;
+        List<Member> members = IntStream.range(0, tryCount)
+            .mapToObj(i -> memberRepository.save(MemberFixture.member().socialId("member-" + i).build()))
+            .toList();
+        TicketingRequest request = new TicketingRequest(1L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<CompletableFuture<Void>> futures = members.stream()
+            .map(member -> CompletableFuture.runAsync(() -> {
+                ticketingService.ticketing(member.getId(), request);
+            }, executor).exceptionally(e -> null))
+            .toList();
+        futures.forEach(CompletableFuture::join);
+        seatPoolReserveSequenceProvider.syncTicketAmounts();
+
+        // then
+        List<Integer> numbers = jdbcTemplate.queryForList("SELECT number FROM member_ticket", Integer.class);
+        Integer ownedSeatCount = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM ticket_seat WHERE claimed = true AND owner_id IS NOT NULL", Integer.class);
+        Integer reservedAmount = jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class, 1L);
+        assertSoftly(softly -> {
+            softly.assertThat(numbers).hasSize(50)
+                .doesNotHaveDuplicates()
+                .allMatch(number -> 1 <= number && number <= 50);
+            softly.assertThat(ownedSeatCount).isEqualTo(50);
+            softly.assertThat(reservedAmount).isEqualTo(50);
+        });
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 입장_시간이_추가되면_빈_좌석을_다시_만든다() {
+        // given
+        jdbcTemplate.update("""
+            INSERT INTO ticket_entry_time (id, amount, entry_time, ticket_id, reserved_amount)
+            VALUES (4, 10, '2023-07-29T23:00:00', 1, 0)
+            """);
+        jdbcTemplate.update("UPDATE ticket_amount SET total_amount = 60 WHERE ticket_id = 1");
+
+        // when
+        transactionTemplate.executeWithoutResult(
+            status -> seatPoolReserveSequenceProvider.regenerateSeats(new TicketAmountChangedEvent(1L)));
+
+        // then
+        List<Integer> numbers = jdbcTemplate.queryForList("SELECT number FROM ticket_seat WHERE ticket_id = 1",
+            Integer.class);
+        assertThat(numbers).hasSize(60)
+            .doesNotHaveDuplicates()
+            .allMatch(number -> 1 <= number && number <= 60);
+    }
+}
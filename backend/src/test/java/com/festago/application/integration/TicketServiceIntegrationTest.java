@@ -3,6 +3,8 @@ package com.festago.application.integration;
 import static com.festago.common.exception.ErrorCode.STAGE_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 import com.festago.common.exception.NotFoundException;
@@ -16,6 +18,7 @@ import com.festago.support.FestivalFixture;
 import com.festago.support.SchoolFixture;
 import com.festago.support.StageFixture;
 import com.festago.ticket.application.TicketService;
+import com.festago.ticket.domain.Ticket;
 import com.festago.ticket.domain.TicketAmount;
 import com.festago.ticket.domain.TicketType;
 import com.festago.ticket.dto.TicketCreateRequest;
@@ -25,11 +28,14 @@ import com.festago.ticket.repository.TicketRepository;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @DisplayNameGeneration(ReplaceUnderscores.class)
 @SuppressWarnings("NonAsciiCharacters")
@@ -44,7 +50,7 @@ class TicketServiceIntegrationTest extends ApplicationIntegrationTest {
     @Autowired
     FestivalRepository festivalRepository;
 
-    @Autowired
+    @SpyBean
     TicketRepository ticketRepository;
 
     @Autowired
@@ -53,6 +59,9 @@ class TicketServiceIntegrationTest extends ApplicationIntegrationTest {
     @Autowired
     SchoolRepository schoolRepository;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @SpyBean
     Clock clock;
 
@@ -132,4 +141,48 @@ class TicketServiceIntegrationTest extends ApplicationIntegrationTest {
         TicketAmount ticketAmount = ticketAmountRepository.findById(response.id()).get();
         assertThat(ticketAmount.getTotalAmount()).isEqualTo(200);
     }
+
+    @Test
+    void 판매로_티켓_수량이_먼저_바뀌어_충돌하면_다시_시도해서_수량을_추가한다() {
+        // given
+        LocalDateTime stageStartTime = LocalDateTime.parse("2022-07-26T18:00:00");
+        doReturn(stageStartTime.minusWeeks(1).toInstant(ZoneOffset.UTC))
+            .when(clock)
+            .instant();
+        School school = schoolRepository.save(SchoolFixture.school().build());
+        Festival festival = festivalRepository.save(FestivalFixture.festival()
+            .school(school)
+            .startDate(stageStartTime.toLocalDate())
+            .endDate(stageStartTime.toLocalDate())
+            .build());
+        Stage stage = stageRepository.save(StageFixture.stage()
+            .festival(festival)
+            .startTime(stageStartTime)
+            .ticketOpenTime(stageStartTime.minusDays(1))
+            .build());
+        TicketCreateRequest request = new TicketCreateRequest(stage.getId(), TicketType.VISITOR,
+            100, stageStartTime.minusHours(1));
+        ticketService.create(request);
+
+        AtomicBoolean conflicted = new AtomicBoolean();
+        doAnswer(invocation -> {
+            Optional<Ticket> ticket = (Optional<Ticket>) invocation.callRealMethod();
+            if (conflicted.compareAndSet(false, true)) {
+                ticket.ifPresent(it -> {
+                    it.getTicketAmount().getTotalAmount();
+                    jdbcTemplate.update("UPDATE ticket_amount SET version = version + 1 WHERE ticket_id = ?",
+                        it.getId());
+                });
+            }
+            return ticket;
+        }).when(ticketRepository).findByTicketTypeAndStage(any(), any());
+
+        // when
+        TicketCreateResponse response = ticketService.create(request);
+
+        // then
+        TicketAmount ticketAmount = ticketAmountRepository.findById(response.id()).get();
+        assertThat(conflicted).isTrue();
+        assertThat(ticketAmount.getTotalAmount()).isEqualTo(200);
+    }
 }
@@ -0,0 +1,124 @@
+package com.festago.application.integration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.Mockito.doReturn;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.MemberFixture;
+import com.festago.ticketing.application.MemberTicketService;
+import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.application.WaitlistService;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingResponse;
+import com.festago.ticketing.dto.WaitlistPromotionResult;
+import com.festago.ticketing.dto.WaitlistResponse;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@TestPropertySource(properties = "festago.ticketing.waitlist.promotion-interval-millis=3600000")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class WaitlistIntegrationTest extends ApplicationIntegrationTest {
+
+    private static final Long TICKET_ID = 1L;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TicketingService ticketingService;
+
+    @Autowired
+    MemberTicketService memberTicketService;
+
+    @Autowired
+    WaitlistService waitlistService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(Instant.parse("2023-07-24T03:21:31Z"))
+            .when(clock)
+            .instant();
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 취소된_예매_번호는_먼저_대기한_멤버에게_발급된다() {
+        // given
+        Member owner = memberRepository.save(MemberFixture.member().socialId("owner").build());
+        Member firstWaiter = memberRepository.save(MemberFixture.member().socialId("first").build());
+        Member secondWaiter = memberRepository.save(MemberFixture.member().socialId("second").build());
+        jdbcTemplate.update("UPDATE ticket_amount SET reserved_amount = 49 WHERE ticket_id = ?", TICKET_ID);
+        TicketingResponse ticketing = ticketingService.ticketing(owner.getId(), new TicketingRequest(TICKET_ID));
+        WaitlistResponse first = waitlistService.join(firstWaiter.getId(), TICKET_ID);
+        WaitlistResponse second = waitlistService.join(secondWaiter.getId(), TICKET_ID);
+        memberTicketService.cancel(owner.getId(), ticketing.id());
+
+        // when
+        WaitlistPromotionResult result = waitlistService.promote(TICKET_ID);
+
+        // then
+        Map<String, Object> promoted = jdbcTemplate.queryForMap(
+            "SELECT owner_id, number, entry_time FROM member_ticket");
+        Integer reservedAmount = jdbcTemplate.queryForObject(
+            "SELECT reserved_amount FROM ticket_amount WHERE ticket_id = ?", Integer.class, TICKET_ID);
+        List<Long> waiterIds = jdbcTemplate.queryForList("SELECT member_id FROM waitlist_entry", Long.class);
+        assertSoftly(softly -> {
+            softly.assertThat(first.position()).isEqualTo(1);
+            softly.assertThat(second.position()).isEqualTo(2);
+            softly.assertThat(result.promotedCount()).isEqualTo(1);
+            softly.assertThat(promoted.get("OWNER_ID")).isEqualTo(firstWaiter.getId());
+            softly.assertThat(promoted.get("NUMBER")).isEqualTo(ticketing.number());
+            softly.assertThat(reservedAmount).isEqualTo(50);
+            softly.assertThat(waiterIds).containsExactly(secondWaiter.getId());
+            softly.assertThat(waitlistService.findPosition(secondWaiter.getId(), TICKET_ID).position()).isOne();
+        });
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 매진되지_않은_티켓에는_대기_신청할_수_없다() {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+
+        // when & then
+        assertThatThrownBy(() -> waitlistService.join(member.getId(), TICKET_ID))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.WAITLIST_TICKET_NOT_SOLD_OUT.getMessage());
+    }
+
+    @Test
+    @Sql("/ticketing-test-data.sql")
+    void 같은_티켓에_두_번_대기_신청하면_예외() {
+        // given
+        Member member = memberRepository.save(MemberFixture.member().build());
+        jdbcTemplate.update("UPDATE ticket_amount SET reserved_amount = 50 WHERE ticket_id = ?", TICKET_ID);
+        waitlistService.join(member.getId(), TICKET_ID);
+
+        // when & then
+        assertThatThrownBy(() -> waitlistService.join(member.getId(), TICKET_ID))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.WAITLIST_ALREADY_JOINED.getMessage());
+    }
+}
@@ -0,0 +1,154 @@
+package com.festago.benchmark;
+
+import benchmark.IdentityMemberTicket;
+import com.festago.FestaGoApplication;
+import com.festago.application.integration.ApplicationIntegrationTest;
+import com.festago.festival.domain.Festival;
+import com.festago.festival.repository.FestivalRepository;
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.school.domain.School;
+import com.festago.school.repository.SchoolRepository;
+import com.festago.stage.domain.Stage;
+import com.festago.stage.repository.StageRepository;
+import com.festago.support.FestivalFixture;
+import com.festago.support.MemberFixture;
+import com.festago.support.SchoolFixture;
+import com.festago.support.StageFixture;
+import com.festago.ticket.domain.TicketType;
+import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 티켓 오픈 시점의 member_ticket INSERT 처리량을 IDENTITY 방식과 pooled 테이블 시퀀스 방식으로 비교한다.
+ * <p>
+ * IDENTITY 방식은 같은 컬럼을 IDENTITY 로 저장하는 IdentityMemberTicket 을 Hibernate 로 저장해서 재현한다. Hibernate 는 IDENTITY 엔티티를
+ * persist 하는 즉시 한 건씩 INSERT 하므로 JDBC 배치가 적용되지 않는다.
+ * <p>
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class MemberTicketInsertBenchmarkTest extends ApplicationIntegrationTest {
+
+    private static final int INSERT_COUNT = 5_000;
+    private static final int CONCURRENT_BUYERS = 16;
+    private static final int BATCH_SIZE = 50;
+
+    @TestConfiguration
+    @EntityScan(basePackageClasses = {FestaGoApplication.class, IdentityMemberTicket.class})
+    static class IdentityMemberTicketConfig {
+
+    }
+
+    @Autowired
+    MemberTicketRepository memberTicketRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    SchoolRepository schoolRepository;
+
+    @Autowired
+    FestivalRepository festivalRepository;
+
+    @Autowired
+    StageRepository stageRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Member member;
+    Stage stage;
+    LocalDateTime entryTime;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(MemberFixture.member().build());
+        School school = schoolRepository.save(SchoolFixture.school().build());
+        Festival festival = festivalRepository.save(FestivalFixture.festival().school(school).build());
+        stage = stageRepository.save(StageFixture.stage().festival(festival).build());
+        entryTime = stage.getStartTime().minusHours(1);
+    }
+
+    @Test
+    void 티켓_오픈_패턴_요청당_한_건씩_동시_저장() {
+        measure("IDENTITY, 요청당 1건", INSERT_COUNT, concurrently(number ->
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(identityMemberTicket(number)))));
+        measure("pooled, 요청당 1건", INSERT_COUNT, concurrently(number ->
+            transactionTemplate.executeWithoutResult(status -> memberTicketRepository.save(memberTicket(number)))));
+    }
+
+    @Test
+    void 배치_패턴_트랜잭션당_여러_건_저장() {
+        int transactionCount = INSERT_COUNT / BATCH_SIZE;
+        measure("IDENTITY, 트랜잭션당 " + BATCH_SIZE + "건", INSERT_COUNT, concurrently(transactionCount, batch ->
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    entityManager.persist(identityMemberTicket(batch * BATCH_SIZE + i + 1));
+                }
+            })));
+        measure("pooled, 트랜잭션당 " + BATCH_SIZE + "건", INSERT_COUNT, concurrently(transactionCount, batch ->
+            transactionTemplate.executeWithoutResult(status -> {
+                List<MemberTicket> memberTickets = new ArrayList<>();
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    memberTickets.add(memberTicket(batch * BATCH_SIZE + i + 1));
+                }
+                memberTicketRepository.saveAll(memberTickets);
+            })));
+    }
+
+    private MemberTicket memberTicket(int number) {
+        return new MemberTicket(member, stage, number, entryTime, TicketType.VISITOR);
+    }
+
+    private IdentityMemberTicket identityMemberTicket(int number) {
+        return new IdentityMemberTicket(member, stage, number, entryTime, TicketType.VISITOR);
+    }
+
+    private Runnable concurrently(IntConsumer task) {
+        return concurrently(INSERT_COUNT, task);
+    }
+
+    private Runnable concurrently(int taskCount, IntConsumer task) {
+        return () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_BUYERS);
+            List<CompletableFuture<Void>> futures = IntStream.rangeClosed(1, taskCount)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> task.accept(i), executor))
+                .toList();
+            futures.forEach(CompletableFuture::join);
+            executor.shutdown();
+        };
+    }
+
+    private void measure(String name, int rowCount, Runnable benchmark) {
+        long start = System.nanoTime();
+        benchmark.run();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        System.out.printf("[MemberTicket INSERT] %-30s %6d rows, %6d ms, %8.1f rows/s%n",
+            name, rowCount, elapsedMillis, rowCount * 1000.0 / elapsedMillis);
+    }
+}
@@ -0,0 +1,62 @@
+package com.festago.benchmark;
+
+import com.festago.common.util.LongHashSet;
+import java.lang.ref.Reference;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 공연별 예매자 인덱스에 100만 건을 담았을 때의 힙 사용량을 LongHashSet 과 HashSet&lt;Long&gt; 으로 비교한다.
+ * <p>
+ * GC 직후의 사용 중인 힙 크기 차이로 측정하므로 대략적인 값이다. ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class ReservationIndexMemoryBenchmarkTest {
+
+    private static final int RESERVATION_COUNT = 1_000_000;
+    private static final long FIRST_MEMBER_ID = 1_000_000L;
+
+    @Test
+    void 예매자_100만명을_담은_인덱스의_메모리_사용량() {
+        long primitive = measure(() -> {
+            LongHashSet set = new LongHashSet();
+            for (int i = 0; i < RESERVATION_COUNT; i++) {
+                set.add(FIRST_MEMBER_ID + i);
+            }
+            return set;
+        });
+        long boxed = measure(() -> {
+            Set<Long> set = new HashSet<>();
+            for (int i = 0; i < RESERVATION_COUNT; i++) {
+                set.add(FIRST_MEMBER_ID + i);
+            }
+            return set;
+        });
+
+        System.out.printf("LongHashSet    : %,d bytes (%.1f MiB)%n", primitive, primitive / 1024.0 / 1024.0);
+        System.out.printf("HashSet<Long>  : %,d bytes (%.1f MiB)%n", boxed, boxed / 1024.0 / 1024.0);
+    }
+
+    private long measure(Supplier<Object> factory) {
+        long before = usedMemory();
+        Object retained = factory.get();
+        long after = usedMemory();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,132 @@
+package com.festago.benchmark;
+
+import com.festago.member.domain.Member;
+import com.festago.member.repository.MemberRepository;
+import com.festago.support.ApplicationNode;
+import com.festago.support.MemberFixture;
+import com.festago.support.TicketingTestData;
+import com.festago.ticketing.application.TicketingFacadeService;
+import com.festago.ticketing.dto.TicketingRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 예매 번호 발급 전략별로 동시 구매자 수에 따른 처리 시간과 성공/실패 수를 비교한다.
+ * <p>
+ * 전략마다 H2(MySQL 모드) DB 를 새로 만들어 애플리케이션을 띄우고, 구매자 수의 절반만큼 티켓을 판매한다. 모든 구매자는 같은 시점에 동시에 요청한다.
+ * <p>
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TicketingStrategyBenchmarkTest {
+
+    private static final List<String> STRATEGIES = List.of("pessimistic", "nowait", "optimistic", "conditional-update",
+        "in-memory", "block", "seat-pool");
+    private static final List<Integer> BUYER_COUNTS = List.of(10, 100, 1000);
+    private static final TicketingRequest REQUEST = new TicketingRequest(TicketingTestData.TICKET_ID);
+
+    @Test
+    void 예매_번호_발급_전략별_동시_구매자_수에_따른_성능_비교() {
+        System.out.printf("%-20s %8s %10s %8s %8s %10s %14s %14s%n", "strategy", "buyers", "elapsed", "success",
+            "fail", "tps", "lock-hold-avg", "lock-hold-max");
+        for (String strategy : STRATEGIES) {
+            for (int buyerCount : BUYER_COUNTS) {
+                Result result = run(strategy, buyerCount);
+                System.out.printf("%-20s %8d %8dms %8d %8d %10.1f %12.3fms %12.3fms%n", strategy, buyerCount,
+                    result.elapsedMillis(), result.success(), result.fail(),
+                    result.success() * 1000.0 / Math.max(1, result.elapsedMillis()), result.lockHoldMeanMillis(),
+                    result.lockHoldMaxMillis());
+            }
+        }
+    }
+
+    private Result run(String strategy, int buyerCount) {
+        String url = "jdbc:h2:mem:" + UUID.randomUUID()
+            + ";MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000";
+        try (ApplicationNode node = ApplicationNode.start(Map.of(
+            "spring.datasource.url", url,
+            "spring.datasource.hikari.maximum-pool-size", "20",
+            "spring.jpa.show-sql", "false",
+            "logging.level.org.hibernate.orm.jdbc.bind", "info",
+            "festago.ticketing.sequence-strategy", strategy))) {
+            TicketingTestData.insertOpenedTicket(node.getBean(JdbcTemplate.class), buyerCount / 2);
+            List<Member> members = saveMembers(node, buyerCount);
+            Result result = buy(node.getBean(TicketingFacadeService.class), members);
+            Timer lockHold = node.getBean(MeterRegistry.class).find("festago.ticketing.lock.hold")
+                .tag("outcome", "committed")
+                .timer();
+            if (lockHold == null) {
+                return result;
+            }
+            return result.withLockHold(lockHold.mean(TimeUnit.MILLISECONDS), lockHold.max(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private List<Member> saveMembers(ApplicationNode node, int count) {
+        MemberRepository memberRepository = node.getBean(MemberRepository.class);
+        return memberRepository.saveAll(IntStream.range(0, count)
+            .mapToObj(i -> MemberFixture.member().socialId("buyer-" + i).build())
+            .toList());
+    }
+
+    private Result buy(TicketingFacadeService ticketingFacadeService, List<Member> members) {
+        ExecutorService executor = Executors.newFixedThreadPool(members.size());
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger fail = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = members.stream()
+            .map(member -> CompletableFuture.runAsync(() -> {
+                await(start);
+                try {
+                    ticketingFacadeService.ticketing(member.getId(), REQUEST, null, null);
+                    success.incrementAndGet();
+                } catch (RuntimeException e) {
+                    fail.incrementAndGet();
+                }
+            }, executor))
+            .toList();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        futures.forEach(CompletableFuture::join);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        executor.shutdown();
+        return new Result(elapsedMillis, success.get(), fail.get(), 0, 0);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(
+        long elapsedMillis,
+        int success,
+        int fail,
+        double lockHoldMeanMillis,
+        double lockHoldMaxMillis) {
+
+        Result withLockHold(double lockHoldMeanMillis, double lockHoldMaxMillis) {
+            return new Result(elapsedMillis, success, fail, lockHoldMeanMillis, lockHoldMaxMillis);
+        }
+    }
+}
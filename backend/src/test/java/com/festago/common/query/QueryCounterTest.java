@@ -0,0 +1,78 @@
+package com.festago.common.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class QueryCounterTest {
+
+    @Test
+    void 시작한_구간에서_실행한_SQL_의_수와_실행_시간을_기록한다() {
+        // given
+        QueryCounter.start();
+
+        // when
+        QueryCounter.recordStatement("select * from member where id=?");
+        QueryCounter.recordExecutionTime(1_000_000);
+        QueryCounter.recordStatement("select * from stage where id=?");
+        QueryCounter.recordExecutionTime(2_000_000);
+        QueryLog queryLog = QueryCounter.finish();
+
+        // then
+        assertThat(queryLog.count()).isEqualTo(2);
+        assertThat(queryLog.executionTime().toMillis()).isEqualTo(3);
+    }
+
+    @Test
+    void 바인딩_파라미터와_IN_목록의_길이만_다른_SQL_은_같은_모양으로_센다() {
+        // given
+        QueryCounter.start();
+
+        // when
+        QueryCounter.recordStatement("select * from ticket t1_0 where t1_0.stage_id=?");
+        QueryCounter.recordStatement("select *  from ticket t1_0\n where t1_0.stage_id=?");
+        QueryCounter.recordStatement("select * from ticket_amount where ticket_id in (?, ?)");
+        QueryCounter.recordStatement("select * from ticket_amount where ticket_id in (?,?,?)");
+        QueryCounter.recordStatement("select * from member where id=?");
+        QueryLog queryLog = QueryCounter.finish();
+
+        // then
+        assertThat(queryLog.repeatedShapes(2)).isEqualTo(Map.of(
+            "select * from ticket t1_0 where t1_0.stage_id=?", 2,
+            "select * from ticket_amount where ticket_id in (?...)", 2
+        ));
+    }
+
+    @Test
+    void 겹쳐서_시작한_구간에는_안쪽_구간의_SQL_도_기록된다() {
+        // given
+        QueryCounter.start();
+        QueryCounter.recordStatement("select * from member where id=?");
+        QueryCounter.start();
+
+        // when
+        QueryCounter.recordStatement("select * from stage where id=?");
+        QueryLog inner = QueryCounter.finish();
+        QueryLog outer = QueryCounter.finish();
+
+        // then
+        assertThat(inner.count()).isEqualTo(1);
+        assertThat(outer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void 시작하지_않은_구간의_SQL_은_기록하지_않고_종료하면_예외() {
+        // given
+        QueryCounter.recordStatement("select * from member where id=?");
+
+        // when & then
+        assertThatThrownBy(QueryCounter::finish)
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
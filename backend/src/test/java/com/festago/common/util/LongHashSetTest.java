@@ -0,0 +1,87 @@
+package com.festago.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class LongHashSetTest {
+
+    @Test
+    void 추가한_값은_포함되고_추가하지_않은_값은_포함되지_않는다() {
+        // given
+        LongHashSet set = new LongHashSet();
+
+        // when
+        set.add(1L);
+        set.add(Long.MAX_VALUE);
+
+        // then
+        assertThat(set.contains(1L)).isTrue();
+        assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(set.contains(2L)).isFalse();
+        assertThat(set.contains(0L)).isFalse();
+    }
+
+    @Test
+    void 같은_값을_다시_추가하면_크기가_변하지_않는다() {
+        // given
+        LongHashSet set = new LongHashSet();
+        set.add(1L);
+
+        // when
+        boolean added = set.add(1L);
+
+        // then
+        assertThat(added).isFalse();
+        assertThat(set.size()).isOne();
+    }
+
+    @Test
+    void 적재율이_절반을_넘으면_용량을_늘려도_모든_값을_유지한다() {
+        // given
+        LongHashSet set = new LongHashSet();
+
+        // when
+        LongStream.rangeClosed(1, 10_000).forEach(set::add);
+
+        // then
+        assertThat(set.size()).isEqualTo(10_000);
+        assertThat(set.capacity()).isGreaterThanOrEqualTo(20_000);
+        assertThat(LongStream.rangeClosed(1, 10_000).allMatch(set::contains)).isTrue();
+        assertThat(set.contains(10_001L)).isFalse();
+    }
+
+    @Test
+    void 값을_삭제해도_나머지_값은_모두_찾을_수_있다() {
+        // given
+        LongHashSet set = new LongHashSet();
+        LongStream.rangeClosed(1, 10_000).forEach(set::add);
+
+        // when
+        LongStream.rangeClosed(1, 10_000)
+            .filter(value -> value % 3 == 0)
+            .forEach(set::remove);
+
+        // then
+        assertThat(set.size()).isEqualTo(10_000 - 3_333);
+        assertThat(LongStream.rangeClosed(1, 10_000)
+            .allMatch(value -> set.contains(value) == (value % 3 != 0))).isTrue();
+        assertThat(set.remove(3L)).isFalse();
+    }
+
+    @Test
+    void 양수가_아닌_값은_추가할_수_없다() {
+        // given
+        LongHashSet set = new LongHashSet();
+
+        // when & then
+        assertThatThrownBy(() -> set.add(0L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
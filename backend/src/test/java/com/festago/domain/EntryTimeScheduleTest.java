@@ -0,0 +1,69 @@
+package com.festago.domain;
+
+import static com.festago.common.exception.ErrorCode.TICKET_ENTRY_TIME_NOT_FOUND;
+import static com.festago.common.exception.ErrorCode.TICKET_SOLD_OUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.NotFoundException;
+import com.festago.ticket.domain.EntryTimeSchedule;
+import com.festago.ticket.domain.TicketEntryTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class EntryTimeScheduleTest {
+
+    private static final LocalDateTime FIRST_ENTRY_TIME = LocalDateTime.parse("2023-07-30T16:00:00");
+
+    private final EntryTimeSchedule schedule = EntryTimeSchedule.from(List.of(
+        new TicketEntryTime(FIRST_ENTRY_TIME.plusHours(2), 20),
+        new TicketEntryTime(FIRST_ENTRY_TIME, 10),
+        new TicketEntryTime(FIRST_ENTRY_TIME.plusHours(1), 20)
+    ));
+
+    @ParameterizedTest
+    @CsvSource({"1, 0", "10, 0", "11, 1", "30, 1", "31, 2", "50, 2"})
+    void 예매_번호가_속한_구간의_입장_시간을_반환한다(int reservationSequence, long plusHours) {
+        // when
+        LocalDateTime actual = schedule.findEntryTime(reservationSequence);
+
+        // then
+        assertThat(actual).isEqualTo(FIRST_ENTRY_TIME.plusHours(plusHours));
+    }
+
+    @Test
+    void 예매_번호가_총_수량을_넘으면_예외() {
+        // when & then
+        assertThatThrownBy(() -> schedule.findEntryTime(51))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(TICKET_SOLD_OUT.getMessage());
+    }
+
+    @Test
+    void 입장_시간이_없으면_매진이다() {
+        // given
+        EntryTimeSchedule empty = EntryTimeSchedule.from(List.of());
+
+        // when & then
+        assertThat(empty.getTotalAmount()).isZero();
+        assertThatThrownBy(() -> empty.findEntryTime(1))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(TICKET_SOLD_OUT.getMessage());
+    }
+
+    @Test
+    void 티켓에_없는_입장_시간이면_예외() {
+        // when & then
+        assertThatThrownBy(() -> schedule.findReservationSequence(99L, 1))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage(TICKET_ENTRY_TIME_NOT_FOUND.getMessage());
+    }
+}
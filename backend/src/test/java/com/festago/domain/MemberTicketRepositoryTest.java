@@ -1,6 +1,7 @@
 package com.festago.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import com.festago.common.domain.BaseTimeEntity;
 import com.festago.config.JpaAuditingConfig;
@@ -19,7 +20,9 @@ import com.festago.support.SchoolFixture;
 import com.festago.support.StageFixture;
 import com.festago.ticket.repository.TicketRepository;
 import com.festago.ticketing.domain.MemberTicket;
+import com.festago.ticketing.dto.MemberTicketProjection;
 import com.festago.ticketing.repository.MemberTicketRepository;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -74,7 +77,8 @@ class MemberTicketRepositoryTest {
 
             memberTicketRepository.save(MemberTicketFixture.memberTicket().stage(stage1).owner(member1).build());
             memberTicketRepository.save(MemberTicketFixture.memberTicket().stage(stage2).owner(member1).build());
-            memberTicketRepository.save(MemberTicketFixture.memberTicket().stage(stage1).owner(member2).build());
+            memberTicketRepository.save(
+                MemberTicketFixture.memberTicket().stage(stage1).owner(member2).number(2).build());
 
             // when
             List<MemberTicket> memberTickets = memberTicketRepository.findAllByOwnerId(member1.getId(),
@@ -95,7 +99,8 @@ class MemberTicketRepositoryTest {
             Stage stage = stageRepository.save(StageFixture.stage().festival(festival).build());
 
             for (int i = 0; i < 20; i++) {
-                memberTicketRepository.save(MemberTicketFixture.memberTicket().stage(stage).owner(member).build());
+                memberTicketRepository.save(
+                    MemberTicketFixture.memberTicket().stage(stage).owner(member).number(i + 1).build());
             }
 
             // when
@@ -117,7 +122,8 @@ class MemberTicketRepositoryTest {
 
             List<MemberTicket> memberTickets = new ArrayList<>();
             for (int i = 0; i < 20; i++) {
-                memberTickets.add(MemberTicketFixture.memberTicket().stage(stage).owner(member).build());
+                memberTickets.add(
+                    MemberTicketFixture.memberTicket().stage(stage).owner(member).number(i + 1).build());
             }
             memberTicketRepository.saveAll(memberTickets);
 
@@ -134,4 +140,69 @@ class MemberTicketRepositoryTest {
             assertThat(actual).isEqualTo(expected);
         }
     }
+
+    @Nested
+    class 회원의_현재_티켓_조회 {
+
+        int lastNumber = 0;
+
+        @Test
+        void 입장_가능_시간이_지난_티켓은_제외하고_입장할_수_있는_티켓부터_현재_시간과_가까운_순으로_조회() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2023, 7, 24, 12, 0);
+            Member member = memberRepository.save(MemberFixture.member().build());
+            School school = schoolRepository.save(SchoolFixture.school().build());
+            Festival festival = festivalRepository.save(FestivalFixture.festival().school(school).build());
+            Stage stage = stageRepository.save(StageFixture.stage().festival(festival).build());
+
+            MemberTicket closed = saveMemberTicket(member, stage, now.minusHours(24));
+            MemberTicket active1 = saveMemberTicket(member, stage, now.minusHours(2));
+            MemberTicket active2 = saveMemberTicket(member, stage, now);
+            MemberTicket pending1 = saveMemberTicket(member, stage, now.plusHours(3));
+            MemberTicket pending2 = saveMemberTicket(member, stage, now.plusHours(1));
+
+            // when
+            List<MemberTicketProjection> actual = memberTicketRepository.findCurrentByOwnerId(member.getId(), now,
+                MemberTicket.entryClosedTime(now), Pageable.ofSize(10));
+
+            // then
+            assertThat(actual)
+                .map(MemberTicketProjection::id)
+                .doesNotContain(closed.getId())
+                .containsExactly(active2.getId(), active1.getId(), pending2.getId(), pending1.getId());
+        }
+
+        @Test
+        void 공연과_축제_정보를_함께_조회() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2023, 7, 24, 12, 0);
+            Member member = memberRepository.save(MemberFixture.member().build());
+            School school = schoolRepository.save(SchoolFixture.school().build());
+            Festival festival = festivalRepository.save(FestivalFixture.festival().school(school).build());
+            Stage stage = stageRepository.save(StageFixture.stage().festival(festival).build());
+            saveMemberTicket(member, stage, now.plusHours(1));
+
+            // when
+            List<MemberTicketProjection> actual = memberTicketRepository.findCurrentByOwnerId(member.getId(), now,
+                MemberTicket.entryClosedTime(now), Pageable.ofSize(10));
+
+            // then
+            assertSoftly(softly -> {
+                softly.assertThat(actual).hasSize(1);
+                softly.assertThat(actual.get(0).stageId()).isEqualTo(stage.getId());
+                softly.assertThat(actual.get(0).lineUp()).isEqualTo(stage.getLineUp());
+                softly.assertThat(actual.get(0).festivalId()).isEqualTo(festival.getId());
+                softly.assertThat(actual.get(0).festivalName()).isEqualTo(festival.getName());
+            });
+        }
+
+        private MemberTicket saveMemberTicket(Member member, Stage stage, LocalDateTime entryTime) {
+            return memberTicketRepository.save(MemberTicketFixture.memberTicket()
+                .owner(member)
+                .stage(stage)
+                .number(++lastNumber)
+                .entryTime(entryTime)
+                .build());
+        }
+    }
 }
@@ -0,0 +1,152 @@
+package com.festago.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.festago.common.query.QueryCounter;
+import com.festago.common.query.QueryLog;
+import com.festago.config.QueryCountConfig;
+import com.festago.student.domain.VerificationCode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 모든 Spring Data 리포지토리의 쿼리 메서드를 실행해서 만들어진 SQL 의 실행 계획을 확인합니다. 데이터가 많이 쌓이는 테이블을 인덱스 없이 전체 탐색하면
+ * 실패합니다. 새 쿼리 메서드의 인자 타입을 만들 수 없으면 createArgument 에 추가해야 합니다.
+ */
+@Import(QueryCountConfig.class)
+@DataJpaTest
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class RepositoryQueryPlanTest {
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan");
+    private static final Set<String> LARGE_TABLES = Set.of(
+        "MEMBER", "MEMBER_FCM", "MEMBER_TICKET", "STAGE", "STUDENT", "STUDENT_CODE", "TICKET", "TICKET_AMOUNT",
+        "TICKET_ENTRY_TIME", "LOTTERY_APPLICATION", "TICKET_SEAT", "WAITLIST_ENTRY", "RESERVE_SEQUENCE_LEASE"
+    );
+    private static final Map<String, String> ALLOWED_SCANS = Map.of(
+        "ReleasedSequenceRepository.findPromotableTicketIds",
+        "반환된 번호가 남은 티켓을 모두 찾는 스케줄러 쿼리입니다. 반환된 번호는 발급되면 지워지므로 테이블이 작게 유지됩니다."
+    );
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 쿼리_메서드는_큰_테이블을_전체_탐색하지_않는다() {
+        // given
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> violations = new ArrayList<>();
+
+        // when
+        for (Class<?> domainType : repositories) {
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            for (Method method : information.getQueryMethods()) {
+                String name = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                if (ALLOWED_SCANS.containsKey(name)) {
+                    continue;
+                }
+                for (String sql : captureSql(repository, method)) {
+                    findLargeTableScans(sql).forEach(table -> violations.add(name + " -> " + table + " : " + sql));
+                }
+            }
+        }
+
+        // then
+        assertThat(violations).isEmpty();
+    }
+
+    private List<String> captureSql(Object repository, Method method) {
+        Object[] arguments = new Object[method.getParameterCount()];
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = createArgument(parameterTypes[i]);
+        }
+        QueryCounter.start();
+        QueryLog queryLog;
+        try {
+            ReflectionUtils.invokeMethod(method, repository, arguments);
+        } finally {
+            queryLog = QueryCounter.finish();
+        }
+        return queryLog.statements();
+    }
+
+    private Object createArgument(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == String.class) {
+            return "festago";
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2023, 7, 24, 3, 21, 31);
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 10);
+        }
+        if (type == VerificationCode.class) {
+            return new VerificationCode("123456");
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type.isAnnotationPresent(Entity.class)) {
+            return entityManager.getReference(type, 1L);
+        }
+        throw new IllegalArgumentException("쿼리 메서드의 인자를 만들 수 없습니다. type=" + type.getName());
+    }
+
+    /**
+     * 실행 계획은 준비 시점에 정해지므로 파라미터에는 아무 값이나 넣어도 됩니다.
+     */
+    private List<String> findLargeTableScans(String sql) {
+        List<String> plans = jdbcTemplate.query("EXPLAIN " + sql, preparedStatement -> {
+            int parameterCount = preparedStatement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                preparedStatement.setObject(i, null);
+            }
+        }, (rs, rowNum) -> rs.getString(1));
+        List<String> tables = new ArrayList<>();
+        for (String plan : plans) {
+            Matcher matcher = TABLE_SCAN.matcher(plan);
+            while (matcher.find()) {
+                if (LARGE_TABLES.contains(matcher.group(1))) {
+                    tables.add(matcher.group(1));
+                }
+            }
+        }
+        return tables;
+    }
+}
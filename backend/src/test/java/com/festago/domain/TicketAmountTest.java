@@ -1,7 +1,9 @@
 package com.festago.domain;
 
 import static com.festago.common.exception.ErrorCode.TICKET_SOLD_OUT;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import com.festago.common.exception.BadRequestException;
 import com.festago.ticket.domain.TicketAmount;
@@ -28,4 +30,36 @@ class TicketAmountTest {
             .isInstanceOf(BadRequestException.class)
             .hasMessage(TICKET_SOLD_OUT.getMessage());
     }
+
+    @Test
+    void 남은_수량이_요청한_블록보다_적으면_남은_수량만큼만_할당한다() {
+        // given
+        TicketAmount ticketAmount = new TicketAmount();
+        ticketAmount.addTotalAmount(15);
+
+        // when
+        int first = ticketAmount.allocateReservedAmount(10);
+        int second = ticketAmount.allocateReservedAmount(10);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(first).isEqualTo(10);
+            softly.assertThat(second).isEqualTo(5);
+            softly.assertThat(ticketAmount.getReservedAmount()).isEqualTo(15);
+        });
+    }
+
+    @Test
+    void 매진된_티켓은_블록을_할당할_수_없다() {
+        // given
+        TicketAmount ticketAmount = new TicketAmount();
+        ticketAmount.addTotalAmount(10);
+        ticketAmount.allocateReservedAmount(10);
+
+        // when & then
+        assertThatThrownBy(() -> ticketAmount.allocateReservedAmount(10))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(TICKET_SOLD_OUT.getMessage());
+        assertThat(ticketAmount.calculateRemainAmount()).isZero();
+    }
 }
@@ -1,6 +1,7 @@
 package com.festago.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import com.festago.festival.domain.Festival;
 import com.festago.festival.repository.FestivalRepository;
@@ -15,7 +16,10 @@ import com.festago.support.TicketFixture;
 import com.festago.ticket.domain.Ticket;
 import com.festago.ticket.domain.TicketType;
 import com.festago.ticket.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
@@ -39,6 +43,9 @@ class TicketRepositoryTest {
     @Autowired
     SchoolRepository schoolRepository;
 
+    @Autowired
+    EntityManager entityManager;
+
     @Test
     void 공연의_ID로_티켓을_모두_조회() {
         // given
@@ -52,9 +59,35 @@ class TicketRepositoryTest {
         ticketRepository.save(TicketFixture.ticket().stage(otherStage).build());
 
         // when
-        List<Ticket> actual = ticketRepository.findAllByStageId(stage.getId());
+        List<Ticket> actual = ticketRepository.findAllDetailByStageId(stage.getId());
 
         // then
         assertThat(actual).hasSize(2);
     }
+
+    @Test
+    void 공연의_티켓을_조회할_때_수량과_입장_시간을_함께_조회한다() {
+        // given
+        School school = schoolRepository.save(SchoolFixture.school().build());
+        Festival festival = festivalRepository.save(FestivalFixture.festival().school(school).build());
+        Stage stage = stageRepository.save(StageFixture.stage().festival(festival).build());
+        Ticket ticket = ticketRepository.save(TicketFixture.ticket().stage(stage).build());
+        LocalDateTime now = stage.getTicketOpenTime().minusDays(1);
+        ticket.addTicketEntryTime(now, stage.getStartTime().minusHours(2), 100);
+        ticket.addTicketEntryTime(now, stage.getStartTime().minusHours(1), 100);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Ticket> actual = ticketRepository.findAllDetailByStageId(stage.getId());
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(actual).hasSize(1);
+            Ticket actualTicket = actual.get(0);
+            softly.assertThat(Hibernate.isInitialized(actualTicket.getTicketAmount())).isTrue();
+            softly.assertThat(Hibernate.isInitialized(actualTicket.getTicketEntryTimes())).isTrue();
+            softly.assertThat(actualTicket.getTicketEntryTimes()).hasSize(2);
+        });
+    }
 }
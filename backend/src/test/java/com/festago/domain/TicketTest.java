@@ -4,6 +4,10 @@ import static com.festago.common.exception.ErrorCode.EARLY_TICKET_ENTRY_THAN_OPE
 import static com.festago.common.exception.ErrorCode.EARLY_TICKET_ENTRY_TIME;
 import static com.festago.common.exception.ErrorCode.INVALID_TICKET_CREATE_TIME;
 import static com.festago.common.exception.ErrorCode.LATE_TICKET_ENTRY_TIME;
+import static com.festago.common.exception.ErrorCode.LOTTERY_ALREADY_DRAWN;
+import static com.festago.common.exception.ErrorCode.LOTTERY_APPLICATION_CLOSED;
+import static com.festago.common.exception.ErrorCode.LOTTERY_DRAW_NOT_STARTED;
+import static com.festago.common.exception.ErrorCode.NOT_LOTTERY_TICKET;
 import static com.festago.common.exception.ErrorCode.TICKET_CANNOT_RESERVE_STAGE_START;
 import static com.festago.common.exception.ErrorCode.TICKET_SOLD_OUT;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,6 +23,7 @@ import com.festago.support.MemberFixture;
 import com.festago.support.StageFixture;
 import com.festago.support.TicketFixture;
 import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.domain.TicketSaleType;
 import com.festago.ticketing.domain.MemberTicket;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -221,4 +226,77 @@ class TicketTest {
             assertThat(memberTicket.getOwner()).isEqualTo(member);
         }
     }
+
+    @Nested
+    class 추첨_검증 {
+
+        @Test
+        void 티켓_오픈_이후에는_판매_방식을_바꿀_수_없다() {
+            // given
+            Ticket ticket = TicketFixture.ticket()
+                .build();
+            LocalDateTime ticketOpenTime = ticket.getStage().getTicketOpenTime();
+
+            // when & then
+            assertThatThrownBy(() -> ticket.changeSaleType(ticketOpenTime, TicketSaleType.LOTTERY))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(INVALID_TICKET_CREATE_TIME.getMessage());
+        }
+
+        @Test
+        void 추첨_티켓이_아니면_응모할_수_없다() {
+            // given
+            Ticket ticket = TicketFixture.ticket()
+                .build();
+            LocalDateTime ticketOpenTime = ticket.getStage().getTicketOpenTime();
+
+            // when & then
+            assertThatThrownBy(() -> ticket.validateLotteryApplication(ticketOpenTime.minusMinutes(1)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(NOT_LOTTERY_TICKET.getMessage());
+        }
+
+        @Test
+        void 티켓_오픈_이후에는_응모할_수_없다() {
+            // given
+            Ticket ticket = TicketFixture.ticket()
+                .build();
+            LocalDateTime ticketOpenTime = ticket.getStage().getTicketOpenTime();
+            ticket.changeSaleType(ticketOpenTime.minusDays(1), TicketSaleType.LOTTERY);
+
+            // when & then
+            assertThatThrownBy(() -> ticket.validateLotteryApplication(ticketOpenTime))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(LOTTERY_APPLICATION_CLOSED.getMessage());
+        }
+
+        @Test
+        void 티켓_오픈_이전에는_추첨할_수_없다() {
+            // given
+            Ticket ticket = TicketFixture.ticket()
+                .build();
+            LocalDateTime ticketOpenTime = ticket.getStage().getTicketOpenTime();
+            ticket.changeSaleType(ticketOpenTime.minusDays(1), TicketSaleType.LOTTERY);
+
+            // when & then
+            assertThatThrownBy(() -> ticket.draw(ticketOpenTime.minusMinutes(1)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(LOTTERY_DRAW_NOT_STARTED.getMessage());
+        }
+
+        @Test
+        void 이미_추첨했으면_예외() {
+            // given
+            Ticket ticket = TicketFixture.ticket()
+                .build();
+            LocalDateTime ticketOpenTime = ticket.getStage().getTicketOpenTime();
+            ticket.changeSaleType(ticketOpenTime.minusDays(1), TicketSaleType.LOTTERY);
+            ticket.draw(ticketOpenTime);
+
+            // when & then
+            assertThatThrownBy(() -> ticket.draw(ticketOpenTime.plusMinutes(1)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(LOTTERY_ALREADY_DRAWN.getMessage());
+        }
+    }
 }
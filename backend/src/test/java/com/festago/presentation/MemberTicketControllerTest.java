@@ -4,39 +4,62 @@ import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.ServiceUnavailableException;
 import com.festago.entry.application.EntryService;
 import com.festago.entry.dto.EntryCodeResponse;
 import com.festago.stage.dto.StageResponse;
 import com.festago.support.CustomWebMvcTest;
 import com.festago.support.WithMockAuth;
+import com.festago.ticketing.application.AsyncTicketingService;
+import com.festago.ticketing.application.LotteryService;
 import com.festago.ticketing.application.MemberTicketService;
-import com.festago.ticketing.application.TicketingService;
+import com.festago.ticketing.application.TicketingFacadeService;
+import com.festago.ticketing.application.WaitingRoomService;
+import com.festago.ticketing.application.WaitlistService;
 import com.festago.ticketing.domain.EntryState;
+import com.festago.ticketing.domain.TicketingReservationStatus;
+import com.festago.ticketing.dto.LotteryApplicationRequest;
+import com.festago.ticketing.dto.LotteryApplicationResponse;
 import com.festago.ticketing.dto.MemberTicketFestivalResponse;
 import com.festago.ticketing.dto.MemberTicketResponse;
+import com.festago.ticketing.dto.MemberTicketPageResponse;
 import com.festago.ticketing.dto.MemberTicketsResponse;
 import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingReservationResponse;
 import com.festago.ticketing.dto.TicketingResponse;
+import com.festago.ticketing.dto.WaitingRoomEnterRequest;
+import com.festago.ticketing.dto.WaitingRoomResponse;
+import com.festago.ticketing.dto.WaitlistRequest;
+import com.festago.ticketing.dto.WaitlistResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.LongStream;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @CustomWebMvcTest(MemberTicketController.class)
 @DisplayNameGeneration(ReplaceUnderscores.class)
@@ -56,7 +79,19 @@ class MemberTicketControllerTest {
     MemberTicketService memberTicketService;
 
     @MockBean
-    TicketingService ticketingService;
+    TicketingFacadeService ticketingFacadeService;
+
+    @MockBean
+    WaitingRoomService waitingRoomService;
+
+    @MockBean
+    AsyncTicketingService asyncTicketingService;
+
+    @MockBean
+    LotteryService lotteryService;
+
+    @MockBean
+    WaitlistService waitlistService;
 
     @Test
     @WithMockAuth
@@ -124,17 +159,19 @@ class MemberTicketControllerTest {
         StageResponse stageResponse = new StageResponse(1L, 1L, LocalDateTime.now(), LocalDateTime.now(), "푸우회장");
         MemberTicketFestivalResponse festivalResponse = new MemberTicketFestivalResponse(1L, "테코대학교",
             "https://image.png");
-        MemberTicketsResponse expected = LongStream.range(0, 10L)
+        MemberTicketPageResponse expected = LongStream.range(0, 10L)
             .mapToObj(
                 it -> new MemberTicketResponse(it, 1, LocalDateTime.now(), EntryState.BEFORE_ENTRY, LocalDateTime.now(),
                     stageResponse, festivalResponse))
-            .collect(collectingAndThen(toList(), MemberTicketsResponse::new));
+            .collect(collectingAndThen(toList(), memberTickets -> new MemberTicketPageResponse(memberTickets, "cursor")));
 
-        given(memberTicketService.findAll(eq(memberId), any(Pageable.class)))
+        given(memberTicketService.findAll(memberId, "previous", 10))
             .willReturn(expected);
 
         // when & then
         String content = mockMvc.perform(get("/member-tickets")
+                .param("cursor", "previous")
+                .param("size", "10")
                 .contentType(MediaType.APPLICATION_JSON)
                 .header("Authorization", "Bearer " + token))
             .andExpect(status().isOk())
@@ -142,10 +179,26 @@ class MemberTicketControllerTest {
             .andReturn()
             .getResponse()
             .getContentAsString(StandardCharsets.UTF_8);
-        MemberTicketsResponse actual = objectMapper.readValue(content, MemberTicketsResponse.class);
+        MemberTicketPageResponse actual = objectMapper.readValue(content, MemberTicketPageResponse.class);
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    @WithMockAuth
+    void 첫_페이지가_아닌_page로_티켓을_조회하면_400() throws Exception {
+        // given
+        String token = "sampleToken";
+
+        // when & then
+        mockMvc.perform(get("/member-tickets")
+                .param("page", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isBadRequest())
+            .andDo(print());
+        verify(memberTicketService, never()).findAll(anyLong(), any(), anyInt());
+    }
+
     @Test
     @WithMockAuth
     void 현재_티켓_리스트를_조회한다() throws Exception {
@@ -162,7 +215,7 @@ class MemberTicketControllerTest {
                     stageResponse, festivalResponse))
             .collect(collectingAndThen(toList(), MemberTicketsResponse::new));
 
-        given(memberTicketService.findCurrent(eq(memberId), any(Pageable.class)))
+        given(memberTicketService.findCurrent(memberId, 100))
             .willReturn(expected);
 
         // when & then
@@ -191,7 +244,7 @@ class MemberTicketControllerTest {
         TicketingResponse expected = new TicketingResponse(memberTicketId, ticketNumber, ticketEntryTime);
         TicketingRequest request = new TicketingRequest(ticketId);
 
-        given(ticketingService.ticketing(anyLong(), any()))
+        given(ticketingFacadeService.ticketing(anyLong(), any(), any(), any()))
             .willReturn(expected);
 
         // when & then
@@ -207,4 +260,199 @@ class MemberTicketControllerTest {
         TicketingResponse actual = objectMapper.readValue(content, TicketingResponse.class);
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    @WithMockAuth
+    void 락을_얻지_못해_거절된_예매는_503과_Retry_After를_반환한다() throws Exception {
+        // given
+        String token = "sampleToken";
+        TicketingRequest request = new TicketingRequest(1L);
+
+        given(ticketingFacadeService.ticketing(anyLong(), any(), any(), any()))
+            .willThrow(new ServiceUnavailableException(ErrorCode.TICKETING_LOCK_UNAVAILABLE, 3));
+
+        // when & then
+        mockMvc.perform(post("/member-tickets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "3"))
+            .andDo(print());
+    }
+
+    @Test
+    @WithMockAuth
+    void 비동기_예매가_활성화되어_있으면_예매_요청을_접수하고_202를_반환한다() throws Exception {
+        // given
+        String token = "sampleToken";
+        String handle = "handle";
+        TicketingRequest request = new TicketingRequest(1L);
+        TicketingReservationResponse expected = new TicketingReservationResponse(handle,
+            TicketingReservationStatus.PENDING, null, null);
+
+        given(asyncTicketingService.isEnabled())
+            .willReturn(true);
+        given(asyncTicketingService.enqueue(anyLong(), any(), any(), any()))
+            .willReturn(expected);
+
+        // when & then
+        String content = mockMvc.perform(post("/member-tickets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/member-tickets/reservations/" + handle))
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+        TicketingReservationResponse actual = objectMapper.readValue(content, TicketingReservationResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @WithMockAuth
+    void 예매_요청의_처리_결과를_조회한다() throws Exception {
+        // given
+        String token = "sampleToken";
+        String handle = "handle";
+        TicketingResponse ticketingResponse = new TicketingResponse(1L, 1, LocalDateTime.now());
+        TicketingReservationResponse expected = new TicketingReservationResponse(handle,
+            TicketingReservationStatus.COMPLETED, ticketingResponse, null);
+
+        given(asyncTicketingService.find(anyLong(), eq(handle), eq(1000L)))
+            .willReturn(CompletableFuture.completedFuture(expected));
+
+        // when & then
+        MvcResult asyncResult = mockMvc.perform(get("/member-tickets/reservations/{handle}", handle)
+                .param("waitMillis", "1000")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String content = mockMvc.perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+        TicketingReservationResponse actual = objectMapper.readValue(content, TicketingReservationResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @WithMockAuth
+    void 예매_대기열에_진입한다() throws Exception {
+        // given
+        String token = "sampleToken";
+        WaitingRoomEnterRequest request = new WaitingRoomEnterRequest(1L);
+        WaitingRoomResponse expected = new WaitingRoomResponse("waitingToken", 10L, 5L, 1L, false);
+
+        given(waitingRoomService.enter(anyLong(), eq(1L)))
+            .willReturn(expected);
+
+        // when & then
+        String content = mockMvc.perform(post("/member-tickets/waiting-room")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+        WaitingRoomResponse actual = objectMapper.readValue(content, WaitingRoomResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @WithMockAuth
+    void 예매_대기_순번을_조회한다() throws Exception {
+        // given
+        String token = "sampleToken";
+        String waitingToken = "waitingToken";
+        WaitingRoomResponse expected = new WaitingRoomResponse(waitingToken, 10L, 0L, 0L, true);
+
+        given(waitingRoomService.findPosition(anyLong(), eq(waitingToken)))
+            .willReturn(expected);
+
+        // when & then
+        String content = mockMvc.perform(get("/member-tickets/waiting-room")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .header("Waiting-Token", waitingToken))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+        WaitingRoomResponse actual = objectMapper.readValue(content, WaitingRoomResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @WithMockAuth
+    void 추첨_티켓에_응모한다() throws Exception {
+        // given
+        String token = "sampleToken";
+        LotteryApplicationRequest request = new LotteryApplicationRequest(1L);
+        LotteryApplicationResponse expected = new LotteryApplicationResponse(1L, 1L);
+
+        given(lotteryService.apply(anyLong(), eq(1L)))
+            .willReturn(expected);
+
+        // when & then
+        String content = mockMvc.perform(post("/member-tickets/lottery-applications")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+        LotteryApplicationResponse actual = objectMapper.readValue(content, LotteryApplicationResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @WithMockAuth
+    void 티켓_예매를_취소한다() throws Exception {
+        // given
+        Long memberTicketId = 1L;
+        String token = "sampleToken";
+
+        // when & then
+        mockMvc.perform(delete("/member-tickets/{memberTicketId}", memberTicketId)
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andDo(print());
+        verify(memberTicketService).cancel(anyLong(), eq(memberTicketId));
+    }
+
+    @Test
+    @WithMockAuth
+    void 매진된_티켓에_대기_신청한다() throws Exception {
+        // given
+        String token = "sampleToken";
+        WaitlistRequest request = new WaitlistRequest(1L);
+        WaitlistResponse expected = new WaitlistResponse(1L, 1L, 3L);
+
+        given(waitlistService.join(anyLong(), eq(1L)))
+            .willReturn(expected);
+
+        // when & then
+        String content = mockMvc.perform(post("/member-tickets/waitlist")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+        WaitlistResponse actual = objectMapper.readValue(content, WaitlistResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
 }
@@ -48,8 +48,8 @@ class StageControllerTest {
         // given
         StageTicketsResponse expected = new StageTicketsResponse(
             List.of(
-                new StageTicketResponse(1L, TicketType.STUDENT, 100, 60),
-                new StageTicketResponse(2L, TicketType.VISITOR, 50, 30)
+                new StageTicketResponse(1L, TicketType.STUDENT, 100, 60, List.of()),
+                new StageTicketResponse(2L, TicketType.VISITOR, 50, 30, List.of())
             ));
 
         given(ticketService.findStageTickets(anyLong()))
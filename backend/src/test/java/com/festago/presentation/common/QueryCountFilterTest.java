@@ -0,0 +1,71 @@
+package com.festago.presentation.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class QueryCountFilterTest {
+
+    QueryCountFilter queryCountFilter = new QueryCountFilter(new MockEnvironment(), 30, 5);
+
+    @Test
+    void 본문을_쓰기_전에_헤더를_추가하고_본문은_모아두지_않는다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/member-tickets");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = (req, res) -> {
+            res.getWriter().write("first");
+            res.flushBuffer();
+            assertThat(response.getContentAsString()).isEqualTo("first");
+        };
+
+        // when
+        queryCountFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(response.isCommitted()).isTrue();
+            softly.assertThat(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isEqualTo("0");
+            softly.assertThat(response.getHeader(QueryCountFilter.QUERY_TIME_HEADER)).isEqualTo("0");
+        });
+    }
+
+    @Test
+    void 비동기로_처리되는_요청은_헤더를_추가하지_않는다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/member-tickets");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = (req, res) -> req.startAsync();
+
+        // when
+        queryCountFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isNull();
+    }
+
+    @Test
+    void 운영_환경에서는_헤더를_추가하지_않는다() throws Exception {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+        QueryCountFilter prodFilter = new QueryCountFilter(environment, 30, 5);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        prodFilter.doFilter(new MockHttpServletRequest(), response, (req, res) -> res.getWriter().write("body"));
+
+        // then
+        assertThat(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isNull();
+    }
+}
@@ -0,0 +1,62 @@
+package com.festago.support;
+
+import com.festago.FestaGoApplication;
+import java.util.Map;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+/**
+ * 하나의 DB 를 공유하는 여러 애플리케이션 노드를 테스트에서 띄우기 위한 지원 클래스입니다.
+ */
+public class ApplicationNode implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private ApplicationNode(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static ApplicationNode start(Map<String, String> properties) {
+        String[] args = properties.entrySet().stream()
+            .map(property -> "--" + property.getKey() + "=" + property.getValue())
+            .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FestaGoApplication.class)
+            .web(WebApplicationType.NONE)
+            .initializers(applicationContext -> applicationContext.getBeanFactory()
+                .registerSingleton(TestComponentExcludeFilter.class.getName(), new TestComponentExcludeFilter()))
+            .run(args);
+        return new ApplicationNode(context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static class TestComponentExcludeFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getAnnotationMetadata().isAnnotated(TestComponent.class.getName());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null && getClass() == obj.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
@@ -17,6 +17,7 @@ public class DatabaseClearExtension implements TestInstancePreConstructCallback,
     private static final Namespace CLEANER = Namespace.create("festago.database.cleaner");
     private static final Set<String> TABLES = new HashSet<>();
     private static final String JDBC_TEMPLATE = "jdbcTemplate";
+    private static final String ID_GENERATOR_TABLE = "id_generator";
 
     @Override
     public void preConstructTestInstance(TestInstanceFactoryContext factoryContext, ExtensionContext context)
@@ -32,7 +33,9 @@ public class DatabaseClearExtension implements TestInstancePreConstructCallback,
         if (TABLES.isEmpty()) {
             JdbcTemplate jdbcTemplate = context.getStore(CLEANER).get(JDBC_TEMPLATE, JdbcTemplate.class);
             List<String> tables = jdbcTemplate.query("SHOW TABLES", (rs, rowNum) -> rs.getString(1));
-            TABLES.addAll(tables);
+            tables.stream()
+                .filter(table -> !table.equalsIgnoreCase(ID_GENERATOR_TABLE))
+                .forEach(TABLES::add);
         }
     }
 
@@ -0,0 +1,35 @@
+package com.festago.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.festago.common.query.QueryCounter;
+import com.festago.common.query.QueryLog;
+import java.util.function.Supplier;
+
+/**
+ * 통합 테스트에서 서비스 호출 하나가 실행하는 SQL 수의 상한을 검증합니다. 호출마다 새 구간을 시작하고 끝내므로 앞선 호출이나 다른 테스트의 SQL 은 세지 않습니다.
+ */
+public class QueryCounts {
+
+    public <T> T callWithMaxQueryCount(int maxQueryCount, Supplier<T> call) {
+        QueryCounter.start();
+        T result;
+        QueryLog queryLog;
+        try {
+            result = call.get();
+        } finally {
+            queryLog = QueryCounter.finish();
+        }
+        assertThat(queryLog.statements())
+            .as("실행한 SQL 이 %d 개를 넘었습니다.", maxQueryCount)
+            .hasSizeLessThanOrEqualTo(maxQueryCount);
+        return result;
+    }
+
+    public void runWithMaxQueryCount(int maxQueryCount, Runnable run) {
+        callWithMaxQueryCount(maxQueryCount, () -> {
+            run.run();
+            return null;
+        });
+    }
+}
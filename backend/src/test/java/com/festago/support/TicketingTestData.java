@@ -0,0 +1,33 @@
+package com.festago.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 예매가 가능한 상태의 티켓(id 1)을 JDBC 로 직접 넣습니다. 공연은 먼 미래에 시작하고 티켓은 이미 오픈되어 있습니다.
+ */
+public class TicketingTestData {
+
+    public static final long TICKET_ID = 1L;
+
+    private TicketingTestData() {
+    }
+
+    public static void insertOpenedTicket(JdbcTemplate jdbcTemplate, int totalAmount) {
+        jdbcTemplate.update("insert into school (id, domain, name) values (1, 'festago.com', '페스타고 대학교')");
+        jdbcTemplate.update("""
+            insert into festival (id, school_id, end_date, name, start_date, thumbnail)
+            values (1, 1, '2999-12-31', '테코 대학교', '2999-12-30', '')
+            """);
+        jdbcTemplate.update("""
+            insert into stage (id, festival_id, line_up, start_time, ticket_open_time)
+            values (1, 1, '', '2999-12-31T18:00:00', '2000-01-01T18:00:00')
+            """);
+        jdbcTemplate.update("insert into ticket (id, school_id, stage_id, ticket_type) values (1, 1, 1, 'VISITOR')");
+        jdbcTemplate.update("insert into ticket_amount (ticket_id, reserved_amount, total_amount) values (1, 0, ?)",
+            totalAmount);
+        jdbcTemplate.update("""
+            insert into ticket_entry_time (id, amount, entry_time, ticket_id)
+            values (1, ?, '2999-12-31T17:00:00', 1)
+            """, totalAmount);
+    }
+}
@@ -0,0 +1,101 @@
+package com.festago.ticket.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.festago.stage.domain.Stage;
+import com.festago.stage.dto.event.StageChangedEvent;
+import com.festago.support.StageFixture;
+import com.festago.support.TicketFixture;
+import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.domain.TicketSnapshot;
+import com.festago.ticket.dto.event.TicketAmountChangedEvent;
+import com.festago.ticket.repository.TicketRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TicketSnapshotCacheTest {
+
+    TicketRepository ticketRepository = mock(TicketRepository.class);
+    TicketSnapshotCache ticketSnapshotCache = new TicketSnapshotCache(ticketRepository, Clock.systemDefaultZone(),
+        60, 100);
+
+    private void givenTicket(LocalDateTime ticketOpenTime) {
+        Stage stage = StageFixture.stage()
+            .id(1L)
+            .startTime(ticketOpenTime.plusDays(1))
+            .ticketOpenTime(ticketOpenTime)
+            .build();
+        Ticket ticket = TicketFixture.ticket().id(1L).stage(stage).build();
+        given(ticketRepository.findByIdWithStage(anyLong()))
+            .willReturn(Optional.of(ticket));
+        given(ticketRepository.findTicketEntryTimesByTicketId(anyLong()))
+            .willReturn(List.of());
+    }
+
+    @Test
+    void 오픈된_티켓은_한_번만_조회하고_캐시한다() {
+        // given
+        givenTicket(LocalDateTime.now().minusHours(1));
+
+        // when
+        TicketSnapshot first = ticketSnapshotCache.get(1L);
+        TicketSnapshot second = ticketSnapshotCache.get(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(ticketRepository, times(1)).findByIdWithStage(1L);
+    }
+
+    @Test
+    void 오픈되지_않은_티켓은_캐시하지_않는다() {
+        // given
+        givenTicket(LocalDateTime.now().plusHours(1));
+
+        // when
+        ticketSnapshotCache.get(1L);
+        ticketSnapshotCache.get(1L);
+
+        // then
+        verify(ticketRepository, times(2)).findByIdWithStage(1L);
+    }
+
+    @Test
+    void 티켓_수량이_변경되면_캐시를_무효화한다() {
+        // given
+        givenTicket(LocalDateTime.now().minusHours(1));
+        ticketSnapshotCache.get(1L);
+
+        // when
+        ticketSnapshotCache.evict(new TicketAmountChangedEvent(1L));
+        ticketSnapshotCache.get(1L);
+
+        // then
+        verify(ticketRepository, times(2)).findByIdWithStage(1L);
+    }
+
+    @Test
+    void 공연이_변경되면_해당_공연의_티켓_캐시를_무효화한다() {
+        // given
+        givenTicket(LocalDateTime.now().minusHours(1));
+        ticketSnapshotCache.get(1L);
+
+        // when
+        ticketSnapshotCache.evict(new StageChangedEvent(1L));
+        ticketSnapshotCache.get(1L);
+
+        // then
+        verify(ticketRepository, times(2)).findByIdWithStage(1L);
+    }
+}
@@ -0,0 +1,68 @@
+package com.festago.ticketing.application;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.festago.member.repository.MemberRepository;
+import com.festago.sharding.infrastructure.SingleShardRouter;
+import com.festago.student.repository.StudentRepository;
+import com.festago.ticket.repository.TicketAmountRepository;
+import com.festago.ticket.repository.TicketRepository;
+import com.festago.ticketing.dto.LotteryDrawResult;
+import com.festago.ticketing.repository.LotteryApplicationRepository;
+import com.festago.ticketing.repository.MemberTicketRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Clock;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class LotteryServiceTest {
+
+    TicketRepository ticketRepository = mock(TicketRepository.class);
+    TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    LotteryService lotteryService;
+
+    @BeforeEach
+    void setUp() {
+        lotteryService = new LotteryService(
+            ticketRepository,
+            mock(TicketAmountRepository.class),
+            mock(LotteryApplicationRepository.class),
+            mock(MemberTicketRepository.class),
+            mock(MemberRepository.class),
+            mock(StudentRepository.class),
+            mock(EntityManager.class),
+            transactionTemplate,
+            mock(ApplicationEventPublisher.class),
+            Clock.systemDefaultZone(),
+            new SingleShardRouter(),
+            500
+        );
+    }
+
+    @Test
+    void 한_티켓의_추첨이_DB_오류로_실패해도_다음_티켓을_추첨한다() {
+        // given
+        given(ticketRepository.findUndrawnLotteryTicketIds(any()))
+            .willReturn(List.of(1L, 2L));
+        given(transactionTemplate.execute(any()))
+            .willThrow(new DataIntegrityViolationException("duplicate"))
+            .willReturn(new LotteryDrawResult(2L, 10, 5));
+
+        // when & then
+        assertThatNoException().isThrownBy(() -> lotteryService.drawOpenedTickets());
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+}
@@ -0,0 +1,74 @@
+package com.festago.ticketing.application;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.sharding.infrastructure.SingleShardRouter;
+import com.festago.ticket.dto.event.TicketAmountChangedEvent;
+import com.festago.ticketing.dto.event.TicketSoldOutEvent;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class SoldOutRegistryTest {
+
+    ReserveSequenceProvider reserveSequenceProvider = mock(ReserveSequenceProvider.class);
+    SoldOutRegistry soldOutRegistry = new SoldOutRegistry(reserveSequenceProvider, new SingleShardRouter(), true);
+
+    @Test
+    void 매진된_티켓이면_예외() {
+        // given
+        soldOutRegistry.markSoldOut(new TicketSoldOutEvent(1L));
+
+        // when & then
+        assertThatThrownBy(() -> soldOutRegistry.validateNotSoldOut(1L))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.TICKET_SOLD_OUT.getMessage());
+    }
+
+    @Test
+    void 비활성화되어_있으면_매진으로_표시하지_않는다() {
+        // given
+        SoldOutRegistry disabledRegistry = new SoldOutRegistry(reserveSequenceProvider, new SingleShardRouter(),
+            false);
+        disabledRegistry.markSoldOut(1L);
+
+        // when & then
+        assertThatNoException().isThrownBy(() -> disabledRegistry.validateNotSoldOut(1L));
+    }
+
+    @Test
+    void 예매_수량이_변경되면_매진이_해제된다() {
+        // given
+        soldOutRegistry.markSoldOut(1L);
+
+        // when
+        soldOutRegistry.clear(new TicketAmountChangedEvent(1L));
+
+        // then
+        assertThatNoException().isThrownBy(() -> soldOutRegistry.validateNotSoldOut(1L));
+    }
+
+    @Test
+    void 동기화하면_예매_번호를_발급하는_전략의_매진_상태를_따른다() {
+        // given
+        soldOutRegistry.markSoldOut(1L);
+        given(reserveSequenceProvider.findSoldOutTicketIds())
+            .willReturn(List.of(2L));
+
+        // when
+        soldOutRegistry.sync();
+
+        // then
+        assertThatNoException().isThrownBy(() -> soldOutRegistry.validateNotSoldOut(1L));
+        assertThatThrownBy(() -> soldOutRegistry.validateNotSoldOut(2L))
+            .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.festago.ticketing.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.TooManyRequestException;
+import com.festago.ticketing.dto.TicketingRequest;
+import com.festago.ticketing.dto.TicketingResponse;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TicketingFacadeServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final TicketingRequest REQUEST = new TicketingRequest(1L);
+    private static final TicketingResponse RESPONSE = new TicketingResponse(1L, 1, LocalDateTime.now());
+
+    TicketingService ticketingService = mock(TicketingService.class);
+    SoldOutRegistry soldOutRegistry = mock(SoldOutRegistry.class);
+    TicketingFacadeService ticketingFacadeService;
+
+    @BeforeEach
+    void setUp() {
+        ticketingFacadeService = new TicketingFacadeService(
+            mock(WaitingRoomService.class),
+            ticketingService,
+            mock(TicketingIdempotencyStore.class),
+            new TicketingRetryPolicy(MAX_ATTEMPTS, 0, 0),
+            soldOutRegistry
+        );
+    }
+
+    @Test
+    void 낙관적_락_충돌이_발생하면_예매를_재시도한다() {
+        // given
+        given(ticketingService.ticketing(anyLong(), any()))
+            .willThrow(conflict())
+            .willThrow(conflict())
+            .willReturn(RESPONSE);
+
+        // when
+        TicketingResponse actual = ticketingFacadeService.ticketing(1L, REQUEST, null, null);
+
+        // then
+        assertThat(actual).isEqualTo(RESPONSE);
+        verify(ticketingService, times(3)).ticketing(1L, REQUEST);
+    }
+
+    @Test
+    void 재시도_횟수를_모두_쓰면_예외() {
+        // given
+        given(ticketingService.ticketing(anyLong(), any()))
+            .willThrow(conflict());
+
+        // when & then
+        assertThatThrownBy(() -> ticketingFacadeService.ticketing(1L, REQUEST, null, null))
+            .isInstanceOf(TooManyRequestException.class)
+            .hasMessage(ErrorCode.TICKETING_CONFLICT.getMessage());
+        verify(ticketingService, times(MAX_ATTEMPTS)).ticketing(1L, REQUEST);
+    }
+
+    @Test
+    void 매진으로_표시된_티켓이면_예매를_시도하지_않고_예외() {
+        // given
+        willThrow(new BadRequestException(ErrorCode.TICKET_SOLD_OUT))
+            .given(soldOutRegistry).validateNotSoldOut(1L);
+
+        // when & then
+        assertThatThrownBy(() -> ticketingFacadeService.ticketing(1L, REQUEST, null, null))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.TICKET_SOLD_OUT.getMessage());
+        verify(ticketingService, never()).ticketing(anyLong(), any());
+    }
+
+    @Test
+    void 매진_예외가_발생하면_매진으로_표시한다() {
+        // given
+        given(ticketingService.ticketing(anyLong(), any()))
+            .willThrow(new BadRequestException(ErrorCode.TICKET_SOLD_OUT));
+
+        // when & then
+        assertThatThrownBy(() -> ticketingFacadeService.ticketing(1L, REQUEST, null, null))
+            .isInstanceOf(BadRequestException.class);
+        verify(soldOutRegistry).markSoldOut(1L);
+    }
+
+    @Test
+    void 선택한_입장_시간만_매진되면_매진으로_표시하지_않는다() {
+        // given
+        given(ticketingService.ticketing(anyLong(), any()))
+            .willThrow(new BadRequestException(ErrorCode.TICKET_ENTRY_TIME_SOLD_OUT));
+
+        // when & then
+        assertThatThrownBy(() -> ticketingFacadeService.ticketing(1L, REQUEST, null, null))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.TICKET_ENTRY_TIME_SOLD_OUT.getMessage());
+        verify(soldOutRegistry, never()).markSoldOut(anyLong());
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("TicketAmount", 1L);
+    }
+}
@@ -0,0 +1,101 @@
+package com.festago.ticketing.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TicketingLockContentionTest {
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TicketingLockTimer ticketingLockTimer = mock(TicketingLockTimer.class);
+    Clock clock = mock(Clock.class);
+    TicketingLockContention ticketingLockContention;
+
+    @BeforeEach
+    void setUp() {
+        given(clock.millis())
+            .willReturn(10_000L);
+        ticketingLockContention = new TicketingLockContention(ticketingLockTimer, meterRegistry, clock, 10);
+    }
+
+    @Test
+    void 락_점유_기록이_없으면_최소_1초를_기다리게_한다() {
+        // given
+        given(ticketingLockTimer.meanHoldMillis())
+            .willReturn(0.0);
+
+        // when
+        long retryAfterSeconds = ticketingLockContention.reject();
+
+        // then
+        assertThat(retryAfterSeconds).isEqualTo(1);
+    }
+
+    @Test
+    void 최근_거절_수와_평균_락_점유_시간으로_대기_시간을_계산한다() {
+        // given
+        given(ticketingLockTimer.meanHoldMillis())
+            .willReturn(100.0);
+        IntStream.range(0, 24).forEach(i -> ticketingLockContention.reject());
+
+        // when
+        long retryAfterSeconds = ticketingLockContention.reject();
+
+        // then
+        assertThat(retryAfterSeconds).isEqualTo(3);
+    }
+
+    @Test
+    void 대기_시간은_최대값을_넘지_않는다() {
+        // given
+        given(ticketingLockTimer.meanHoldMillis())
+            .willReturn(1000.0);
+        IntStream.range(0, 99).forEach(i -> ticketingLockContention.reject());
+
+        // when
+        long retryAfterSeconds = ticketingLockContention.reject();
+
+        // then
+        assertThat(retryAfterSeconds).isEqualTo(10);
+    }
+
+    @Test
+    void 집계_구간이_지나면_거절_수를_다시_센다() {
+        // given
+        given(ticketingLockTimer.meanHoldMillis())
+            .willReturn(100.0);
+        IntStream.range(0, 50).forEach(i -> ticketingLockContention.reject());
+        given(clock.millis())
+            .willReturn(11_000L);
+
+        // when
+        long retryAfterSeconds = ticketingLockContention.reject();
+
+        // then
+        assertThat(retryAfterSeconds).isEqualTo(1);
+    }
+
+    @Test
+    void 거절할_때마다_지표를_기록한다() {
+        // given
+        given(ticketingLockTimer.meanHoldMillis())
+            .willReturn(0.0);
+
+        // when
+        IntStream.range(0, 3).forEach(i -> ticketingLockContention.reject());
+
+        // then
+        assertThat(meterRegistry.find("festago.ticketing.lock.rejected").counter().count()).isEqualTo(3);
+    }
+}
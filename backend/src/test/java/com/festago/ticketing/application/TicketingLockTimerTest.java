@@ -0,0 +1,56 @@
+package com.festago.ticketing.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TicketingLockTimerTest {
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TicketingLockTimer ticketingLockTimer = new TicketingLockTimer(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 트랜잭션이_끝나면_락을_쥐고_있던_시간을_기록한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        ticketingLockTimer.startHolding(TicketingLockTimer.SINGLE);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        Timer timer = meterRegistry.find("festago.ticketing.lock.hold")
+            .tag("flow", TicketingLockTimer.SINGLE)
+            .tag("outcome", "committed")
+            .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_기록하지_않는다() {
+        // when
+        ticketingLockTimer.startHolding(TicketingLockTimer.SINGLE);
+
+        // then
+        assertThat(meterRegistry.find("festago.ticketing.lock.hold").timer()).isNull();
+    }
+}
@@ -0,0 +1,118 @@
+package com.festago.ticketing.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TicketingPipelineTest {
+
+    ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 큐가_가득_차면_요청을_받지_않는다() throws InterruptedException {
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        TicketingPipeline pipeline = new TicketingPipeline(1, 1, executor, batch -> await(blocked));
+        pipeline.offer(reservation(1L));
+        waitUntilDrained(pipeline);
+        pipeline.offer(reservation(2L));
+
+        // when
+        boolean actual = pipeline.offer(reservation(3L));
+
+        // then
+        assertThat(actual).isFalse();
+        blocked.countDown();
+    }
+
+    @Test
+    void 요청을_배치_크기만큼_묶어서_한_번에_하나의_작업자만_처리한다() throws InterruptedException {
+        // given
+        int requestCount = 1000;
+        int batchSize = 50;
+        AtomicInteger concurrentWorkers = new AtomicInteger();
+        AtomicInteger maxConcurrentWorkers = new AtomicInteger();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch processed = new CountDownLatch(requestCount);
+        TicketingPipeline pipeline = new TicketingPipeline(requestCount, batchSize, executor, batch -> {
+            maxConcurrentWorkers.accumulateAndGet(concurrentWorkers.incrementAndGet(), Math::max);
+            batchSizes.add(batch.size());
+            batch.forEach(reservation -> processed.countDown());
+            concurrentWorkers.decrementAndGet();
+        });
+
+        // when
+        for (long i = 0; i < requestCount; i++) {
+            pipeline.offer(reservation(i));
+        }
+        processed.await(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(processed.getCount()).isZero();
+        assertThat(maxConcurrentWorkers.get()).isEqualTo(1);
+        assertThat(batchSizes).allMatch(size -> size <= batchSize);
+    }
+
+    @Test
+    void 처리_중인_요청이_있으면_유휴_상태가_아니고_모두_처리하면_유휴_상태이다() throws InterruptedException {
+        // given
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        TicketingPipeline pipeline = new TicketingPipeline(1, 1, executor, batch -> {
+            started.countDown();
+            await(blocked);
+        });
+        pipeline.offer(reservation(1L));
+        started.await(10, TimeUnit.SECONDS);
+
+        // when
+        boolean idleWhileProcessing = pipeline.isIdle();
+        blocked.countDown();
+        waitUntilIdle(pipeline);
+
+        // then
+        assertThat(idleWhileProcessing).isFalse();
+        assertThat(pipeline.isIdle()).isTrue();
+    }
+
+    private TicketingReservation reservation(Long memberId) {
+        return new TicketingReservation("handle-" + memberId, memberId, 1L, null, Long.MAX_VALUE);
+    }
+
+    private void waitUntilDrained(TicketingPipeline pipeline) throws InterruptedException {
+        while (pipeline.size() > 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void waitUntilIdle(TicketingPipeline pipeline) throws InterruptedException {
+        while (!pipeline.isIdle()) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -5,17 +5,24 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.festago.common.exception.BadRequestException;
 import com.festago.member.domain.Member;
 import com.festago.member.repository.MemberRepository;
+import com.festago.sharding.application.ShardRouter;
+import com.festago.sharding.infrastructure.SingleShardRouter;
 import com.festago.stage.domain.Stage;
+import com.festago.stage.repository.StageRepository;
 import com.festago.student.repository.StudentRepository;
 import com.festago.support.MemberFixture;
+import com.festago.support.StageFixture;
 import com.festago.support.TicketFixture;
+import com.festago.ticket.application.TicketSnapshotCache;
+import com.festago.ticket.domain.Ticket;
+import com.festago.ticket.domain.TicketSnapshot;
 import com.festago.ticket.domain.TicketType;
-import com.festago.ticket.repository.TicketAmountRepository;
-import com.festago.ticket.repository.TicketRepository;
 import com.festago.ticketing.dto.TicketingRequest;
 import com.festago.ticketing.repository.MemberTicketRepository;
 import java.time.Clock;
@@ -28,6 +35,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(ReplaceUnderscores.class)
@@ -38,10 +47,19 @@ class TicketingServiceTest {
     MemberTicketRepository memberTicketRepository;
 
     @Mock
-    TicketAmountRepository ticketAmountRepository;
+    ReserveSequenceProvider reserveSequenceProvider;
 
     @Mock
-    TicketRepository ticketRepository;
+    EntryTimeSequenceProvider entryTimeSequenceProvider;
+
+    @Mock
+    ReservationChecker reservationChecker;
+
+    @Mock
+    TicketSnapshotCache ticketSnapshotCache;
+
+    @Mock
+    StageRepository stageRepository;
 
     @Mock
     MemberRepository memberRepository;
@@ -52,6 +70,18 @@ class TicketingServiceTest {
     @Spy
     Clock clock = Clock.systemDefaultZone();
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    TicketingLockTimer ticketingLockTimer;
+
+    @Spy
+    ShardRouter shardRouter = new SingleShardRouter();
+
     @InjectMocks
     TicketingService ticketingService;
 
@@ -59,13 +89,16 @@ class TicketingServiceTest {
     void 재학생용_티켓인데_학생인증이_되지_않았으면_예외() {
         // given
         TicketingRequest request = new TicketingRequest(1L);
+        Stage stage = StageFixture.stage().id(1L).build();
+        Ticket ticket = TicketFixture.ticket().id(1L).stage(stage).ticketType(TicketType.STUDENT).build();
+        given(ticketSnapshotCache.get(anyLong()))
+            .willReturn(TicketSnapshot.of(ticket, ticket.getEntryTimeSchedule()));
+        given(stageRepository.getReferenceById(anyLong()))
+            .willReturn(stage);
         given(memberRepository.findById(anyLong()))
             .willReturn(Optional.of(MemberFixture.member().build()));
-        given(memberTicketRepository.existsByOwnerAndStage(any(Member.class), any(Stage.class)))
+        given(reservationChecker.isReserved(any(Member.class), any(Stage.class)))
             .willReturn(false);
-
-        given(ticketRepository.findByIdWithFetch(anyLong()))
-            .willReturn(Optional.of(TicketFixture.ticket().ticketType(TicketType.STUDENT).build()));
         given(studentRepository.existsByMemberAndSchoolId(any(Member.class), anyLong()))
             .willReturn(false);
 
@@ -73,5 +106,7 @@ class TicketingServiceTest {
         assertThatThrownBy(() -> ticketingService.ticketing(1L, request))
             .isInstanceOf(BadRequestException.class)
             .hasMessage(NEED_STUDENT_VERIFICATION.getMessage());
+        verify(transactionTemplate, never()).execute(any());
+        verify(reserveSequenceProvider, never()).provide(anyLong());
     }
 }
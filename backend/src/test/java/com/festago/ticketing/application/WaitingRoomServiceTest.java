@@ -0,0 +1,176 @@
+package com.festago.ticketing.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.common.exception.TooManyRequestException;
+import com.festago.sharding.infrastructure.SingleShardRouter;
+import com.festago.ticket.repository.TicketRepository;
+import com.festago.ticketing.dto.WaitingRoomResponse;
+import com.festago.ticketing.dto.event.TicketSoldOutEvent;
+import com.festago.ticketing.infrastructure.JwtWaitingTokenExtractor;
+import com.festago.ticketing.infrastructure.JwtWaitingTokenProvider;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class WaitingRoomServiceTest {
+
+    private static final String SECRET_KEY = "festagofestagofestagofestagofestagofestagofestagofestagofestago";
+    private static final int ADMIT_PER_SECOND = 10;
+
+    AtomicLong currentTimeMillis = new AtomicLong(System.currentTimeMillis());
+    WaitingRoomService waitingRoomService;
+
+    @BeforeEach
+    void setUp() {
+        TicketRepository ticketRepository = mock(TicketRepository.class);
+        given(ticketRepository.existsById(anyLong()))
+            .willReturn(true);
+        Clock clock = mock(Clock.class);
+        given(clock.millis())
+            .willAnswer(invocation -> currentTimeMillis.get());
+        waitingRoomService = new WaitingRoomService(
+            new JwtWaitingTokenProvider(SECRET_KEY),
+            new JwtWaitingTokenExtractor(SECRET_KEY),
+            ticketRepository,
+            new SingleShardRouter(),
+            clock,
+            true,
+            ADMIT_PER_SECOND
+        );
+    }
+
+    @Test
+    void 대기열에_진입하면_대기순번과_예상_대기시간을_알려준다() {
+        // given
+        for (long memberId = 1; memberId < 25; memberId++) {
+            waitingRoomService.enter(memberId, 1L);
+        }
+
+        // when
+        WaitingRoomResponse response = waitingRoomService.enter(25L, 1L);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(response.waitingNumber()).isEqualTo(25);
+            softly.assertThat(response.position()).isEqualTo(25);
+            softly.assertThat(response.estimatedWaitSeconds()).isEqualTo(3);
+            softly.assertThat(response.admitted()).isFalse();
+        });
+    }
+
+    @Test
+    void 입장_순서가_되지_않았으면_예외() {
+        // given
+        String token = waitingRoomService.enter(1L, 1L).token();
+
+        // when & then
+        assertThatThrownBy(() -> waitingRoomService.validateAdmission(1L, 1L, token))
+            .isInstanceOf(TooManyRequestException.class)
+            .hasMessage(ErrorCode.NOT_ADMITTED_YET.getMessage());
+    }
+
+    @Test
+    void 입장_순서가_되면_예매할_수_있다() {
+        // given
+        String token = waitingRoomService.enter(1L, 1L).token();
+
+        // when
+        waitingRoomService.admit();
+
+        // then
+        assertThatNoException()
+            .isThrownBy(() -> waitingRoomService.validateAdmission(1L, 1L, token));
+    }
+
+    @Test
+    void 다른_회원의_토큰이면_예외() {
+        // given
+        String token = waitingRoomService.enter(1L, 1L).token();
+        waitingRoomService.admit();
+
+        // when & then
+        assertThatThrownBy(() -> waitingRoomService.validateAdmission(2L, 1L, token))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.INVALID_WAITING_TOKEN.getMessage());
+    }
+
+    @Test
+    void 다른_티켓의_토큰이면_예외() {
+        // given
+        String token = waitingRoomService.enter(1L, 1L).token();
+        waitingRoomService.admit();
+
+        // when & then
+        assertThatThrownBy(() -> waitingRoomService.validateAdmission(1L, 2L, token))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.INVALID_WAITING_TOKEN.getMessage());
+    }
+
+    @Test
+    void 토큰이_없으면_예외() {
+        // when & then
+        assertThatThrownBy(() -> waitingRoomService.validateAdmission(1L, 1L, null))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.NEED_WAITING_TOKEN.getMessage());
+    }
+
+    @Test
+    void 매진된_티켓의_대기열은_닫힌다() {
+        // given
+        String token = waitingRoomService.enter(1L, 1L).token();
+        waitingRoomService.admit();
+
+        // when
+        waitingRoomService.close(new TicketSoldOutEvent(1L));
+
+        // then
+        assertThatThrownBy(() -> waitingRoomService.validateAdmission(1L, 1L, token))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.WAITING_ROOM_CLOSED.getMessage());
+    }
+
+    @Test
+    void 토큰이_모두_만료된_대기열은_지워진다() {
+        // given
+        String token = waitingRoomService.enter(1L, 1L).token();
+        currentTimeMillis.addAndGet(TimeUnit.HOURS.toMillis(1) + 1);
+
+        // when
+        waitingRoomService.evictExpired();
+
+        // then
+        assertThatThrownBy(() -> waitingRoomService.findPosition(1L, token))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.WAITING_ROOM_CLOSED.getMessage());
+    }
+
+    @Test
+    void 토큰이_남은_회원이_있는_대기열은_지우지_않는다() {
+        // given
+        waitingRoomService.enter(1L, 1L);
+        currentTimeMillis.addAndGet(TimeUnit.MINUTES.toMillis(30));
+        String token = waitingRoomService.enter(2L, 1L).token();
+        currentTimeMillis.addAndGet(TimeUnit.MINUTES.toMillis(40));
+
+        // when
+        waitingRoomService.evictExpired();
+
+        // then
+        assertThat(waitingRoomService.findPosition(2L, token).waitingNumber()).isEqualTo(2);
+    }
+}
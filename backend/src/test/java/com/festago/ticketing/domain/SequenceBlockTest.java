@@ -0,0 +1,101 @@
+package com.festago.ticketing.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.Set;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class SequenceBlockTest {
+
+    @Test
+    void 블록의_번호를_순서대로_발급하고_모두_쓰면_소진된다() {
+        // given
+        SequenceBlock block = new SequenceBlock(1L, 11, 12, Set.of(), 0, Long.MAX_VALUE, 0);
+
+        // when
+        int first = block.next(0);
+        int second = block.next(0);
+        int third = block.next(0);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(first).isEqualTo(11);
+            softly.assertThat(second).isEqualTo(12);
+            softly.assertThat(third).isEqualTo(SequenceBlock.EXHAUSTED);
+            softly.assertThat(block.isExhausted()).isTrue();
+        });
+    }
+
+    @Test
+    void 회수한_블록에서_이미_사용된_번호는_건너뛴다() {
+        // given
+        SequenceBlock block = new SequenceBlock(1L, 1, 4, Set.of(1, 3), 0, Long.MAX_VALUE, 0);
+
+        // when
+        int first = block.next(0);
+        int second = block.next(0);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(4);
+    }
+
+    @Test
+    void 블록을_닫으면_발급되지_않은_첫_번호를_반환하고_더_이상_발급하지_않는다() {
+        // given
+        SequenceBlock block = new SequenceBlock(1L, 1, 10, Set.of(), 0, Long.MAX_VALUE, 0);
+        block.next(0);
+
+        // when
+        int nextSequence = block.seal();
+
+        // then
+        assertThat(nextSequence).isEqualTo(2);
+        assertThat(block.next(0)).isEqualTo(SequenceBlock.EXHAUSTED);
+    }
+
+    @Test
+    void 마지막_사용_이후_유휴_시간이_지나면_유휴_상태이다() {
+        // given
+        SequenceBlock block = new SequenceBlock(1L, 1, 10, Set.of(), 0, Long.MAX_VALUE, 0);
+        block.next(1_000);
+
+        // when & then
+        assertThat(block.isIdle(1_999, 1_000)).isFalse();
+        assertThat(block.isIdle(2_000, 1_000)).isTrue();
+    }
+
+    @Test
+    void 임대_만료까지_남은_시간이_여유_시간보다_짧으면_발급하지_않는다() {
+        // given
+        SequenceBlock block = new SequenceBlock(1L, 1, 10, Set.of(), 0, 10_000, 1_000);
+
+        // when
+        int beforeMargin = block.next(8_999);
+        int withinMargin = block.next(9_000);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(beforeMargin).isEqualTo(1);
+            softly.assertThat(withinMargin).isEqualTo(SequenceBlock.EXHAUSTED);
+            softly.assertThat(block.isExhausted()).isFalse();
+        });
+    }
+
+    @Test
+    void 임대를_연장하면_다시_발급한다() {
+        // given
+        SequenceBlock block = new SequenceBlock(1L, 1, 10, Set.of(), 0, 10_000, 1_000);
+
+        // when
+        block.extend(20_000);
+
+        // then
+        assertThat(block.next(9_000)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,83 @@
+package com.festago.ticketing.domain;
+
+import static com.festago.common.exception.ErrorCode.TICKET_SOLD_OUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.festago.common.exception.BadRequestException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class TicketInventoryTest {
+
+    @Test
+    void 재고가_남아있으면_다음_순번을_발급한다() {
+        // given
+        TicketInventory inventory = new TicketInventory(3, 5);
+
+        // when
+        int sequence = inventory.reserve();
+
+        // then
+        assertThat(sequence).isEqualTo(4);
+    }
+
+    @Test
+    void 재고를_모두_소진하면_매진() {
+        // given
+        TicketInventory inventory = new TicketInventory(5, 5);
+
+        // when & then
+        assertThatThrownBy(inventory::reserve)
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(TICKET_SOLD_OUT.getMessage());
+    }
+
+    @Test
+    void 총_수량이_늘어나면_다시_발급할_수_있다() {
+        // given
+        TicketInventory inventory = new TicketInventory(5, 5);
+
+        // when
+        inventory.changeTotalAmount(6);
+
+        // then
+        assertThat(inventory.reserve()).isEqualTo(6);
+    }
+
+    @Test
+    void 동시에_1000명이_예매해도_총_수량을_넘지_않는다() {
+        // given
+        int totalAmount = 50;
+        int tryCount = 1000;
+        TicketInventory inventory = new TicketInventory(0, totalAmount);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // when
+        List<CompletableFuture<Integer>> futures = IntStream.range(0, tryCount)
+            .mapToObj(i -> CompletableFuture.supplyAsync(inventory::reserve, executor)
+                .exceptionally(e -> null))
+            .toList();
+        List<Integer> sequences = futures.stream()
+            .map(CompletableFuture::join)
+            .filter(Objects::nonNull)
+            .toList();
+        executor.shutdown();
+
+        // then
+        assertThat(sequences)
+            .hasSize(totalAmount)
+            .doesNotHaveDuplicates()
+            .allMatch(sequence -> 1 <= sequence && sequence <= totalAmount);
+        assertThat(inventory.getReservedAmount()).isEqualTo(totalAmount);
+    }
+}
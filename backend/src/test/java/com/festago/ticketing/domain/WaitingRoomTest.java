@@ -0,0 +1,113 @@
+package com.festago.ticketing.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class WaitingRoomTest {
+
+    @Test
+    void 진입한_순서대로_대기번호를_발급한다() {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom();
+
+        // when
+        long first = waitingRoom.enter(1L, 0L);
+        long second = waitingRoom.enter(2L, 0L);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(first).isEqualTo(1);
+            softly.assertThat(second).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void 같은_회원이_다시_진입하면_기존_대기번호를_돌려준다() {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom();
+        long waitingNumber = waitingRoom.enter(1L, 0L);
+        waitingRoom.enter(2L, 0L);
+
+        // when
+        long actual = waitingRoom.enter(1L, 0L);
+
+        // then
+        assertThat(actual).isEqualTo(waitingNumber);
+    }
+
+    @Test
+    void 입장시킨_인원만큼_대기순번이_줄어든다() {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom();
+        for (long memberId = 1; memberId <= 10; memberId++) {
+            waitingRoom.enter(memberId, 0L);
+        }
+
+        // when
+        waitingRoom.admit(3);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(waitingRoom.isAdmitted(3)).isTrue();
+            softly.assertThat(waitingRoom.isAdmitted(4)).isFalse();
+            softly.assertThat(waitingRoom.calculatePosition(10)).isEqualTo(7);
+            softly.assertThat(waitingRoom.calculatePosition(2)).isZero();
+        });
+    }
+
+    @Test
+    void 대기_인원보다_많이_입장시켜도_대기중인_인원까지만_입장한다() {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom();
+        waitingRoom.enter(1L, 0L);
+        waitingRoom.enter(2L, 0L);
+
+        // when
+        waitingRoom.admit(100);
+        long lateWaitingNumber = waitingRoom.enter(3L, 0L);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(waitingRoom.isAdmitted(lateWaitingNumber)).isFalse();
+            softly.assertThat(waitingRoom.hasWaiting()).isTrue();
+        });
+    }
+
+    @Test
+    void 기준_시각_전에_마지막으로_진입한_회원을_지우면_다시_진입할_때_새_대기번호를_받는다() {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom();
+        waitingRoom.enter(1L, 0L);
+        waitingRoom.enter(2L, 10L);
+        waitingRoom.enter(1L, 20L);
+        waitingRoom.evictEnteredBefore(15L);
+
+        // when
+        long reentered = waitingRoom.enter(2L, 30L);
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(reentered).isEqualTo(3);
+            softly.assertThat(waitingRoom.enter(1L, 30L)).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void 모든_회원을_지우면_빈_대기열이다() {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom();
+        waitingRoom.enter(1L, 0L);
+
+        // when
+        waitingRoom.evictEnteredBefore(1L);
+
+        // then
+        assertThat(waitingRoom.isEmpty()).isTrue();
+    }
+}
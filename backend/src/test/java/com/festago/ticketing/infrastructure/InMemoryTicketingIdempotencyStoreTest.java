@@ -0,0 +1,162 @@
+package com.festago.ticketing.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.festago.common.exception.BadRequestException;
+import com.festago.common.exception.ErrorCode;
+import com.festago.ticketing.domain.IdempotencyKey;
+import com.festago.ticketing.dto.TicketingResponse;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class InMemoryTicketingIdempotencyStoreTest {
+
+    private static final long TTL_SECONDS = 60;
+    private static final IdempotencyKey KEY = new IdempotencyKey(1L, "key");
+    private static final TicketingResponse RESPONSE = new TicketingResponse(1L, 1, LocalDateTime.now());
+
+    AtomicLong currentTimeMillis = new AtomicLong();
+    AtomicInteger ticketingCount = new AtomicInteger();
+    InMemoryTicketingIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = mock(Clock.class);
+        given(clock.millis())
+            .willAnswer(invocation -> currentTimeMillis.get());
+        store = new InMemoryTicketingIdempotencyStore(clock, TTL_SECONDS, 100, 5_000);
+    }
+
+    private TicketingResponse ticketing() {
+        ticketingCount.incrementAndGet();
+        return RESPONSE;
+    }
+
+    @Test
+    void 같은_키로_다시_요청하면_예매를_다시_수행하지_않고_처음_응답을_반환한다() {
+        // given
+        store.execute(KEY, 1L, this::ticketing);
+
+        // when
+        TicketingResponse actual = store.execute(KEY, 1L, this::ticketing);
+
+        // then
+        assertThat(actual).isEqualTo(RESPONSE);
+        assertThat(ticketingCount).hasValue(1);
+    }
+
+    @Test
+    void 처리중인_같은_키의_요청은_처음_요청의_결과를_기다린다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        CompletableFuture<TicketingResponse> first = CompletableFuture.supplyAsync(
+            () -> store.execute(KEY, 1L, () -> {
+                started.countDown();
+                await(finish);
+                return ticketing();
+            }), executor);
+        started.await();
+
+        // when
+        List<CompletableFuture<TicketingResponse>> duplicates = IntStream.range(0, 9)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> store.execute(KEY, 1L, this::ticketing), executor))
+            .toList();
+        finish.countDown();
+
+        // then
+        assertThat(first.join()).isEqualTo(RESPONSE);
+        assertThat(duplicates).allSatisfy(duplicate -> assertThat(duplicate.join()).isEqualTo(RESPONSE));
+        assertThat(ticketingCount).hasValue(1);
+        executor.shutdown();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void 실패한_요청은_저장하지_않아_같은_키로_다시_시도할_수_있다() {
+        // given
+        assertThatThrownBy(() -> store.execute(KEY, 1L, () -> {
+            throw new BadRequestException(ErrorCode.TICKET_SOLD_OUT);
+        })).isInstanceOf(BadRequestException.class);
+
+        // when
+        TicketingResponse actual = store.execute(KEY, 1L, this::ticketing);
+
+        // then
+        assertThat(actual).isEqualTo(RESPONSE);
+        assertThat(ticketingCount).hasValue(1);
+    }
+
+    @Test
+    void 같은_키를_다른_티켓_예매에_사용하면_예외() {
+        // given
+        store.execute(KEY, 1L, this::ticketing);
+
+        // when & then
+        assertThatThrownBy(() -> store.execute(KEY, 2L, this::ticketing))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+    }
+
+    @Test
+    void 보관_기간이_지난_키는_새로운_요청으로_처리한다() {
+        // given
+        store.execute(KEY, 1L, this::ticketing);
+        currentTimeMillis.addAndGet(TTL_SECONDS * 1000);
+
+        // when
+        store.execute(KEY, 1L, this::ticketing);
+
+        // then
+        assertThat(ticketingCount).hasValue(2);
+    }
+
+    @Test
+    void 보관_용량을_넘으면_가장_오래_사용되지_않은_키부터_밀려난다() {
+        // given
+        Clock clock = mock(Clock.class);
+        given(clock.millis())
+            .willAnswer(invocation -> currentTimeMillis.get());
+        InMemoryTicketingIdempotencyStore boundedStore = new InMemoryTicketingIdempotencyStore(clock, TTL_SECONDS, 2,
+            5_000);
+        IdempotencyKey first = new IdempotencyKey(1L, "first");
+        IdempotencyKey second = new IdempotencyKey(1L, "second");
+        IdempotencyKey third = new IdempotencyKey(1L, "third");
+        boundedStore.execute(first, 1L, this::ticketing);
+        boundedStore.execute(second, 1L, this::ticketing);
+        boundedStore.execute(first, 1L, this::ticketing);
+        boundedStore.execute(third, 1L, this::ticketing);
+
+        // when
+        boundedStore.execute(first, 1L, this::ticketing);
+        boundedStore.execute(second, 1L, this::ticketing);
+
+        // then
+        assertThat(ticketingCount).hasValue(4);
+    }
+}
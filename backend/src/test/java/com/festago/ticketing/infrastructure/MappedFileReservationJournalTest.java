@@ -0,0 +1,136 @@
+package com.festago.ticketing.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.festago.ticketing.domain.ReservationJournalEntry;
+import com.festago.ticketing.domain.ReservationJournalEntryType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayNameGeneration(ReplaceUnderscores.class)
+@SuppressWarnings("NonAsciiCharacters")
+class MappedFileReservationJournalTest {
+
+    private static final int RECORD_SIZE = ReservationJournalSegment.RECORD_SIZE;
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.parse("2023-07-30T00:21:31.964676");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 기록한_예매를_다시_열어도_순서대로_읽는다() throws IOException {
+        // given
+        MappedFileReservationJournal journal = new MappedFileReservationJournal(directory.toString(),
+            RECORD_SIZE * 10);
+        List<ReservationJournalEntry> entries = List.of(issued(1), issued(2), aborted(2));
+        journal.append(entries);
+        journal.close();
+
+        // when
+        MappedFileReservationJournal reopened = new MappedFileReservationJournal(directory.toString(),
+            RECORD_SIZE * 10);
+        reopened.append(List.of(issued(3)));
+
+        // then
+        assertThat(reopened.readAll()).containsExactly(issued(1), issued(2), aborted(2), issued(3));
+    }
+
+    @Test
+    void 세그먼트가_가득_차면_다음_세그먼트에_이어서_기록한다() throws IOException {
+        // given
+        MappedFileReservationJournal journal = new MappedFileReservationJournal(directory.toString(),
+            RECORD_SIZE * 2);
+
+        // when
+        IntStream.rangeClosed(1, 5).forEach(sequence -> journal.append(List.of(issued(sequence))));
+
+        // then
+        assertThat(countSegments()).isEqualTo(3);
+        assertThat(journal.readAll()).containsExactly(issued(1), issued(2), issued(3), issued(4), issued(5));
+    }
+
+    @Test
+    void 일부만_쓰인_마지막_기록은_무시하고_그_자리부터_이어서_기록한다() throws IOException {
+        // given
+        MappedFileReservationJournal journal = new MappedFileReservationJournal(directory.toString(),
+            RECORD_SIZE * 10);
+        journal.append(List.of(issued(1), issued(2)));
+        journal.close();
+        corruptRecord(1);
+
+        // when
+        MappedFileReservationJournal reopened = new MappedFileReservationJournal(directory.toString(),
+            RECORD_SIZE * 10);
+        reopened.append(List.of(issued(3)));
+
+        // then
+        assertThat(reopened.readAll()).containsExactly(issued(1), issued(3));
+    }
+
+    @Test
+    void 현재_세그먼트를_제외한_세그먼트를_삭제한다() throws IOException {
+        // given
+        MappedFileReservationJournal journal = new MappedFileReservationJournal(directory.toString(),
+            RECORD_SIZE * 2);
+        IntStream.rangeClosed(1, 5).forEach(sequence -> journal.append(List.of(issued(sequence))));
+
+        // when
+        journal.deleteSealedSegments();
+
+        // then
+        assertThat(countSegments()).isEqualTo(1);
+        assertThat(journal.readAll()).containsExactly(issued(5));
+    }
+
+    @Test
+    void 기록한_위치를_반환하고_그_위치까지_반영을_기다린다() throws IOException {
+        // given
+        MappedFileReservationJournal journal = new MappedFileReservationJournal(directory.toString(),
+            RECORD_SIZE * 10);
+
+        // when
+        long first = journal.append(List.of(issued(1), issued(2)));
+        long second = journal.append(List.of(issued(3)));
+        journal.awaitFlushed(second);
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(3);
+        assertThat(journal.readAll()).containsExactly(issued(1), issued(2), issued(3));
+    }
+
+    private ReservationJournalEntry issued(int sequence) {
+        return new ReservationJournalEntry(ReservationJournalEntryType.ISSUED, 1L, sequence, 100L + sequence,
+            ENTRY_TIME);
+    }
+
+    private ReservationJournalEntry aborted(int sequence) {
+        return new ReservationJournalEntry(ReservationJournalEntryType.ABORTED, 1L, sequence, 100L + sequence,
+            ENTRY_TIME);
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.count();
+        }
+    }
+
+    private void corruptRecord(int index) throws IOException {
+        try (Stream<Path> paths = Files.list(directory);
+             FileChannel channel = FileChannel.open(paths.findFirst().orElseThrow(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), (long) index * RECORD_SIZE + 10);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- pooled optimizer 는 next_val 을 할당 블록의 상한으로 사용하므로, 1001 이하의 id 는 생성되지 않고 테스트 데이터가 직접 넣는 id 로 남는다.
+insert into id_generator (sequence_name, next_val) values ('member_ticket', 1051);
+insert into id_generator (sequence_name, next_val) values ('ticket', 1051);
+insert into id_generator (sequence_name, next_val) values ('ticket_entry_time', 1051);